@@ -1,16 +1,61 @@
 package com.esports.app;
 
+import com.esports.bench.AllocationDiagnostics;
 import com.esports.io.FileIO;
+import com.esports.io.MatchJournal;
+import com.esports.io.ReportWriter;
+import com.esports.io.StandardReportFormat;
+import com.esports.logic.GameContributionBoard;
+import com.esports.logic.LazySeason;
+import com.esports.logic.LeaderboardExporter;
 import com.esports.logic.MatchManagement;
+import com.esports.logic.PackedSeason;
 import com.esports.logic.PointsBoard;
 import com.esports.logic.Query;
+import com.esports.logic.SeasonPipeline;
+import com.esports.logic.SeasonReloader;
+import com.esports.logic.WhatIfEngine;
 import com.esports.model.Game;
 import com.esports.model.Gamer;
+import com.esports.model.GamerTable;
 import com.esports.model.Match;
+import com.esports.model.ScoringRules;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Main application class for the E-Sports Tournament Challenge.
  * Orchestrates the loading, simulation, and reporting steps.
+ * Optional arguments:
+ *   --export &lt;path&gt; [text|csv|json|binary]
+ *                                        also writes the full leaderboard to a file
+ *   --journal &lt;path&gt; [per-record|per-batch|periodic]
+ *                                        journals every stored match; an existing journal
+ *                                        is replayed first, so a crashed season resumes
+ *   --watch                              keeps running and rescores incrementally when
+ *                                        games.csv or gamers.csv change on disk
+ *   --pipeline [workers]                 streams gamers.csv through a load → simulate →
+ *                                        aggregate pipeline and prints per-stage metrics
+ *   --diagnostics                        prints bytes allocated per phase and estimated
+ *                                        sizes of the main structures after the run
+ *   --rules &lt;path&gt;                       scores with the league rules in a properties file
+ *                                        (see ScoringRules and src/resources/scoring.properties)
+ *   --what-if &lt;file&gt;...                  rescores the simulated season under each rules file
+ *                                        (ScoringRules keys + basePoints.&lt;game&gt;=n) next
+ *                                        to the current rules, in one pass
+ *   --lazy [seed]                        plays a seed-addressable season that stores no match
+ *                                        grid; the reported matches are regenerated on demand
+ *   --game-stats                         keeps per-game season aggregates while simulating
+ *                                        and prints the season's top games after the queries
  */
 public class EsportsManagementApp {
 
@@ -19,7 +64,29 @@ public class EsportsManagementApp {
 
     public static void main(String[] args) {
 
+        // League scoring rules (defaults unless --rules is given)
+        if (!loadScoringRules(args)) {
+            return;
+        }
+
+        // Pipeline mode: overlapped loading/simulation for large gamer files
+        int pipelineAt = indexOf(args, "--pipeline");
+        if (pipelineAt >= 0) {
+            runPipeline(args, pipelineAt);
+            return;
+        }
+
+        // Lazy mode: per-gamer aggregates only, matches regenerated from the seed
+        int lazyAt = indexOf(args, "--lazy");
+        if (lazyAt >= 0) {
+            runLazySeason(args, lazyAt);
+            return;
+        }
+
+        AllocationDiagnostics diagnostics = AllocationDiagnostics.create(indexOf(args, "--diagnostics") >= 0);
+
         // 1. Load Data
+        diagnostics.phase("1. Load data");
         Game[] allGames = FileIO.readGames(GAMES_FILE_PATH);
         Gamer[] allGamers = FileIO.readGamers(GAMERS_FILE_PATH);
 
@@ -29,18 +96,317 @@ public class EsportsManagementApp {
         }
 
         // 3. Initialize Management Classes
+        diagnostics.phase("3. Initialize MatchManagement/PointsBoard");
         MatchManagement matchManagement = new MatchManagement(allGamers, allGames);
         PointsBoard pointsBoard = new PointsBoard(allGamers);
 
-        // 4. Run Simulation
+        // Per-game aggregates are fed as matches are recorded (journal replays included)
+        GameContributionBoard gameBoard = null;
+        if (indexOf(args, "--game-stats") >= 0) {
+            gameBoard = new GameContributionBoard(allGames);
+            matchManagement.addRecordListener(gameBoard);
+        }
+
+        // 4. Run Simulation (optionally journaled / resumed from a journal)
+        diagnostics.phase("4. Simulate tournament");
+        MatchJournal journal = openJournal(args, matchManagement);
+        matchManagement.setJournal(journal);
         matchManagement.simulateTournament();
+        closeJournal(journal);
 
         // 5. Calculate Season Results
+        diagnostics.phase("5. Copy match grid + season results");
         Match[][] simulatedMatches = matchManagement.getAllGamerMatches();
         pointsBoard.calculateSeasonResults(simulatedMatches);
 
         // 6. Run queries and print results
-        runAndPrintQueries(simulatedMatches, pointsBoard);
+        diagnostics.phase("6. Queries");
+        runAndPrintQueries(simulatedMatches, pointsBoard, gameBoard);
+        diagnostics.finish();
+        printDiagnostics(diagnostics, matchManagement, pointsBoard);
+
+        // 7. Optional what-if rescoring and leaderboard export
+        int whatIfAt = indexOf(args, "--what-if");
+        if (whatIfAt >= 0) {
+            runWhatIf(args, whatIfAt, matchManagement, allGames);
+        }
+
+        int exportAt = indexOf(args, "--export");
+        if (exportAt >= 0 && exportAt + 1 < args.length) {
+            String format = (exportAt + 2 < args.length) ? args[exportAt + 2] : "text";
+            exportLeaderboard(pointsBoard, args[exportAt + 1], format);
+        }
+
+        // 8. Optional watch mode (incremental rescoring on CSV changes)
+        if (indexOf(args, "--watch") >= 0) {
+            watchAndRescore(matchManagement, pointsBoard);
+        }
+    }
+
+    /**
+     * Handles --rules: loads and activates scoring rules before anything is scored.
+     * @return false when the rules file was given but could not be used
+     */
+    private static boolean loadScoringRules(String[] args) {
+        int at = indexOf(args, "--rules");
+        if (at < 0) return true;
+        if (at + 1 >= args.length) {
+            System.out.println("Error: --rules needs a properties file path.");
+            return false;
+        }
+        try {
+            ScoringRules rules = ScoringRules.load(Paths.get(args[at + 1]));
+            ScoringRules.setActive(rules);
+            System.out.println("Scoring rules: " + rules.describe());
+            System.out.println();
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error: Could not read scoring rules " + args[at + 1] + ": " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: Invalid scoring rules in " + args[at + 1] + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Handles --diagnostics: measures the structures the normal run keeps or copies
+     * (one isolated build each) and prints the allocation report.
+     */
+    private static void printDiagnostics(AllocationDiagnostics diagnostics, MatchManagement matchManagement,
+                                         PointsBoard pointsBoard) {
+        if (!diagnostics.isEnabled()) return;
+        int gamers = matchManagement.getNumberOfGamers();
+        long matches = (long) gamers * 15;
+
+        Gamer[] copies = diagnostics.sizeOf("Gamer copies (PointsBoard.getGamers)", gamers, "gamer",
+                pointsBoard::getGamers, AllocationDiagnostics::gamerCopiesBytes);
+        diagnostics.sizeOf("Match grid copy (MatchManagement.getAllGamerMatches)", matches, "match",
+                matchManagement::getAllGamerMatches, AllocationDiagnostics::matchGridBytes);
+        diagnostics.sizeOf("Packed season (MatchManagement.getPackedSeason)", matches, "match",
+                matchManagement::getPackedSeason, PackedSeason::estimatedSizeBytes);
+        diagnostics.sizeOf("Columnar GamerTable", gamers, "gamer", () -> GamerTable.fromGamers(copies),
+                GamerTable::estimatedSizeBytes);
+        diagnostics.sizeOf("Season totals copy (PointsBoard.getAllTotalPoints)", gamers, "gamer",
+                pointsBoard::getAllTotalPoints, totals -> AllocationDiagnostics.arrayBytes(totals.length, 4));
+
+        System.out.println();
+        diagnostics.print(ReportWriter.toStdout());
+    }
+
+    /**
+     * Handles --what-if: the current rules are the first column, then one column
+     * per rules file listed after the flag (each file only overrides the current rules).
+     */
+    private static void runWhatIf(String[] args, int at, MatchManagement matchManagement, Game[] allGames) {
+        ScoringRules current = ScoringRules.active();
+        List<WhatIfEngine.Variant> variants = new ArrayList<>();
+        variants.add(WhatIfEngine.Variant.of("current", allGames, current));
+        for (int i = at + 1; i < args.length && !args[i].startsWith("--"); i++) {
+            try {
+                variants.add(WhatIfEngine.Variant.load(Paths.get(args[i]), allGames, current));
+            } catch (IOException e) {
+                System.out.println("Error: Could not read what-if rules " + args[i] + ": " + e.getMessage());
+            } catch (IllegalArgumentException e) {
+                System.out.println("Error: Invalid what-if rules in " + args[i] + ": " + e.getMessage());
+            }
+        }
+        WhatIfEngine engine = new WhatIfEngine(matchManagement.getPackedSeason(), matchManagement.getGamers());
+        System.out.println();
+        engine.run(variants).print(ReportWriter.toStdout());
+    }
+
+    /**
+     * Handles --lazy: simulates with LazySeason.simulate (O(gamers) memory, no match grid)
+     * and runs the queries on the aggregates plus the three regenerated extreme matches.
+     */
+    private static void runLazySeason(String[] args, int at) {
+        long seed = System.nanoTime();
+        if (at + 1 < args.length && !args[at + 1].startsWith("--")) {
+            try {
+                seed = Long.parseLong(args[at + 1].trim());
+            } catch (NumberFormatException e) {
+                System.out.println("Error: Invalid seed '" + args[at + 1] + "', using " + seed + ".");
+            }
+        }
+        Game[] allGames = FileIO.readGames(GAMES_FILE_PATH);
+        Gamer[] allGamers = FileIO.readGamers(GAMERS_FILE_PATH);
+        if (!isDataValid(allGamers, allGames)) {
+            return;
+        }
+        try {
+            LazySeason season = LazySeason.simulate(seed, allGamers, allGames);
+            System.out.println("Lazy season seed: " + season.getSeed());
+            System.out.println();
+            runAndPrintQueries(season.toExtremeMatchGrid(), season.toPointsBoard());
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: Lazy season failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Handles --pipeline: runs the season through SeasonPipeline and prints the queries
+     * (on the merged season state) followed by the per-stage metrics.
+     */
+    private static void runPipeline(String[] args, int at) {
+        int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        if (at + 1 < args.length && !args[at + 1].startsWith("--")) {
+            try {
+                workers = Integer.parseInt(args[at + 1].trim());
+            } catch (NumberFormatException e) {
+                System.out.println("Error: Invalid worker count '" + args[at + 1] + "', using " + workers + ".");
+            }
+        }
+        Game[] allGames = FileIO.readGames(GAMES_FILE_PATH);
+        if (allGames == null || allGames.length < 3) {
+            System.out.println("Error: At least 3 games are required in games.csv to run a match.");
+            System.out.println("Please check the file path: " + GAMES_FILE_PATH);
+            return;
+        }
+        try {
+            SeasonPipeline pipeline = new SeasonPipeline(allGames, Math.max(workers, 1), 4096, 4,
+                    System.nanoTime());
+            SeasonPipeline.Result result = pipeline.run(GAMERS_FILE_PATH);
+            Gamer[] gamers = result.getGamers();
+            if (gamers.length == 0) {
+                System.out.println("Error: Could not load gamers or gamers.csv is empty.");
+                System.out.println("Please check the file path: " + GAMERS_FILE_PATH);
+                return;
+            }
+            PointsBoard pointsBoard = result.getPointsBoard();
+            Match[][] extremes = result.getSeason().toExtremeMatchGrid(gamers.length, allGames);
+            runAndPrintQueries(extremes, pointsBoard);
+            System.out.println();
+            result.getMetrics().print(ReportWriter.toStdout());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            System.out.println("Error: Pipeline failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Watches the resources directory and, when games.csv or gamers.csv is modified,
+     * reloads it, rescores only the affected matches and prints the queries again.
+     * Runs until the process is interrupted.
+     */
+    private static void watchAndRescore(MatchManagement matchManagement, PointsBoard pointsBoard) {
+        SeasonReloader reloader = new SeasonReloader(matchManagement, pointsBoard);
+        Path gamesPath = Paths.get(GAMES_FILE_PATH).toAbsolutePath();
+        Path gamersPath = Paths.get(GAMERS_FILE_PATH).toAbsolutePath();
+        Path dir = gamesPath.getParent();
+
+        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+            dir.register(watcher, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+            System.out.println();
+            System.out.println("Watching " + dir + " for changes (Ctrl+C to stop)...");
+
+            while (true) {
+                WatchKey key = watcher.take();
+                boolean gamesChanged = false;
+                boolean gamersChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if (!(context instanceof Path)) continue;
+                    Path changed = dir.resolve((Path) context);
+                    if (changed.equals(gamesPath)) gamesChanged = true;
+                    if (changed.equals(gamersPath)) gamersChanged = true;
+                }
+                key.reset();
+
+                if (gamesChanged) {
+                    Game[] freshGames = FileIO.readGames(GAMES_FILE_PATH);
+                    reloader.reloadGames(freshGames);
+                    printReloadSummary("games.csv", reloader);
+                }
+                if (gamersChanged) {
+                    Gamer[] freshGamers = FileIO.readGamers(GAMERS_FILE_PATH);
+                    reloader.reloadGamers(freshGamers);
+                    printReloadSummary("gamers.csv", reloader);
+                }
+                if (gamesChanged || gamersChanged) {
+                    runAndPrintQueries(matchManagement.getAllGamerMatches(), pointsBoard);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error: Could not watch " + dir + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void printReloadSummary(String file, SeasonReloader reloader) {
+        System.out.println();
+        System.out.println("Reloaded " + file + ": " + reloader.getLastRescoredMatches()
+                + " matches rescored, " + reloader.getLastMedalChanges() + " medal changes.");
+        System.out.println();
+    }
+
+    /**
+     * Handles --journal: replays an existing journal into matchManagement, then opens it for appending.
+     * @return the open journal, or null when journaling is off or the journal could not be opened
+     */
+    private static MatchJournal openJournal(String[] args, MatchManagement matchManagement) {
+        int at = indexOf(args, "--journal");
+        if (at < 0 || at + 1 >= args.length) return null;
+
+        Path path = Paths.get(args[at + 1]);
+        MatchJournal.Durability durability = MatchJournal.Durability.PER_BATCH;
+        if (at + 2 < args.length && !args[at + 2].startsWith("--")) {
+            try {
+                durability = MatchJournal.Durability.valueOf(args[at + 2].trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Error: Unknown durability '" + args[at + 2] + "', using per-batch.");
+            }
+        }
+        try {
+            long restored = matchManagement.recoverFromJournal(path);
+            if (restored > 0) {
+                System.out.println("Recovered " + restored + " matches from " + path);
+                System.out.println();
+            }
+            return MatchJournal.open(path, durability, 256, 50);
+        } catch (IOException e) {
+            System.out.println("Error: Could not use journal " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void closeJournal(MatchJournal journal) {
+        if (journal == null) return;
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.out.println("Error: Could not close journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the full per-gamer leaderboard to a file in the requested format.
+     * @param pointsBoard The PointsBoard containing calculated season totals.
+     * @param path Output file path.
+     * @param formatName text, csv, json or binary (case-insensitive).
+     */
+    private static void exportLeaderboard(PointsBoard pointsBoard, String path, String formatName) {
+        StandardReportFormat format;
+        try {
+            format = StandardReportFormat.valueOf(formatName.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: Unknown export format '" + formatName + "' (use text, csv, json or binary).");
+            return;
+        }
+        try (ReportWriter out = ReportWriter.open(Paths.get(path))) {
+            new LeaderboardExporter(pointsBoard).export(format, out);
+        } catch (IOException e) {
+            System.out.println("Error: Could not write leaderboard to " + path + ": " + e.getMessage());
+        }
+    }
+
+    /** Returns the position of flag in args, or -1. */
+    private static int indexOf(String[] args, String flag) {
+        for (int i = 0; i < args.length; i++) {
+            if (flag.equals(args[i])) return i;
+        }
+        return -1;
     }
 
     /**
@@ -71,6 +437,12 @@ public class EsportsManagementApp {
      * @param pointsBoard The PointsBoard containing calculated season totals.
      */
     private static void runAndPrintQueries(Match[][] simulatedMatches, PointsBoard pointsBoard) {
+        runAndPrintQueries(simulatedMatches, pointsBoard, null);
+    }
+
+    /** Same, plus the season game contributions when a board was kept (--game-stats). */
+    private static void runAndPrintQueries(Match[][] simulatedMatches, PointsBoard pointsBoard,
+                                           GameContributionBoard gameBoard) {
         Query query = new Query(
                 simulatedMatches,
                 pointsBoard.getGamers(), // Get the gamer array copy from the points board
@@ -78,5 +450,9 @@ public class EsportsManagementApp {
         );
 
         query.printAllQueries();
+        if (gameBoard != null) {
+            System.out.println();
+            query.printGameContributions(gameBoard);
+        }
     }
 }
\ No newline at end of file
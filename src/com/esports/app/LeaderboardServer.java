@@ -0,0 +1,396 @@
+package com.esports.app;
+
+import com.esports.io.FileIO;
+import com.esports.io.ReportWriter;
+import com.esports.io.StandardReportFormat;
+import com.esports.logic.LeaderboardExporter;
+import com.esports.logic.MatchManagement;
+import com.esports.logic.PointsBoard;
+import com.esports.logic.Query;
+import com.esports.model.Game;
+import com.esports.model.Gamer;
+import com.esports.model.Match;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Local read-only HTTP service for the tournament results.
+ * Endpoints (GET / HEAD):
+ *   /queries            all six queries, same text as printAllQueries()
+ *   /queries/{1..6}     one query
+ *   /leaderboard        full leaderboard (JSON, see StandardReportFormat.JSON)
+ *   /leaderboard.csv    full leaderboard (CSV)
+ *   /top?k=N            first N ranks (JSON, default 10)
+ *   /gamers/{id}        one gamer's season stats (JSON)
+ * Responses are serialized once per data version and served from cached byte arrays:
+ * - publish() swaps in a new version; whole-season documents are built eagerly,
+ *   per-gamer and top-K documents on first request (bounded cache)
+ * - every response carries an ETag derived from its bytes (so it stays valid across restarts
+ *   and versions only when the content is identical); If-None-Match → 304 Not Modified
+ * Requests run on virtual threads when the JVM has them (Java 21+), otherwise on a fixed pool.
+ * Usage: LeaderboardServer [port] [seed]
+ */
+public class LeaderboardServer implements Closeable {
+
+    private static final String GAMES_FILE_PATH = "src/resources/games.csv";
+    private static final String GAMERS_FILE_PATH = "src/resources/gamers.csv";
+    private static final int MAX_LAZY_ENTRIES = 4096; // Per version
+    private static final int DEFAULT_TOP_K = 10;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private volatile View view;
+    private long version;
+
+    public LeaderboardServer(InetSocketAddress address) throws IOException {
+        // Small responses otherwise wait for delayed ACKs (Nagle); read once when the JDK server starts up.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.server = HttpServer.create(address, 1024);
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = (virtual != null) ? virtual
+                : Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    /** Uses Executors.newVirtualThreadPerTaskExecutor when available (looked up reflectively). */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) m.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null; // Older JVM (or preview feature disabled)
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Publishes a new data version. The arguments should be the copies handed out by
+     * MatchManagement / PointsBoard; they are only read while building the new version.
+     */
+    public void publish(Match[][] matches, PointsBoard pointsBoard) {
+        if (matches == null || pointsBoard == null) {
+            throw new IllegalArgumentException("matches/pointsBoard cannot be null");
+        }
+        long v;
+        synchronized (this) {
+            v = ++version;
+        }
+        View next = new View(v, matches, pointsBoard);
+        synchronized (this) {
+            if (view == null || view.version < v) view = next; // Ignore a slower, older publish
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // ---------------- Request handling ----------------
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            // Drain the request first: for body-less replies (304, HEAD) the server checks it
+            // right after the headers are sent and drops the keep-alive connection if unread.
+            exchange.getRequestBody().close();
+            String method = exchange.getRequestMethod();
+            boolean head = "HEAD".equals(method);
+            if (!head && !"GET".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                send(exchange, 405, error("Method not allowed"), false);
+                return;
+            }
+            View v = view;
+            if (v == null) {
+                send(exchange, 503, error("No data published yet"), head);
+                return;
+            }
+            Response r = v.lookup(exchange.getRequestURI().getPath(), exchange.getRequestURI().getRawQuery());
+            if (r.status != 200) {
+                send(exchange, r.status, r, head);
+                return;
+            }
+            Headers h = exchange.getResponseHeaders();
+            h.set("ETag", r.etag);
+            h.set("Cache-Control", "no-cache");
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            if (ifNoneMatch != null && matchesEtag(ifNoneMatch, r.etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            send(exchange, 200, r, head);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, Response r, boolean head) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", r.contentType);
+        if (head) {
+            exchange.getResponseHeaders().set("Content-Length", Integer.toString(r.body.length));
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, r.body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(r.body);
+        }
+    }
+
+    private static boolean matchesEtag(String header, String etag) {
+        if ("*".equals(header.trim())) return true;
+        for (String candidate : header.split(",")) {
+            String c = candidate.trim();
+            if (c.startsWith("W/")) c = c.substring(2);
+            if (c.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    private static Response error(String message) {
+        byte[] body = render(out -> {
+            out.print("{\"error\":");
+            StandardReportFormat.writeJsonString(out, message);
+            out.println("}");
+        });
+        return new Response(400, body, "application/json", null);
+    }
+
+    private static byte[] render(Consumer<ReportWriter> writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReportWriter out = ReportWriter.toStream(bytes);
+        writer.accept(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    // ---------------- Cached data version ----------------
+
+    /** One pre-serialized response. */
+    private static final class Response {
+        final int status;
+        final byte[] body;
+        final String contentType;
+        final String etag;
+
+        Response(int status, byte[] body, String contentType, String etag) {
+            this.status = status;
+            this.body = body;
+            this.contentType = contentType;
+            this.etag = etag;
+        }
+
+        Response withStatus(int newStatus) {
+            return new Response(newStatus, body, contentType, etag);
+        }
+    }
+
+    /** Everything served for one data version. Immutable apart from the lazy cache. */
+    private static final class View {
+        private static final String TEXT = "text/plain; charset=utf-8";
+        private static final String JSON = "application/json";
+        private static final String CSV = "text/csv; charset=utf-8";
+
+        final long version;
+        private final PointsBoard pointsBoard;
+        private final Gamer[] gamers;
+        private final int[] rankByIndex;
+        private final Map<Integer, Integer> indexById = new HashMap<>();
+        private final Map<String, Response> eager = new HashMap<>();
+        private final ConcurrentHashMap<String, Response> lazy = new ConcurrentHashMap<>();
+
+        View(long version, Match[][] matches, PointsBoard pointsBoard) {
+            this.version = version;
+            this.pointsBoard = pointsBoard;
+            this.gamers = pointsBoard.getGamers();
+            for (int i = 0; i < gamers.length; i++) {
+                indexById.putIfAbsent(gamers[i].getId(), i);
+            }
+            int[] order = LeaderboardExporter.rankOrder(pointsBoard.getAllTotalPoints());
+            this.rankByIndex = new int[order.length];
+            for (int rank = 0; rank < order.length; rank++) {
+                rankByIndex[order[rank]] = rank + 1;
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            Query query = new Query(matches, gamers, pointsBoard, ReportWriter.toStream(bytes));
+            query.printAllQueries();
+            put("/queries", bytes.toByteArray(), TEXT);
+            for (int q = 1; q <= 6; q++) {
+                bytes.reset();
+                switch (q) {
+                    case 1: query.printHighestScoringMatch(); break;
+                    case 2: query.printLowestScoringMatch(); break;
+                    case 3: query.printLowestBonusMatch(); break;
+                    case 4: query.printHighestScoringGamer(); break;
+                    case 5: query.printTotalTournamentPoints(); break;
+                    default: query.printMedalDistribution(); break;
+                }
+                put("/queries/" + q, bytes.toByteArray(), TEXT);
+            }
+            LeaderboardExporter exporter = new LeaderboardExporter(pointsBoard);
+            put("/leaderboard", render(o -> exporter.export(StandardReportFormat.JSON, o)), JSON);
+            put("/leaderboard.csv", render(o -> exporter.export(StandardReportFormat.CSV, o)), CSV);
+        }
+
+        private void put(String key, byte[] body, String contentType) {
+            eager.put(key, new Response(200, body, contentType, etag(body)));
+        }
+
+        /** Strong ETag: first 128 bits of the body's SHA-256, in hex. */
+        private static String etag(byte[] body) {
+            byte[] digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256").digest(body);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e); // Required on every JVM
+            }
+            StringBuilder sb = new StringBuilder(34).append('"');
+            for (int i = 0; i < 16; i++) {
+                sb.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return sb.append('"').toString();
+        }
+
+        Response lookup(String path, String rawQuery) {
+            Response r = eager.get(path);
+            if (r != null) return r;
+
+            if ("/top".equals(path)) {
+                int k = DEFAULT_TOP_K;
+                String param = queryParam(rawQuery, "k");
+                if (param != null) {
+                    try {
+                        k = Integer.parseInt(param);
+                    } catch (NumberFormatException e) {
+                        return error("k must be an integer");
+                    }
+                    if (k < 1) return error("k must be >= 1");
+                }
+                int limit = Math.min(k, gamers.length);
+                return cached("/top?k=" + limit, () -> render(o ->
+                        new LeaderboardExporter(pointsBoard).export(StandardReportFormat.JSON, o, limit)), JSON);
+            }
+            if (path.startsWith("/gamers/")) {
+                int id;
+                try {
+                    id = Integer.parseInt(path.substring("/gamers/".length()));
+                } catch (NumberFormatException e) {
+                    return error("Gamer id must be an integer");
+                }
+                Integer index = indexById.get(id);
+                if (index == null) return error("Unknown gamer id " + id).withStatus(404);
+                return cached(path, () -> render(o -> writeGamer(o, index)), JSON);
+            }
+            return error("Unknown path " + path).withStatus(404);
+        }
+
+        private Response cached(String key, Supplier<byte[]> builder, String contentType) {
+            Response r = lazy.get(key);
+            if (r != null) return r;
+            byte[] body = builder.get();
+            r = new Response(200, body, contentType, etag(body));
+            if (lazy.size() < MAX_LAZY_ENTRIES) {
+                Response raced = lazy.putIfAbsent(key, r);
+                if (raced != null) r = raced;
+            }
+            return r;
+        }
+
+        private void writeGamer(ReportWriter out, int i) {
+            Gamer g = gamers[i];
+            out.print("{\"id\":").print(g.getId()).print(",\"nickname\":");
+            StandardReportFormat.writeJsonString(out, g.getNickname());
+            out.print(",\"name\":");
+            StandardReportFormat.writeJsonString(out, g.getRealName());
+            out.print(",\"experienceYears\":").print(g.getExperienceYears())
+                    .print(",\"rank\":").print(rankByIndex[i])
+                    .print(",\"totalPoints\":").print(pointsBoard.getTotalPoints(i))
+                    .print(",\"averagePerMatch\":").printFixed(pointsBoard.getAveragePerMatch(i), 2)
+                    .print(",\"medal\":\"").print(pointsBoard.getMedal(i).displayName()).println("\"}");
+        }
+
+        private static String queryParam(String rawQuery, String name) {
+            if (rawQuery == null) return null;
+            for (String pair : rawQuery.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0 && pair.substring(0, eq).equals(name)) return pair.substring(eq + 1);
+            }
+            return null;
+        }
+    }
+
+    // ---------------- Standalone entry point ----------------
+
+    public static void main(String[] args) {
+        int port = 8080;
+        Long seed = null;
+        try {
+            if (args.length > 0) port = Integer.parseInt(args[0]);
+            if (args.length > 1) seed = Long.parseLong(args[1]);
+        } catch (NumberFormatException e) {
+            System.out.println("Usage: LeaderboardServer [port] [seed]");
+            return;
+        }
+        Game[] games = FileIO.readGames(GAMES_FILE_PATH);
+        Gamer[] gamers = FileIO.readGamers(GAMERS_FILE_PATH);
+        if (games.length < 3 || gamers.length == 0) {
+            System.out.println("Error: Could not load games.csv / gamers.csv.");
+            return;
+        }
+        MatchManagement mm = new MatchManagement(gamers, games, (seed == null) ? new Random() : new Random(seed));
+        mm.simulateTournament();
+        Match[][] matches = mm.getAllGamerMatches();
+        PointsBoard board = new PointsBoard(gamers);
+        board.calculateSeasonResults(matches);
+
+        try {
+            LeaderboardServer server = new LeaderboardServer(new InetSocketAddress(port));
+            server.publish(matches, board);
+            server.start();
+            System.out.println("Serving on http://localhost:" + server.getPort() + "/queries ("
+                    + (server.usesVirtualThreads() ? "virtual threads" : "thread pool") + ")");
+        } catch (IOException e) {
+            System.out.println("Error: Could not start server on port " + port + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.esports.app;
+
+import com.esports.io.FileIO;
+import com.esports.logic.PointsBoard;
+import com.esports.logic.Query;
+import com.esports.logic.SeasonPartial;
+import com.esports.model.Game;
+import com.esports.model.Gamer;
+import com.esports.model.Match;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharded tournament across several local worker JVMs.
+ * Gamers are partitioned by id (id mod shards); each ShardWorker process simulates and
+ * scores its shard and writes a SeasonPartial. The coordinator merges the partials and
+ * prints the same six query results as EsportsManagementApp.
+ * Usage: ShardCoordinator [shards] [seed] [games.csv] [gamers.csv]
+ */
+public class ShardCoordinator {
+
+    private static final String GAMES_FILE_PATH = "src/resources/games.csv";
+    private static final String GAMERS_FILE_PATH = "src/resources/gamers.csv";
+
+    public static void main(String[] args) {
+        int shards = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        try {
+            if (args.length > 0) shards = Integer.parseInt(args[0]);
+            if (args.length > 1) seed = Long.parseLong(args[1]);
+        } catch (NumberFormatException e) {
+            System.out.println("Error: shards and seed must be numbers.");
+            return;
+        }
+        String gamesPath = (args.length > 2) ? args[2] : GAMES_FILE_PATH;
+        String gamersPath = (args.length > 3) ? args[3] : GAMERS_FILE_PATH;
+        if (shards < 1) {
+            System.out.println("Error: at least one shard is required.");
+            return;
+        }
+
+        // Validate once here, before any worker is spawned (same rules as EsportsManagementApp).
+        Game[] games = FileIO.readGames(gamesPath);
+        Gamer[] gamers = FileIO.readGamers(gamersPath);
+        if (!isDataValid(games, gamers, gamesPath, gamersPath)) {
+            return;
+        }
+
+        try {
+            SeasonPartial merged = runShards(gamesPath, gamersPath, shards, seed);
+            printQueries(merged, games, gamers);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Error: sharded run failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("Error: interrupted while waiting for workers.");
+        }
+    }
+
+    /**
+     * Starts one worker JVM per shard (same classpath and java binary as this process),
+     * waits for all of them and merges their partials.
+     */
+    public static SeasonPartial runShards(String gamesPath, String gamersPath, int shards, long seed)
+            throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        String classpath = System.getProperty("java.class.path");
+
+        List<Process> processes = new ArrayList<>(shards);
+        List<Path> outputs = new ArrayList<>(shards);
+        try {
+            for (int s = 0; s < shards; s++) {
+                Path out = Files.createTempFile("esports-shard-" + s + "-", ".partial");
+                outputs.add(out);
+                ProcessBuilder pb = new ProcessBuilder(java, "-cp", classpath, ShardWorker.class.getName(),
+                        gamesPath, gamersPath, Integer.toString(s), Integer.toString(shards),
+                        Long.toString(seed), out.toString());
+                pb.redirectErrorStream(true);
+                pb.redirectOutput(ProcessBuilder.Redirect.INHERIT);
+                processes.add(pb.start());
+            }
+
+            SeasonPartial merged = new SeasonPartial();
+            for (int s = 0; s < shards; s++) {
+                int exit = processes.get(s).waitFor();
+                if (exit != 0) {
+                    throw new IOException("Worker for shard " + s + " exited with code " + exit);
+                }
+                try (DataInputStream in = new DataInputStream(
+                        new BufferedInputStream(new FileInputStream(outputs.get(s).toFile()), 1 << 16))) {
+                    merged.merge(SeasonPartial.readFrom(in));
+                }
+            }
+            return merged;
+        } finally {
+            for (Process p : processes) {
+                if (p.isAlive()) p.destroyForcibly();
+            }
+            for (Path out : outputs) {
+                Files.deleteIfExists(out);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds a PointsBoard and a sparse match grid from the merged partial and runs Query on them.
+     */
+    private static void printQueries(SeasonPartial merged, Game[] games, Gamer[] gamers) {
+        PointsBoard pointsBoard = merged.toPointsBoard(gamers);
+        Match[][] extremes = merged.toExtremeMatchGrid(gamers.length, games);
+        new Query(extremes, pointsBoard.getGamers(), pointsBoard).printAllQueries();
+    }
+
+    private static boolean isDataValid(Game[] games, Gamer[] gamers, String gamesPath, String gamersPath) {
+        if (gamers == null || gamers.length == 0) {
+            System.out.println("Error: Could not load gamers or gamers.csv is empty.");
+            System.out.println("Please check the file path: " + gamersPath);
+            return false;
+        }
+        if (games == null || games.length < 3) {
+            // A match requires 3 different games
+            System.out.println("Error: At least 3 games are required in games.csv to run a match.");
+            System.out.println("Please check the file path: " + gamesPath);
+            return false;
+        }
+        return true;
+    }
+}
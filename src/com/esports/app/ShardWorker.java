@@ -0,0 +1,76 @@
+package com.esports.app;
+
+import com.esports.io.FileIO;
+import com.esports.logic.MatchManagement;
+import com.esports.logic.SeasonPartial;
+import com.esports.model.Game;
+import com.esports.model.Gamer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Worker process for the sharded tournament (started by ShardCoordinator).
+ * Simulates and scores only the gamers of one shard (id mod shardCount == shardIndex)
+ * and writes a SeasonPartial to the output file.
+ * Arguments: gamesPath gamersPath shardIndex shardCount seed outputPath
+ * Exit code: 0 on success, 1 on bad arguments, 2 on I/O failure.
+ */
+public class ShardWorker {
+
+    public static void main(String[] args) {
+        if (args.length != 6) {
+            System.err.println("Usage: ShardWorker <games.csv> <gamers.csv> <shardIndex> <shardCount> <seed> <output>");
+            System.exit(1);
+        }
+        int shardIndex;
+        int shardCount;
+        long seed;
+        try {
+            shardIndex = Integer.parseInt(args[2]);
+            shardCount = Integer.parseInt(args[3]);
+            seed = Long.parseLong(args[4]);
+        } catch (NumberFormatException e) {
+            System.err.println("ShardWorker: invalid number: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            System.err.println("ShardWorker: shardIndex must be in [0, shardCount)");
+            System.exit(1);
+        }
+
+        Game[] games = FileIO.readGames(args[0]);
+        Gamer[] allGamers = FileIO.readGamers(args[1]);
+
+        // Select this shard's gamers, remembering their global (file-order) positions.
+        int count = 0;
+        for (Gamer g : allGamers) {
+            if (Math.floorMod(g.getId(), shardCount) == shardIndex) count++;
+        }
+        Gamer[] shardGamers = new Gamer[count];
+        int[] localToGlobal = new int[count];
+        int k = 0;
+        for (int i = 0; i < allGamers.length; i++) {
+            if (Math.floorMod(allGamers[i].getId(), shardCount) == shardIndex) {
+                shardGamers[k] = allGamers[i];
+                localToGlobal[k++] = i;
+            }
+        }
+
+        MatchManagement matchManagement = new MatchManagement(shardGamers, games, new Random(seed + shardIndex));
+        matchManagement.simulateTournament();
+        SeasonPartial partial = SeasonPartial.fromSeason(matchManagement.getPackedSeason(), localToGlobal);
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(args[5]), 1 << 16))) {
+            partial.writeTo(out);
+        } catch (IOException e) {
+            System.err.println("ShardWorker: could not write partial: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.esports.bench;
+
+import com.esports.io.ReportWriter;
+import com.esports.model.Gamer;
+import com.esports.model.Match;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Per-phase allocation accounting for the current thread, based on
+ * com.sun.management.ThreadMXBean.getThreadAllocatedBytes.
+ * - phase(name) closes the running phase and starts a new one; finish() closes the last
+ * - sizeOf(name, count, unit, builder, estimate) runs builder in isolation and reports the
+ *   structure's analytic size (estimate, e.g. GamerTable.estimatedSizeBytes or the layout
+ *   helpers below), total and per unit (e.g. per match / per gamer), next to the bytes the
+ *   build allocated.
+ * - As a cross-check it also reports the GC delta (heap used after a full GC, before vs.
+ *   after, with the result still held). That figure relies on System.gc(), and the Serial GC
+ *   (the default on single-CPU machines) may leave dead objects in place after a full GC, so
+ *   deltas below NOISE_FLOOR_BYTES print as "n/a".
+ * Layout helpers assume a 64-bit HotSpot JVM with compressed oops and class pointers:
+ * 12-byte object headers, 16-byte array headers, 4-byte references, 8-byte alignment.
+ * A disabled instance (or a JVM without allocation counters) accepts all calls and records nothing.
+ */
+public final class AllocationDiagnostics {
+
+    private static final long NOISE_FLOOR_BYTES = 64 * 1024;
+    private static final long GAMER_COPY_BYTES = objectBytes(5 * 4);
+    // Match object, its Game[3] and int[3], and three Game copies (names are shared)
+    private static final long MATCH_COPY_BYTES = objectBytes(7 * 4) + arrayBytes(3, 4) + arrayBytes(3, 4)
+            + 3 * objectBytes(3 * 4);
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final long threadId = Thread.currentThread().getId();
+    private final List<String> names = new ArrayList<>();
+    private final List<long[]> values = new ArrayList<>();   // Phase: {bytes, nanos}
+    private final List<String> structures = new ArrayList<>();
+    private final List<long[]> structureValues = new ArrayList<>(); // {estimated, retained, allocated, count}
+    private final List<String> structureUnits = new ArrayList<>();
+
+    private String currentPhase;
+    private long phaseStartBytes;
+    private long phaseStartNanos;
+
+    private AllocationDiagnostics(com.sun.management.ThreadMXBean threads) {
+        this.threads = threads;
+    }
+
+    /** Returns an active instance when enabled and supported by the JVM, else a no-op one. */
+    public static AllocationDiagnostics create(boolean enabled) {
+        if (!enabled) return new AllocationDiagnostics(null);
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            System.out.println("Diagnostics error: thread allocation counters are not available on this JVM.");
+            return new AllocationDiagnostics(null);
+        }
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        if (!sunBean.isThreadAllocatedMemorySupported()) {
+            System.out.println("Diagnostics error: thread allocation counters are not supported.");
+            return new AllocationDiagnostics(null);
+        }
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+        return new AllocationDiagnostics(sunBean);
+    }
+
+    public boolean isEnabled() {
+        return threads != null;
+    }
+
+    /** Ends the running phase (if any) and starts a new one. */
+    public void phase(String name) {
+        if (threads == null) return;
+        finish();
+        currentPhase = name;
+        phaseStartNanos = System.nanoTime();
+        phaseStartBytes = allocatedBytes();
+    }
+
+    /** Ends the running phase. */
+    public void finish() {
+        if (threads == null || currentPhase == null) return;
+        long bytes = allocatedBytes() - phaseStartBytes;
+        names.add(currentPhase);
+        values.add(new long[]{bytes, System.nanoTime() - phaseStartNanos});
+        currentPhase = null;
+    }
+
+    /**
+     * Measures the structure builder returns: analytic size (from estimate), GC delta and
+     * allocated bytes. Garbage made while building (temporary arrays, maps, boxing) is
+     * allocated but not retained.
+     * @param count    number of units in the structure (matches, gamers, ...)
+     * @param estimate analytic heap size of the result
+     * @return the built structure (so it can stay reachable while measuring the next one)
+     */
+    public <T> T sizeOf(String name, long count, String unit, Supplier<T> builder, ToLongFunction<? super T> estimate) {
+        if (threads == null) return builder.get();
+        long usedBefore = usedHeapAfterGc();
+        long before = allocatedBytes();
+        T result = builder.get();
+        long allocated = allocatedBytes() - before;
+        long retained = Math.max(0, usedHeapAfterGc() - usedBefore);
+        Reference.reachabilityFence(result);
+        structures.add(name);
+        structureValues.add(new long[]{estimate.applyAsLong(result), retained, allocated, count});
+        structureUnits.add(unit);
+        return result;
+    }
+
+    public void print(ReportWriter out) {
+        if (threads == null) return;
+        finish();
+        out.println("Allocation Diagnostics (main thread):");
+        long total = 0;
+        for (int i = 0; i < names.size(); i++) {
+            long[] v = values.get(i);
+            total += v[0];
+            out.print("  ").print(names.get(i)).print(": ");
+            printBytes(out, v[0]);
+            out.print(" in ").printFixed(v[1] / 1e6, 1).println(" ms");
+        }
+        out.print("  Total: ");
+        printBytes(out, total);
+        out.println();
+
+        if (!structures.isEmpty()) {
+            out.println("Structure sizes (analytic; GC delta as a cross-check):");
+            if (serialGcLeavesDeadSpace()) {
+                out.println("  (Serial GC: run with -XX:MarkSweepDeadRatio=0 for steadier GC deltas)");
+            }
+            for (int i = 0; i < structures.size(); i++) {
+                long[] v = structureValues.get(i);
+                out.print("  ").print(structures.get(i)).print(": ");
+                printBytes(out, v[0]);
+                if (v[3] > 0) {
+                    out.print(" (").printFixed(v[0] / (double) v[3], 1).print(" bytes per ")
+                            .print(structureUnits.get(i)).print(" over ").print(v[3]).print(')');
+                }
+                out.print(", GC delta: ");
+                if (v[1] < NOISE_FLOOR_BYTES) out.print("n/a");
+                else printBytes(out, v[1]);
+                out.print(", allocated while building: ");
+                printBytes(out, v[2]);
+                out.println();
+            }
+        }
+        out.flush();
+    }
+
+    // -------- Analytic layout sizes --------
+
+    /** Heap bytes of an object with the given instance field bytes. */
+    public static long objectBytes(long fieldBytes) {
+        return align(12 + fieldBytes);
+    }
+
+    /** Heap bytes of an array of length elements of elementBytes each (4 for references). */
+    public static long arrayBytes(long length, int elementBytes) {
+        return align(16 + length * elementBytes);
+    }
+
+    /** Gamer[] of copies sharing their Strings with the originals (as PointsBoard.getGamers returns). */
+    public static long gamerCopiesBytes(Gamer[] gamers) {
+        long bytes = arrayBytes(gamers.length, 4);
+        for (Gamer g : gamers) {
+            if (g != null) bytes += GAMER_COPY_BYTES;
+        }
+        return bytes;
+    }
+
+    /** Deep-copied match grid (as MatchManagement.getAllGamerMatches returns; game names are shared). */
+    public static long matchGridBytes(Match[][] grid) {
+        long bytes = arrayBytes(grid.length, 4);
+        for (Match[] row : grid) {
+            if (row == null) continue;
+            bytes += arrayBytes(row.length, 4);
+            for (Match m : row) {
+                if (m != null) bytes += MATCH_COPY_BYTES;
+            }
+        }
+        return bytes;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static boolean serialGcLeavesDeadSpace() {
+        com.sun.management.HotSpotDiagnosticMXBean hotspot =
+                ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+        if (hotspot == null) return false;
+        try {
+            return Boolean.parseBoolean(hotspot.getVMOption("UseSerialGC").getValue())
+                    && !"0".equals(hotspot.getVMOption("MarkSweepDeadRatio").getValue());
+        } catch (IllegalArgumentException e) {
+            return false; // Option unknown to this JVM
+        }
+    }
+
+    /** Heap in use once a full GC has settled (used heap stops shrinking). */
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            long now = memory.getHeapMemoryUsage().getUsed();
+            if (now >= used) return now;
+            used = now;
+        }
+        return used;
+    }
+
+    private long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(threadId);
+    }
+
+    private static void printBytes(ReportWriter out, long bytes) {
+        if (bytes >= 1L << 20) out.printFixed(bytes / (double) (1L << 20), 2).print(" MB");
+        else if (bytes >= 1L << 10) out.printFixed(bytes / 1024.0, 1).print(" KB");
+        else out.print(bytes).print(" B");
+    }
+}
@@ -0,0 +1,73 @@
+package com.esports.bench;
+
+import com.esports.io.FileIO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Load throughput of gamers.csv read plain vs. gzip-compressed (same data).
+ * Usage: CompressedLoadBench &lt;gamers.csv&gt; [iterations]
+ * A temporary .gz copy is written to the temp dir. Both inputs are parsed through the same
+ * single-pass reader (FileIO.readGamersInBatches), so the only difference is decompression;
+ * throughput is reported in uncompressed MB/s so both rows compare the same CSV text.
+ */
+public class CompressedLoadBench {
+
+    private static final int BATCH_SIZE = 4096;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: CompressedLoadBench <gamers.csv> [iterations]");
+            return;
+        }
+        Path plain = Paths.get(args[0]);
+        int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+
+        Path gz = Files.createTempFile("gamers-bench-", ".csv.gz");
+        try {
+            compress(plain, gz);
+            long rawBytes = Files.size(plain);
+            long gzBytes = Files.size(gz);
+            System.out.printf("%s: %.1f MB plain, %.1f MB gzip (ratio %.2f)%n",
+                    plain, rawBytes / 1e6, gzBytes / 1e6, rawBytes / (double) gzBytes);
+
+            // Warm up both paths once so JIT time is not charged to the first row.
+            load(plain.toString());
+            load(gz.toString());
+
+            report("plain", plain.toString(), rawBytes, iterations);
+            report("gzip", gz.toString(), rawBytes, iterations);
+        } finally {
+            Files.deleteIfExists(gz);
+        }
+    }
+
+    private static void report(String label, String path, long rawBytes, int iterations) {
+        long best = Long.MAX_VALUE;
+        long rows = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            rows = load(path);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double seconds = best / 1e9;
+        System.out.printf("%-6s rows=%d  best %.1f ms  %.1f MB/s  %.0f rows/s%n",
+                label, rows, seconds * 1000, rawBytes / 1e6 / seconds, rows / seconds);
+    }
+
+    /** Parses every row (Gamer objects are built, then dropped batch by batch); returns the row count. */
+    private static long load(String path) {
+        return FileIO.readGamersInBatches(path, BATCH_SIZE, batch -> { });
+    }
+
+    private static void compress(Path source, Path target) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(target), 1 << 16)) {
+            Files.copy(source, out);
+        }
+    }
+}
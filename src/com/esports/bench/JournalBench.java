@@ -0,0 +1,56 @@
+package com.esports.bench;
+
+import com.esports.io.MatchJournal;
+import com.esports.io.MatchJournal.Durability;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Throughput of MatchJournal appends for each durability mode.
+ * Usage: JournalBench [records] [threads] [batchSize] [intervalMillis]
+ * PER_RECORD uses fewer records by default because every append waits for an fsync.
+ */
+public class JournalBench {
+
+    public static void main(String[] args) throws Exception {
+        int records = (args.length > 0) ? Integer.parseInt(args[0]) : 200_000;
+        int threads = (args.length > 1) ? Integer.parseInt(args[1]) : 4;
+        int batchSize = (args.length > 2) ? Integer.parseInt(args[2]) : 256;
+        long interval = (args.length > 3) ? Long.parseLong(args[3]) : 50;
+
+        for (Durability d : Durability.values()) {
+            int n = (d == Durability.PER_RECORD) ? Math.max(records / 50, threads) : records;
+            Path file = Files.createTempFile("journal-bench-", ".wal");
+            try {
+                double seconds = run(file, d, n, threads, batchSize, interval);
+                long replayed = MatchJournal.replay(file, (g, m, id, p, pts) -> { });
+                System.out.printf("%-10s threads=%d records=%d  %.0f records/s  (%.1f ms, replayed %d)%n",
+                        d, threads, n, n / seconds, seconds * 1000, replayed);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static double run(Path file, Durability d, int records, int threads, int batchSize, long interval)
+            throws IOException, InterruptedException {
+        try (MatchJournal journal = MatchJournal.open(file, d, batchSize, interval)) {
+            Thread[] workers = new Thread[threads];
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                final int first = t;
+                workers[t] = new Thread(() -> {
+                    for (int i = first; i < records; i += threads) {
+                        journal.append(i / 15, i % 15, i + 1, 0x0123456789ABCDEFL ^ i, 300 + (i & 255));
+                    }
+                });
+                workers[t].start();
+            }
+            for (Thread w : workers) w.join();
+            journal.sync();
+            return (System.nanoTime() - start) / 1e9;
+        }
+    }
+}
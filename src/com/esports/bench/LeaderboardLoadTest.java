@@ -0,0 +1,148 @@
+package com.esports.bench;
+
+import com.esports.app.LeaderboardServer;
+import com.esports.io.FileIO;
+import com.esports.logic.MatchManagement;
+import com.esports.logic.PointsBoard;
+import com.esports.model.Game;
+import com.esports.model.Gamer;
+import com.esports.model.Match;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load test for LeaderboardServer (in-process server, loopback HTTP/1.1).
+ * Each client thread cycles through /queries, /leaderboard, /top?k=10 and /gamers/{id}
+ * and, when conditional is on, sends If-None-Match with the last ETag it saw (→ mostly 304s).
+ * Reports throughput and latency percentiles (p50 / p90 / p99 / max) for the whole run.
+ * Usage: LeaderboardLoadTest [seconds] [clients] [conditional(true|false)] [gamersCsv]
+ */
+public class LeaderboardLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int seconds = (args.length > 0) ? Integer.parseInt(args[0]) : 10;
+        int clients = (args.length > 1) ? Integer.parseInt(args[1]) : 16;
+        boolean conditional = args.length <= 2 || Boolean.parseBoolean(args[2]);
+        String gamersPath = (args.length > 3) ? args[3] : "src/resources/gamers.csv";
+
+        Game[] games = FileIO.readGames("src/resources/games.csv");
+        Gamer[] gamers = FileIO.readGamers(gamersPath);
+        MatchManagement mm = new MatchManagement(gamers, games, new Random(42));
+        mm.simulateTournament();
+        Match[][] matches = mm.getAllGamerMatches();
+        PointsBoard board = new PointsBoard(gamers);
+        board.calculateSeasonResults(matches);
+
+        try (LeaderboardServer server = new LeaderboardServer(new InetSocketAddress("127.0.0.1", 0))) {
+            server.publish(matches, board);
+            server.start();
+            String base = "http://127.0.0.1:" + server.getPort();
+            String[] paths = {"/queries", "/leaderboard", "/top?k=10", "/gamers/" + gamers[0].getId()};
+
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            run(client, base, paths, clients, 1, conditional); // Warm-up
+
+            AtomicLong okCount = new AtomicLong();
+            AtomicLong notModified = new AtomicLong();
+            AtomicLong errors = new AtomicLong();
+            long[][] latencies = new long[clients][];
+            Thread[] threads = new Thread[clients];
+            long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+            long start = System.nanoTime();
+            for (int c = 0; c < clients; c++) {
+                int id = c;
+                threads[c] = new Thread(() -> latencies[id] = clientLoop(client, base, paths, id, deadline,
+                        conditional, okCount, notModified, errors));
+                threads[c].start();
+            }
+            for (Thread t : threads) t.join();
+            double elapsed = (System.nanoTime() - start) / 1e9;
+
+            int total = 0;
+            for (long[] l : latencies) total += l.length;
+            long[] all = new long[total];
+            int pos = 0;
+            for (long[] l : latencies) {
+                System.arraycopy(l, 0, all, pos, l.length);
+                pos += l.length;
+            }
+            Arrays.sort(all);
+
+            System.out.printf("Server: %s, clients=%d, conditional=%b, gamers=%d%n",
+                    server.usesVirtualThreads() ? "virtual threads" : "thread pool", clients, conditional,
+                    gamers.length);
+            System.out.printf("Requests: %d in %.1f s, %.0f req/s (200: %d, 304: %d, errors: %d)%n",
+                    total, elapsed, total / elapsed, okCount.get(), notModified.get(), errors.get());
+            if (total > 0) {
+                System.out.printf("Latency: p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+                        percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+                        all[all.length - 1] / 1e6);
+            }
+        }
+    }
+
+    private static void run(HttpClient client, String base, String[] paths, int clients, int seconds,
+                            boolean conditional) throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        Thread[] threads = new Thread[clients];
+        AtomicLong ignored = new AtomicLong();
+        for (int c = 0; c < clients; c++) {
+            int id = c;
+            threads[c] = new Thread(() -> clientLoop(client, base, paths, id, deadline, conditional,
+                    ignored, ignored, ignored));
+            threads[c].start();
+        }
+        for (Thread t : threads) t.join();
+    }
+
+    /** Sends requests until the deadline; returns per-request latencies in nanoseconds. */
+    private static long[] clientLoop(HttpClient client, String base, String[] paths, int id, long deadline,
+                                     boolean conditional, AtomicLong ok, AtomicLong notModified,
+                                     AtomicLong errors) {
+        long[] latencies = new long[1024];
+        int n = 0;
+        String[] etags = new String[paths.length];
+        URI[] uris = new URI[paths.length];
+        for (int p = 0; p < paths.length; p++) uris[p] = URI.create(base + paths[p]);
+
+        for (int k = id; System.nanoTime() < deadline; k++) {
+            int p = k % paths.length;
+            HttpRequest.Builder request = HttpRequest.newBuilder(uris[p]).GET();
+            if (conditional && etags[p] != null) request.header("If-None-Match", etags[p]);
+            long t0 = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+                long t1 = System.nanoTime();
+                if (n == latencies.length) latencies = Arrays.copyOf(latencies, n * 2);
+                latencies[n++] = t1 - t0;
+                if (response.statusCode() == 200) {
+                    ok.incrementAndGet();
+                    etags[p] = response.headers().firstValue("ETag").orElse(null);
+                } else if (response.statusCode() == 304) {
+                    notModified.incrementAndGet();
+                } else {
+                    errors.incrementAndGet();
+                }
+            } catch (IOException e) {
+                if (errors.incrementAndGet() == 1) System.out.println("First error: " + e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return Arrays.copyOf(latencies, n);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
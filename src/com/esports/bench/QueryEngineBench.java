@@ -0,0 +1,94 @@
+package com.esports.bench;
+
+import com.esports.io.FileIO;
+import com.esports.logic.MatchColumns;
+import com.esports.logic.MatchManagement;
+import com.esports.logic.MatchQueries;
+import com.esports.logic.QueryResult;
+import com.esports.model.Game;
+import com.esports.model.Gamer;
+import com.esports.model.Match;
+
+import java.util.Random;
+
+/**
+ * Micro-benchmark: MatchQuery column scans vs. hand-written loops over the Match[][] grid.
+ * Usage: QueryEngineBench [gamers] [iterations]
+ * Gamers are synthetic (random experience); games come from src/resources/games.csv.
+ */
+public class QueryEngineBench {
+
+    public static void main(String[] args) {
+        int gamerCount = (args.length > 0) ? Integer.parseInt(args[0]) : 200_000;
+        int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 10;
+
+        Game[] games = FileIO.readGames("src/resources/games.csv");
+        Random rng = new Random(1);
+        Gamer[] gamers = new Gamer[gamerCount];
+        for (int i = 0; i < gamerCount; i++) {
+            gamers[i] = new Gamer(i + 1, "G" + i, "Gamer " + i, "", rng.nextInt(16));
+        }
+        MatchManagement mm = new MatchManagement(gamers, games, new Random(2));
+        mm.simulateTournament();
+        Match[][] grid = mm.getAllGamerMatches();
+
+        long t0 = System.nanoTime();
+        MatchColumns cols = MatchColumns.from(mm.getPackedSeason());
+        System.out.printf("Matches: %d, column build: %.1f ms%n", cols.rowCount(), (System.nanoTime() - t0) / 1e6);
+
+        int cs2 = cols.gameIndexOfName("CS2");
+        int targetGameId = games[Math.max(cs2, 0)].getId();
+
+        for (int it = 0; it < iterations; it++) {
+            // 1) Total points
+            long a = System.nanoTime();
+            long gridTotal = 0;
+            for (Match[] row : grid) for (Match m : row) gridTotal += m.getMatchPoints();
+            long b = System.nanoTime();
+            QueryResult total = MatchQueries.totalTournamentPoints(cols).run();
+            long c = System.nanoTime();
+
+            // 2) Average points by game
+            long[] sums = new long[games.length];
+            long[] counts = new long[games.length];
+            for (Match[] row : grid) {
+                for (Match m : row) {
+                    for (Game g : m.getGames()) { // defensive copies, as callers see them today
+                        for (int k = 0; k < games.length; k++) {
+                            if (games[k].getId() == g.getId()) {
+                                sums[k] += m.getMatchPoints();
+                                counts[k]++;
+                            }
+                        }
+                    }
+                }
+            }
+            long d = System.nanoTime();
+            QueryResult byGame = MatchQueries.averagePointsByGame(cols).run();
+            long e = System.nanoTime();
+
+            // 3) Top 10 where rounds of CS2 >= 8
+            int best = -1;
+            for (Match[] row : grid) {
+                for (Match m : row) {
+                    Game[] gs = m.getGames();
+                    int[] rs = m.getRounds();
+                    for (int k = 0; k < 3; k++) {
+                        if (gs[k].getId() == targetGameId && rs[k] >= 8) best = Math.max(best, m.getMatchPoints());
+                    }
+                }
+            }
+            long f = System.nanoTime();
+            QueryResult top = MatchQueries.topMatchesWithGameRounds(cols, Math.max(cs2, 0), 8, 10).run();
+            long g = System.nanoTime();
+
+            if (total.getLong(0, 0) != gridTotal || byGame.rowCount() != games.length
+                    || (top.rowCount() > 0 && top.getLong(0, 2) != best)) {
+                throw new IllegalStateException("Engine and grid results differ");
+            }
+            System.out.printf("iter %d  total: grid %.1f ms / engine %.1f ms | by game: grid %.1f ms / engine %.1f ms"
+                            + " | top10: grid %.1f ms / engine %.1f ms%n",
+                    it, (b - a) / 1e6, (c - b) / 1e6, (d - c) / 1e6, (e - d) / 1e6, (f - e) / 1e6, (g - f) / 1e6);
+        }
+    }
+}
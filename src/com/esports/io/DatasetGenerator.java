@@ -0,0 +1,378 @@
+package com.esports.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/**
+ * Deterministic generator for large synthetic games.csv / gamers.csv files
+ * (same header and column layout as the bundled resources).
+ * - same seed + settings → byte-identical files
+ * - experience distribution and base-point range are configurable
+ * - a fraction of rows can be replaced by malformed or blank rows, to exercise
+ *   the skip paths in FileIO
+ * Rows are formatted straight into a 1 MB direct buffer and written through a FileChannel.
+ *
+ * Usage: DatasetGenerator &lt;outDir&gt; &lt;gamers&gt; &lt;games&gt; [seed]
+ *        [--experience uniform|junior|veteran|normal] [--max-experience n]
+ *        [--base-points min max] [--malformed rate] [--blank rate]
+ */
+public final class DatasetGenerator {
+
+    /** Shape of the ExperienceYears column (values in 0..maxExperience). */
+    public enum ExperienceDistribution { UNIFORM, JUNIOR, VETERAN, NORMAL }
+
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final int MAX_ROW_BYTES = 256;
+
+    private static final String[] FIRST_NAMES = {
+            "Ava", "Emma", "Charlotte", "Olivia", "Isabella", "Sophia", "Mia", "Amelia", "Harper", "Evelyn",
+            "Liam", "Noah", "Oliver", "Elijah", "James", "William", "Benjamin", "Lucas", "Henry", "Alexander",
+            "Mehmet", "Ayse", "Elif", "Can", "Zeynep", "Emre", "Deniz", "Ece", "Burak", "Selin"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Taylor", "Thomas", "Gonzalez", "Rodriguez", "Johnson", "Williams", "Brown", "Jones",
+            "Garcia", "Miller", "Davis", "Martinez", "Hernandez", "Lopez", "Wilson", "Anderson", "Moore",
+            "Yilmaz", "Kaya", "Demir", "Sahin", "Celik", "Ozturk", "Aydin", "Arslan", "Dogan", "Kilic"
+    };
+    private static final String[] NICKNAMES = {
+            "Echo", "Spark", "Shadow", "Falcon", "Claw", "Viper", "Blaze", "Ghost", "Nova", "Raven",
+            "Frost", "Titan", "Storm", "Pixel", "Rogue", "Zephyr", "Onyx", "Jinx", "Bolt", "Mystic"
+    };
+    private static final String[] GAME_NAMES = {
+            "Valorant", "League of Legends", "CS2", "Overwatch", "Fortnite", "PUBG", "Apex Legends",
+            "Dota2", "Rocket League", "Call of Duty", "Rainbow Six", "StarCraft II", "Hearthstone",
+            "Tekken 8", "Street Fighter 6", "Smite", "Halo Infinite", "FIFA", "Brawl Stars", "Warzone"
+    };
+
+    private final long seed;
+    private final ExperienceDistribution experienceDistribution;
+    private final int maxExperience;
+    private final int minBasePoints;
+    private final int maxBasePoints;
+    private final double malformedRate;
+    private final double blankRate;
+
+    private DatasetGenerator(Builder b) {
+        this.seed = b.seed;
+        this.experienceDistribution = b.experienceDistribution;
+        this.maxExperience = b.maxExperience;
+        this.minBasePoints = b.minBasePoints;
+        this.maxBasePoints = b.maxBasePoints;
+        this.malformedRate = b.malformedRate;
+        this.blankRate = b.blankRate;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // ---------------- games.csv ----------------
+
+    /** Writes a games.csv with the given number of data rows (IDs 1..count, before injection). */
+    public Stats writeGames(Path path, int count) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        Random rng = new Random(seed ^ 0x5DEECE66DL);
+        Stats stats = new Stats();
+        try (Out out = new Out(path)) {
+            out.ascii("ID,GameName,BasePointPerRound").newline();
+            for (int id = 1; id <= count; id++) {
+                if (injectSpecialRow(out, rng, stats, true)) continue;
+                String name = GAME_NAMES[(id - 1) % GAME_NAMES.length];
+                int round = (id - 1) / GAME_NAMES.length;
+                out.integer(id).comma().ascii(name);
+                if (round > 0) out.ascii(" ").integer(round + 1);
+                out.comma().integer(minBasePoints + rng.nextInt(maxBasePoints - minBasePoints + 1)).newline();
+                stats.validRows++;
+            }
+        }
+        return stats;
+    }
+
+    // ---------------- gamers.csv ----------------
+
+    /** Writes a gamers.csv with the given number of data rows (IDs 1..count, before injection). */
+    public Stats writeGamers(Path path, long count) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        Random rng = new Random(seed);
+        Stats stats = new Stats();
+        try (Out out = new Out(path)) {
+            out.ascii("ID,Nickname,Name,Phone,ExperienceYears").newline();
+            for (long id = 1; id <= count; id++) {
+                if (injectSpecialRow(out, rng, stats, false)) continue;
+                out.integer(id).comma()
+                        .ascii(NICKNAMES[rng.nextInt(NICKNAMES.length)]).integer(id).comma()
+                        .ascii(FIRST_NAMES[rng.nextInt(FIRST_NAMES.length)]).ascii(" ")
+                        .ascii(LAST_NAMES[rng.nextInt(LAST_NAMES.length)]).comma()
+                        .ascii("555-").digits(rng.nextInt(1000), 3).ascii("-").digits(rng.nextInt(10000), 4).comma()
+                        .integer(nextExperience(rng)).newline();
+                stats.validRows++;
+            }
+        }
+        return stats;
+    }
+
+    // ---------------- Helpers ----------------
+
+    private int nextExperience(Random rng) {
+        double u = rng.nextDouble();
+        switch (experienceDistribution) {
+            case JUNIOR:
+                return (int) (u * u * (maxExperience + 1));
+            case VETERAN:
+                return maxExperience - (int) (u * u * (maxExperience + 1));
+            case NORMAL:
+                long v = Math.round(maxExperience / 2.0 + rng.nextGaussian() * maxExperience / 6.0);
+                return (int) Math.max(0, Math.min(maxExperience, v));
+            default:
+                return (int) (u * (maxExperience + 1));
+        }
+    }
+
+    /**
+     * With probability blankRate / malformedRate replaces the current row.
+     * @return true when a special row was written instead of a valid one
+     */
+    private boolean injectSpecialRow(Out out, Random rng, Stats stats, boolean games) throws IOException {
+        double r = rng.nextDouble();
+        if (r < blankRate) {
+            out.ascii(rng.nextBoolean() ? "" : "   ").newline();
+            stats.blankRows++;
+            return true;
+        }
+        if (r < blankRate + malformedRate) {
+            if (games) {
+                switch (rng.nextInt(4)) {
+                    case 0: out.ascii("x,Broken Game,10"); break;      // Non-numeric ID
+                    case 1: out.ascii("7,Broken Game"); break;         // Missing column
+                    case 2: out.ascii("8,Broken Game,-5"); break;      // Negative base points
+                    default: out.ascii("9,,12"); break;                // Empty name
+                }
+            } else {
+                switch (rng.nextInt(5)) {
+                    case 0: out.ascii("abc,Broken,Nobody Here,555-000-0000,3"); break; // Non-numeric ID
+                    case 1: out.ascii("12,Broken,Nobody Here"); break;                 // Missing columns
+                    case 2: out.ascii("13,Broken,Nobody Here,555-000-0000,many"); break; // Bad experience
+                    case 3: out.ascii("-4,Broken,Nobody Here,555-000-0000,2"); break;  // Negative ID
+                    default: out.ascii("15,,Nobody Here,555-000-0000,2"); break;       // Empty nickname
+                }
+            }
+            out.newline();
+            stats.malformedRows++;
+            return true;
+        }
+        return false;
+    }
+
+    /** Row counts of one generated file. */
+    public static final class Stats {
+        private long validRows;
+        private long malformedRows;
+        private long blankRows;
+
+        public long getValidRows() {
+            return validRows;
+        }
+
+        public long getMalformedRows() {
+            return malformedRows;
+        }
+
+        public long getBlankRows() {
+            return blankRows;
+        }
+
+        @Override
+        public String toString() {
+            return validRows + " valid, " + malformedRows + " malformed, " + blankRows + " blank rows";
+        }
+    }
+
+    /** Minimal ASCII formatter over a direct buffer + FileChannel. */
+    private static final class Out implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+        Out(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        Out ascii(String s) throws IOException {
+            ensure(s.length());
+            for (int i = 0; i < s.length(); i++) buf.put((byte) s.charAt(i));
+            return this;
+        }
+
+        Out comma() throws IOException {
+            ensure(1);
+            buf.put((byte) ',');
+            return this;
+        }
+
+        Out newline() throws IOException {
+            ensure(1);
+            buf.put((byte) '\n');
+            return this;
+        }
+
+        Out integer(long v) throws IOException {
+            ensure(20);
+            if (v < 0) {
+                buf.put((byte) '-');
+                v = -v;
+            }
+            int start = buf.position();
+            do {
+                buf.put((byte) ('0' + (v % 10)));
+                v /= 10;
+            } while (v != 0);
+            for (int i = start, j = buf.position() - 1; i < j; i++, j--) { // Digits were written reversed
+                byte t = buf.get(i);
+                buf.put(i, buf.get(j));
+                buf.put(j, t);
+            }
+            return this;
+        }
+
+        /** Zero-padded to width digits. */
+        Out digits(int v, int width) throws IOException {
+            ensure(width);
+            int start = buf.position();
+            for (int p = width - 1; p >= 0; p--, v /= 10) {
+                buf.put(start + p, (byte) ('0' + v % 10));
+            }
+            buf.position(start + width);
+            return this;
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buf.remaining() < Math.max(bytes, MAX_ROW_BYTES)) drain();
+        }
+
+        private void drain() throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) channel.write(buf);
+            buf.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                drain();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /** Settings for a DatasetGenerator; defaults match the bundled files' ranges. */
+    public static final class Builder {
+        private long seed = 42L;
+        private ExperienceDistribution experienceDistribution = ExperienceDistribution.UNIFORM;
+        private int maxExperience = 15;
+        private int minBasePoints = 9;
+        private int maxBasePoints = 18;
+        private double malformedRate;
+        private double blankRate;
+
+        private Builder() {
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder experience(ExperienceDistribution distribution, int maxExperience) {
+            if (distribution == null) {
+                throw new IllegalArgumentException("distribution cannot be null");
+            }
+            if (maxExperience < 0) {
+                throw new IllegalArgumentException("maxExperience must be >= 0");
+            }
+            this.experienceDistribution = distribution;
+            this.maxExperience = maxExperience;
+            return this;
+        }
+
+        public Builder basePoints(int min, int max) {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Base point range must satisfy 0 <= min <= max");
+            }
+            this.minBasePoints = min;
+            this.maxBasePoints = max;
+            return this;
+        }
+
+        /** Fractions (0..1) of data rows replaced by malformed / blank rows. */
+        public Builder injectRows(double malformedRate, double blankRate) {
+            if (malformedRate < 0 || blankRate < 0 || malformedRate + blankRate > 1) {
+                throw new IllegalArgumentException("Injection rates must be >= 0 and sum to <= 1");
+            }
+            this.malformedRate = malformedRate;
+            this.blankRate = blankRate;
+            return this;
+        }
+
+        public DatasetGenerator build() {
+            return new DatasetGenerator(this);
+        }
+    }
+
+    // ---------------- Command line ----------------
+
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.out.println("Usage: DatasetGenerator <outDir> <gamers> <games> [seed]"
+                    + " [--experience uniform|junior|veteran|normal] [--max-experience n]"
+                    + " [--base-points min max] [--malformed rate] [--blank rate]");
+            return;
+        }
+        try {
+            Path dir = Paths.get(args[0]);
+            long gamers = Long.parseLong(args[1]);
+            int games = Integer.parseInt(args[2]);
+            Builder b = builder();
+            ExperienceDistribution dist = ExperienceDistribution.UNIFORM;
+            int maxExperience = 15;
+            double malformed = 0;
+            double blank = 0;
+            for (int i = 3; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--experience": dist = ExperienceDistribution.valueOf(args[++i].toUpperCase()); break;
+                    case "--max-experience": maxExperience = Integer.parseInt(args[++i]); break;
+                    case "--base-points": b.basePoints(Integer.parseInt(args[++i]), Integer.parseInt(args[++i])); break;
+                    case "--malformed": malformed = Double.parseDouble(args[++i]); break;
+                    case "--blank": blank = Double.parseDouble(args[++i]); break;
+                    default: b.seed(Long.parseLong(args[i]));
+                }
+            }
+            DatasetGenerator generator = b.experience(dist, maxExperience).injectRows(malformed, blank).build();
+
+            Files.createDirectories(dir);
+            long start = System.nanoTime();
+            Stats gameStats = generator.writeGames(dir.resolve("games.csv"), games);
+            Stats gamerStats = generator.writeGamers(dir.resolve("gamers.csv"), gamers);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            long bytes = Files.size(dir.resolve("games.csv")) + Files.size(dir.resolve("gamers.csv"));
+            System.out.println("games.csv:  " + gameStats);
+            System.out.println("gamers.csv: " + gamerStats);
+            System.out.println("Wrote " + bytes + " bytes in " + millis + " ms to " + dir.toAbsolutePath());
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.out.println("DatasetGenerator error: invalid arguments (" + e.getMessage() + ")");
+        } catch (IOException e) {
+            System.out.println("DatasetGenerator error: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.esports.io;
+
+import com.esports.logic.PointsBoard;
+import com.esports.model.Gamer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * External merge sort of (total, gamerId) records into a ranked leaderboard file,
+ * for result sets that do not fit in the heap.
+ * - add() buffers records as sortable longs; a full buffer is sorted and spilled as a run
+ * - finish() k-way merges the runs with a binary heap (several passes if there are more
+ *   runs than the budget allows to be open at once) into the ranked file + sparse index
+ * Ranking: total descending, then gamerId ascending.
+ * Memory stays within memoryBudgetBytes: the run buffer during add(), the per-run read
+ * buffers plus one write buffer during merging (the sparse index adds 4 bytes per
+ * indexInterval records). Runs live in tempDir and are deleted by finish() / close().
+ * See RankedLeaderboardFile for the output layout and lookups.
+ */
+public final class ExternalLeaderboardSorter implements Closeable {
+
+    public static final long MIN_MEMORY_BUDGET = 256 * 1024;
+    public static final int DEFAULT_INDEX_INTERVAL = 1024;
+
+    private static final int MIN_BLOCK_BYTES = 16 * 1024;
+    private static final int MAX_BLOCK_BYTES = 1 << 20;
+    private static final int SPILL_BLOCK_BYTES = 64 * 1024;
+
+    private final Path tempDir;
+    private final long memoryBudget;
+    private long[] buffer;                // Keys of the run being collected (released at finish)
+    private int buffered;
+    private final List<Path> runs = new ArrayList<>();
+    private long count;
+    private boolean finished;
+
+    /**
+     * @param tempDir      directory for spilled runs (must exist)
+     * @param memoryBudget bytes available for buffers (at least MIN_MEMORY_BUDGET)
+     */
+    public ExternalLeaderboardSorter(Path tempDir, long memoryBudget) {
+        if (tempDir == null || !Files.isDirectory(tempDir)) {
+            throw new IllegalArgumentException("tempDir must be an existing directory");
+        }
+        if (memoryBudget < MIN_MEMORY_BUDGET) {
+            throw new IllegalArgumentException("memoryBudget must be >= " + MIN_MEMORY_BUDGET + " bytes");
+        }
+        this.tempDir = tempDir;
+        this.memoryBudget = memoryBudget;
+        long keys = (memoryBudget - SPILL_BLOCK_BYTES) / Long.BYTES;
+        this.buffer = new long[(int) Math.min(keys, Integer.MAX_VALUE - 8)];
+    }
+
+    // ---------------- Input ----------------
+
+    public void add(int total, int gamerId) throws IOException {
+        if (finished) throw new IllegalStateException("Sorter already finished");
+        if (buffered == buffer.length) spillRun();
+        buffer[buffered++] = toKey(total, gamerId);
+        count++;
+    }
+
+    /** Adds every gamer of a board with its season total. */
+    public void addAll(PointsBoard board) throws IOException {
+        if (board == null) {
+            throw new IllegalArgumentException("board cannot be null");
+        }
+        Gamer[] gamers = board.getGamers();
+        int[] totals = board.getAllTotalPoints();
+        for (int i = 0; i < gamers.length; i++) {
+            add(totals[i], gamers[i].getId());
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /** Runs spilled so far (the in-memory tail becomes one more run at finish()). */
+    public int getRunCount() {
+        return runs.size();
+    }
+
+    // ---------------- Output ----------------
+
+    /**
+     * Merges everything added so far into output and writes its sparse index
+     * (RankedLeaderboardFile.indexPathFor(output)).
+     * @param indexInterval one index entry every indexInterval ranks
+     * @return the ranked file, opened for lookups
+     */
+    public RankedLeaderboardFile finish(Path output, int indexInterval) throws IOException {
+        if (finished) throw new IllegalStateException("Sorter already finished");
+        if (output == null || indexInterval < 1) {
+            throw new IllegalArgumentException("output cannot be null and indexInterval must be >= 1");
+        }
+        finished = true;
+        if (buffered > 0 || runs.isEmpty()) spillRun();
+        buffer = null; // The merge gets the whole budget
+
+        int maxFanIn = (int) Math.min(Integer.MAX_VALUE, Math.max(2, memoryBudget / MIN_BLOCK_BYTES - 1));
+        while (runs.size() > maxFanIn) {
+            // Intermediate pass: merge the oldest maxFanIn runs into one.
+            List<Path> group = new ArrayList<>(runs.subList(0, maxFanIn));
+            Path merged = Files.createTempFile(tempDir, "leaderboard-run", ".bin");
+            int block = blockBytes(group.size());
+            try (RunWriter writer = new RunWriter(merged, block)) {
+                merge(group, block, writer);
+            }
+            deleteAll(group);
+            runs.subList(0, maxFanIn).clear();
+            runs.add(merged);
+        }
+
+        int block = blockBytes(runs.size());
+        try (RankedLeaderboardFile.Writer writer = RankedLeaderboardFile.create(output, count, indexInterval, block)) {
+            merge(runs, block, writer);
+        } finally {
+            deleteAll(runs);
+            runs.clear();
+        }
+        return RankedLeaderboardFile.open(output);
+    }
+
+    /** Deletes any remaining run files. */
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        buffer = null;
+        deleteAll(runs);
+        runs.clear();
+    }
+
+    // ---------------- Internals ----------------
+
+    /** Receives merged keys in rank order. */
+    interface KeySink {
+        void accept(long key) throws IOException;
+    }
+
+    /** Sortable key: ~total in the high half (descending), gamerId in the low half (ascending). */
+    static long toKey(int total, int gamerId) {
+        return ((long) ~total << 32) | (gamerId & 0xFFFFFFFFL);
+    }
+
+    static int totalOf(long key) {
+        return ~(int) (key >> 32);
+    }
+
+    static int gamerIdOf(long key) {
+        return (int) key;
+    }
+
+    private void spillRun() throws IOException {
+        Arrays.sort(buffer, 0, buffered);
+        Path run = Files.createTempFile(tempDir, "leaderboard-run", ".bin");
+        runs.add(run);
+        try (RunWriter writer = new RunWriter(run, SPILL_BLOCK_BYTES)) {
+            for (int i = 0; i < buffered; i++) writer.accept(buffer[i]);
+        }
+        buffered = 0;
+    }
+
+    /** Per-stream buffer size when `streams` inputs + one output share the budget. */
+    private int blockBytes(int streams) {
+        long share = memoryBudget / (streams + 1);
+        long block = Math.max(MIN_BLOCK_BYTES, Math.min(MAX_BLOCK_BYTES, share));
+        return (int) (block / Long.BYTES * Long.BYTES);
+    }
+
+    /** K-way merge with a binary min-heap of run cursors keyed on their current key. */
+    private static void merge(List<Path> inputs, int block, KeySink sink) throws IOException {
+        RunReader[] heap = new RunReader[inputs.size()];
+        int size = 0;
+        try {
+            for (Path p : inputs) {
+                RunReader r = new RunReader(p, block);
+                if (r.advance()) heap[size++] = r;
+                else r.close();
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) siftDown(heap, i, size);
+            while (size > 0) {
+                RunReader top = heap[0];
+                sink.accept(top.current);
+                if (!top.advance()) {
+                    top.close();
+                    heap[0] = heap[--size];
+                    heap[size] = null;
+                }
+                siftDown(heap, 0, size);
+            }
+        } finally {
+            for (int i = 0; i < size; i++) heap[i].close();
+        }
+    }
+
+    private static void siftDown(RunReader[] heap, int i, int size) {
+        RunReader item = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && heap[child + 1].current < heap[child].current) child++;
+            if (heap[child].current >= item.current) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = item;
+    }
+
+    private static void deleteAll(List<Path> paths) throws IOException {
+        for (Path p : paths) Files.deleteIfExists(p);
+    }
+
+    /** Sequential reader of one run (raw big-endian keys). */
+    private static final class RunReader implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buf;
+        private long current;
+
+        RunReader(Path path, int block) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buf = ByteBuffer.allocateDirect(block);
+            this.buf.flip();
+        }
+
+        boolean advance() throws IOException {
+            if (buf.remaining() < Long.BYTES) {
+                buf.compact();
+                while (buf.position() < Long.BYTES) {
+                    if (channel.read(buf) < 0) break;
+                }
+                buf.flip();
+                if (buf.remaining() < Long.BYTES) return false;
+            }
+            current = buf.getLong();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /** Buffered writer of one run. */
+    private static final class RunWriter implements KeySink, Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buf;
+
+        RunWriter(Path path, int block) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.buf = ByteBuffer.allocateDirect(block);
+        }
+
+        @Override
+        public void accept(long key) throws IOException {
+            if (buf.remaining() < Long.BYTES) drain();
+            buf.putLong(key);
+        }
+
+        private void drain() throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) channel.write(buf);
+            buf.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                drain();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
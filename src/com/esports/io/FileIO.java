@@ -2,16 +2,40 @@ package com.esports.io;
 
 import com.esports.model.Game;
 import com.esports.model.Gamer;
+import com.esports.model.GamerTable;
 
 import java.io.BufferedReader;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
+/**
+ * CSV readers for games.csv and gamers.csv.
+ * Inputs: a plain file, a gzip file (name ending in ".gz", decompressed while reading)
+ * or "-" for standard input (e.g. a pipe). Compressed and piped inputs cannot be read
+ * twice, so readGames / readGamers load them in a single pass into growing arrays;
+ * plain files keep the count + fill passes that allocate the exact array size.
+ */
 public final class FileIO {
 
+    /** Path that stands for standard input. */
+    public static final String STDIN = "-";
+
+    private static final int STREAM_BUFFER_BYTES = 1 << 16;
+
     // ---------------- games.csv ----------------
     public static Game[] readGames(String path) {
+        if (isSinglePass(path)) {
+            return readGamesSinglePass(path);
+        }
         int count = 0;
 
         // 1) Count Pass
@@ -42,25 +66,8 @@ public final class FileIO {
             br.readLine(); // Header
             String line;
             while ((line = br.readLine()) != null) {
-                if (isBlank(line)) continue;
-
-                String[] p = line.split(",", -1); // ID, Name, BasePoint
-                if (p.length < 3) continue;
-
-                try {
-                    int id   = parseInt(p[0]);
-                    String name = trim(p[1]);
-                    int base = parseInt(p[2]);
-
-                    // --- Minimal validations defensive ---
-                    if (id < 0) continue;         // no negative ID
-                    if (base < 0) continue;       // no negative base points
-                    if (name.isEmpty()) continue; // skip empty name
-
-                    out[i++] = new Game(id, name, base);
-                } catch (NumberFormatException ex) {
-                    // Skip malformed line
-                }
+                Game game = parseGame(line);
+                if (game != null) out[i++] = game;
             }
         } catch (IOException e) {
             System.out.println("ReadGames fill error: " + e.getMessage());
@@ -76,8 +83,31 @@ public final class FileIO {
         return out;
     }
 
+    /** Single-pass variant of readGames for compressed / piped input. */
+    private static Game[] readGamesSinglePass(String path) {
+        Game[] out = new Game[16];
+        int i = 0;
+        try (BufferedReader br = openReader(path)) {
+            br.readLine(); // Header
+            String line;
+            while ((line = br.readLine()) != null) {
+                Game game = parseGame(line);
+                if (game == null) continue;
+                if (i == out.length) out = Arrays.copyOf(out, i * 2);
+                out[i++] = game;
+            }
+        } catch (IOException e) {
+            System.out.println("ReadGames error: " + e.getMessage());
+            return new Game[0];
+        }
+        return (i == out.length) ? out : Arrays.copyOf(out, i);
+    }
+
     // ---------------- gamers.csv ----------------
     public static Gamer[] readGamers(String path) {
+        if (isSinglePass(path)) {
+            return readGamersSinglePass(path);
+        }
         int count = 0;
 
         // 1) Count Pass 
@@ -110,26 +140,8 @@ public final class FileIO {
             while ((line = br.readLine()) != null) {
                 if (isBlank(line)) continue;
 
-                String[] p = line.split(",", -1); // ID, Nickname, Name, Phone, ExperienceYears
-                if (p.length < 5) continue;
-
-                try {
-                    int id       = parseInt(p[0]);
-                    String nick  = trim(p[1]);
-                    String name  = trim(p[2]);
-                    String phone = trim(p[3]);
-                    int exp      = parseInt(p[4]);
-
-                    // --- Minimal validations defensive ---
-                    if (id < 0) continue;        // no negative ID
-                    if (exp < 0) exp = 0;        // negative exp -> clamp to 0
-                    if (nick.isEmpty()) continue;
-                    if (name.isEmpty()) continue;
-
-                    out[i++] = new Gamer(id, nick, name, phone, exp);
-                } catch (NumberFormatException ex) {
-                    // Skip malformed line
-                }
+                Gamer gamer = parseGamer(line);
+                if (gamer != null) out[i++] = gamer;
             }
         } catch (IOException e) {
             System.out.println("readGamers fill error: " + e.getMessage());
@@ -145,6 +157,231 @@ public final class FileIO {
         return out;
     }
 
+    /** Single-pass variant of readGamers for compressed / piped input. */
+    private static Gamer[] readGamersSinglePass(String path) {
+        Gamer[] out = new Gamer[1024];
+        int i = 0;
+        try (BufferedReader br = openReader(path)) {
+            br.readLine(); // Header
+            String line;
+            while ((line = br.readLine()) != null) {
+                Gamer gamer = parseGamer(line);
+                if (gamer == null) continue;
+                if (i == out.length) out = Arrays.copyOf(out, i + (i >> 1));
+                out[i++] = gamer;
+            }
+        } catch (IOException e) {
+            System.out.println("readGamers error: " + e.getMessage());
+            return new Gamer[0];
+        }
+        return (i == out.length) ? out : Arrays.copyOf(out, i);
+    }
+
+    /**
+     * Single-pass streaming read of gamers.csv: hands out the valid rows in file order,
+     * batchSize gamers at a time (the last batch may be shorter).
+     * @return total number of gamers delivered, or -1 if the file could not be read
+     */
+    public static long readGamersInBatches(String path, int batchSize, Consumer<Gamer[]> sink) {
+        if (batchSize < 1 || sink == null) {
+            throw new IllegalArgumentException("batchSize must be >= 1 and sink cannot be null");
+        }
+        long delivered = 0;
+        Gamer[] batch = new Gamer[batchSize];
+        int n = 0;
+
+        try (BufferedReader br = openReader(path)) {
+            br.readLine(); // Header
+            String line;
+            while ((line = br.readLine()) != null) {
+                Gamer gamer = parseGamer(line);
+                if (gamer == null) continue;
+                batch[n++] = gamer;
+                if (n == batchSize) {
+                    sink.accept(batch);
+                    delivered += n;
+                    batch = new Gamer[batchSize];
+                    n = 0;
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("readGamersInBatches error: " + e.getMessage());
+            return -1;
+        }
+        if (n > 0) {
+            Gamer[] last = new Gamer[n];
+            System.arraycopy(batch, 0, last, 0, n);
+            sink.accept(last);
+            delivered += n;
+        }
+        return delivered;
+    }
+
+    /**
+     * Same result as readGamers(path), but parses the file on all cores.
+     * See ParallelGamerLoader for how the file is split. Compressed and piped inputs
+     * cannot be split, so they fall back to the single-pass reader.
+     */
+    public static Gamer[] readGamersParallel(String path) {
+        if (isSinglePass(path)) {
+            return readGamersSinglePass(path);
+        }
+        try {
+            return ParallelGamerLoader.load(path);
+        } catch (IOException e) {
+            System.out.println("readGamersParallel error: " + e.getMessage());
+            return new Gamer[0];
+        }
+    }
+
+    /**
+     * Reads gamers.csv straight into a columnar GamerTable (same rows and order as
+     * readGamers), without creating a Gamer object per row.
+     */
+    public static GamerTable readGamerTable(String path) {
+        GamerTable.Builder builder = new GamerTable.Builder(1024);
+        String[] text = new String[3];
+        int[] nums = new int[2];
+
+        try (BufferedReader br = openReader(path)) {
+            br.readLine(); // Header
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (parseGamerRow(line, text, nums)) {
+                    builder.add(nums[0], text[0], text[1], text[2], nums[1]);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("readGamerTable error: " + e.getMessage());
+            return new GamerTable.Builder(0).build();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Maps gamers.csv and parses only the numeric columns (see LazyGamerTable);
+     * text fields are decoded when first read. Same rows and order as readGamers.
+     * Returns null if the file could not be opened.
+     */
+    public static LazyGamerTable readLazyGamerTable(String path) {
+        try {
+            return LazyGamerTable.open(Paths.get(path));
+        } catch (IOException e) {
+            System.out.println("readLazyGamerTable error: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Opens path for reading as UTF-8 text: "-" is standard input (left open on close),
+     * "*.gz" is decompressed on the fly. Large buffers on both the byte and char side.
+     */
+    public static BufferedReader openReader(String path) throws IOException {
+        if (path == null) {
+            throw new IOException("No input path given");
+        }
+        InputStream in;
+        if (STDIN.equals(path)) {
+            in = new FilterInputStream(System.in) {
+                @Override
+                public void close() {
+                    // Keep System.in usable for the rest of the process
+                }
+            };
+        } else {
+            in = new FileInputStream(path);
+            if (isGzip(path)) {
+                try {
+                    in = new GZIPInputStream(in, STREAM_BUFFER_BYTES);
+                } catch (IOException e) {
+                    in.close();
+                    throw e;
+                }
+            }
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), STREAM_BUFFER_BYTES);
+    }
+
+    /** True for inputs that can only be read once (stdin, gzip). */
+    public static boolean isSinglePass(String path) {
+        return STDIN.equals(path) || isGzip(path);
+    }
+
+    private static boolean isGzip(String path) {
+        return path != null && path.toLowerCase(Locale.ROOT).endsWith(".gz");
+    }
+
+    /**
+     * Parses one games.csv data row (ID, GameName, BasePointPerRound).
+     * Returns null for blank, short, malformed or invalid rows (they are skipped).
+     */
+    private static Game parseGame(String line) {
+        if (isBlank(line)) return null;
+
+        String[] p = line.split(",", -1); // ID, Name, BasePoint
+        if (p.length < 3) return null;
+
+        try {
+            int id   = parseInt(p[0]);
+            String name = trim(p[1]);
+            int base = parseInt(p[2]);
+
+            // --- Minimal validations defensive ---
+            if (id < 0) return null;         // no negative ID
+            if (base < 0) return null;       // no negative base points
+            if (name.isEmpty()) return null; // skip empty name
+
+            return new Game(id, name, base);
+        } catch (NumberFormatException ex) {
+            return null; // Skip malformed line
+        }
+    }
+
+    /**
+     * Parses one gamers.csv data row (ID, Nickname, Name, Phone, ExperienceYears).
+     * Returns null for blank, short, malformed or invalid rows (they are skipped).
+     */
+    static Gamer parseGamer(String line) {
+        String[] text = new String[3];
+        int[] nums = new int[2];
+        if (!parseGamerRow(line, text, nums)) return null;
+        return new Gamer(nums[0], text[0], text[1], text[2], nums[1]);
+    }
+
+    /**
+     * Row parser shared by all gamer loaders.
+     * On success fills text = {nickname, name, phone} and nums = {id, exp} and returns true.
+     */
+    private static boolean parseGamerRow(String line, String[] text, int[] nums) {
+        if (isBlank(line)) return false;
+
+        String[] p = line.split(",", -1); // ID, Nickname, Name, Phone, ExperienceYears
+        if (p.length < 5) return false;
+
+        try {
+            int id       = parseInt(p[0]);
+            String nick  = trim(p[1]);
+            String name  = trim(p[2]);
+            String phone = trim(p[3]);
+            int exp      = parseInt(p[4]);
+
+            // --- Minimal validations defensive ---
+            if (id < 0) return false;       // no negative ID
+            if (exp < 0) exp = 0;           // negative exp -> clamp to 0
+            if (nick.isEmpty()) return false;
+            if (name.isEmpty()) return false;
+
+            text[0] = nick;
+            text[1] = name;
+            text[2] = phone;
+            nums[0] = id;
+            nums[1] = exp;
+            return true;
+        } catch (NumberFormatException ex) {
+            return false; // Skip malformed line
+        }
+    }
+
     // ---------------- Helpers ----------------
     // blank line check
     private static boolean isBlank(String s) {
@@ -0,0 +1,337 @@
+package com.esports.io;
+
+import com.esports.model.Gamer;
+import com.esports.model.ScoringRules;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * gamers.csv mapped into memory, with only the numeric columns parsed at load.
+ * Per row on the heap: id, experienceYears and the row's byte offset in its mapped
+ * segment (12 bytes, plus up to 50% growth slack). Nickname, real name and phone stay in
+ * the file and are decoded (UTF-8, trimmed) on access; only the 1024 most recently
+ * read rows are cached.
+ * Rows and order are exactly those of FileIO.readGamers:
+ * - first line is the header; lines end at '\n', '\r' or "\r\n"
+ * - rows need 5 comma-separated fields, id >= 0, non-blank nickname and name
+ * - negative experience is clamped to 0
+ * Blank checks use String.trim() semantics on bytes (bytes <= ' ' are blank; UTF-8
+ * multi-byte characters never are), so no text is decoded to validate a row.
+ * Files larger than 2 GB are mapped as several segments split at line boundaries.
+ * Text access is synchronized; the numeric columns are immutable after open().
+ * Standalone structure: season code (MatchManagement, PointsBoard, Query) still takes a
+ * Gamer[], so a season run does not get this table's heap savings; use toGamer(index)
+ * for the rows a report prints.
+ */
+public final class LazyGamerTable implements Closeable {
+
+    private static final long SEGMENT_BYTES = 1L << 30;
+    private static final int FIELDS = 5;
+    private static final int INITIAL_ROWS = 1024;
+    private static final int DECODED_CACHE_ROWS = 1024;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final int[] segmentFirstRow;    // First row index stored in each segment
+    private final int size;
+    private final int[] ids;
+    private final int[] experienceYears;
+    private final int[] rowOffsets;         // Line start within the row's segment
+    private final Map<Integer, String[]> decoded = new LinkedHashMap<Integer, String[]>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, String[]> eldest) {
+            return size() > DECODED_CACHE_ROWS; // Least recently read row goes first
+        }
+    };
+
+    private LazyGamerTable(FileChannel channel, MappedByteBuffer[] segments, int[] segmentFirstRow,
+                           int size, int[] ids, int[] experienceYears, int[] rowOffsets) {
+        this.channel = channel;
+        this.segments = segments;
+        this.segmentFirstRow = segmentFirstRow;
+        this.size = size;
+        this.ids = ids;
+        this.experienceYears = experienceYears;
+        this.rowOffsets = rowOffsets;
+    }
+
+    /** Maps the file and parses the id / experience columns. Needs an uncompressed file. */
+    public static LazyGamerTable open(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+        if (FileIO.isSinglePass(path.toString())) {
+            throw new IOException("Cannot map " + path + ": use FileIO.readGamers for compressed or piped input");
+        }
+        FileChannel ch = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return load(ch);
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+            throw e;
+        }
+    }
+
+    private static LazyGamerTable load(FileChannel ch) throws IOException {
+        long fileSize = ch.size();
+        List<MappedByteBuffer> segs = new ArrayList<>();
+        List<Integer> firstRows = new ArrayList<>();
+        int[] ids = new int[INITIAL_ROWS];
+        int[] exps = new int[INITIAL_ROWS];
+        int[] offsets = new int[INITIAL_ROWS];
+        int n = 0;
+        int[] commas = new int[FIELDS];
+        long[] parsed = new long[2];
+
+        long segStart = 0;
+        boolean header = true;
+        while (segStart < fileSize) {
+            long segEnd = segmentEnd(ch, segStart, fileSize);
+            MappedByteBuffer b = ch.map(FileChannel.MapMode.READ_ONLY, segStart, segEnd - segStart);
+            segs.add(b);
+            firstRows.add(n);
+            int limit = b.limit();
+            int pos = 0;
+            while (pos < limit) {
+                int lineStart = pos;
+                int count = 0;
+                while (pos < limit) {
+                    byte x = b.get(pos);
+                    if (x == '\n' || x == '\r') break;
+                    if (x == ',' && count < FIELDS) commas[count++] = pos;
+                    pos++;
+                }
+                int lineEnd = pos;
+                if (pos < limit) {
+                    pos += (b.get(pos) == '\r' && pos + 1 < limit && b.get(pos + 1) == '\n') ? 2 : 1;
+                }
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                if (count < FIELDS - 1 || !parseNumbers(b, lineStart, lineEnd, commas, count, parsed)) continue;
+                if (isBlank(b, commas[0] + 1, commas[1]) || isBlank(b, commas[1] + 1, commas[2])) continue;
+
+                if (n == ids.length) {
+                    int cap = (int) Math.min(Integer.MAX_VALUE - 8, (long) n + (n >> 1) + 16);
+                    if (cap == n) throw new IOException("Too many gamer rows for one table");
+                    ids = Arrays.copyOf(ids, cap);
+                    exps = Arrays.copyOf(exps, cap);
+                    offsets = Arrays.copyOf(offsets, cap);
+                }
+                ids[n] = (int) parsed[0];
+                exps[n] = (int) parsed[1];
+                offsets[n] = lineStart;
+                n++;
+            }
+            segStart = segEnd;
+        }
+
+        int[] firstRow = new int[firstRows.size()];
+        for (int i = 0; i < firstRow.length; i++) firstRow[i] = firstRows.get(i);
+        // Columns keep their growth slack: trimming would need a second full copy at peak.
+        return new LazyGamerTable(ch, segs.toArray(new MappedByteBuffer[0]), firstRow, n, ids, exps, offsets);
+    }
+
+    /** End of the segment starting at start: just after a line break, at most SEGMENT_BYTES later. */
+    private static long segmentEnd(FileChannel ch, long start, long fileSize) throws IOException {
+        if (fileSize - start <= SEGMENT_BYTES) return fileSize;
+        long probe = start + SEGMENT_BYTES - 4096;
+        ByteBuffer buf = ByteBuffer.allocate(4096);
+        while (probe < fileSize) {
+            buf.clear();
+            int r = ch.read(buf, probe);
+            if (r <= 0) break;
+            for (int i = 0; i < r; i++) {
+                byte x = buf.get(i);
+                if (x == '\n') return probe + i + 1;
+                if (x == '\r') {
+                    // "\r\n" must stay in one segment
+                    if (i + 1 < r) return probe + i + (buf.get(i + 1) == '\n' ? 2 : 1);
+                    break; // Re-read from the '\r'
+                }
+            }
+            probe += (r > 1) ? r - 1 : r;
+        }
+        return fileSize; // No line break: the rest is one line
+    }
+
+    /** Parses id (field 0) and experience (field 4) into out; false for a row FileIO would skip. */
+    private static boolean parseNumbers(MappedByteBuffer b, int lineStart, int lineEnd, int[] commas, int count,
+                                        long[] out) {
+        int expEnd = (count >= FIELDS) ? commas[FIELDS - 1] : lineEnd;
+        long id = parseInt(b, lineStart, commas[0]);
+        long exp = parseInt(b, commas[3] + 1, expEnd);
+        if (id == Long.MIN_VALUE || exp == Long.MIN_VALUE || id < 0) return false;
+        out[0] = id;
+        out[1] = Math.max(exp, 0);
+        return true;
+    }
+
+    /**
+     * Integer.parseInt(trimmed field) on bytes; Long.MIN_VALUE when it would throw.
+     * Non-ASCII input goes through Integer.parseInt itself (it accepts other digit sets).
+     */
+    private static long parseInt(MappedByteBuffer b, int from, int to) {
+        while (from < to && (b.get(from) & 0xFF) <= ' ') from++;
+        while (to > from && (b.get(to - 1) & 0xFF) <= ' ') to--;
+        if (from == to) return Long.MIN_VALUE;
+        int i = from;
+        boolean negative = false;
+        byte first = b.get(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == to) return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            int c = b.get(i) & 0xFF;
+            if (c >= 0x80) return parseSlow(b, from, to);
+            int d = c - '0';
+            if (d < 0 || d > 9) return Long.MIN_VALUE;
+            value = value * 10 + d;
+            if (value > (long) Integer.MAX_VALUE + 1) return Long.MIN_VALUE;
+        }
+        value = negative ? -value : value;
+        return (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) ? Long.MIN_VALUE : value;
+    }
+
+    private static long parseSlow(MappedByteBuffer b, int from, int to) {
+        try {
+            return Integer.parseInt(decode(b, from, to).trim());
+        } catch (NumberFormatException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static boolean isBlank(MappedByteBuffer b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if ((b.get(i) & 0xFF) > ' ') return false;
+        }
+        return true;
+    }
+
+    private static String decode(MappedByteBuffer b, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        b.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ---------------- Numeric columns ----------------
+
+    public int size() {
+        return size;
+    }
+
+    public int getId(int index) {
+        checkIndex(index);
+        return ids[index];
+    }
+
+    public int getExperienceYears(int index) {
+        checkIndex(index);
+        return experienceYears[index];
+    }
+
+    /** Same rule as Gamer.getCappedExperienceForScoring(). */
+    public int getCappedExperienceForScoring(int index) {
+        return ScoringRules.active().capExperience(getExperienceYears(index));
+    }
+
+    /** The columns carry growth slack, so indices past size() must be rejected here. */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Gamer index out of range: " + index);
+        }
+    }
+
+    // ---------------- Text columns (decoded on first access) ----------------
+
+    public String getNickname(int index) {
+        return text(index)[0];
+    }
+
+    public String getRealName(int index) {
+        return text(index)[1];
+    }
+
+    public String getPhoneNumber(int index) {
+        return text(index)[2];
+    }
+
+    /** Rows whose decoded text is currently cached (at most 1024). */
+    public synchronized int getCachedRowCount() {
+        return decoded.size();
+    }
+
+    /** Materializes a Gamer for one row (decodes its text). */
+    public Gamer toGamer(int index) {
+        checkIndex(index);
+        String[] t = text(index);
+        return new Gamer(ids[index], t[0], t[1], t[2], experienceYears[index]);
+    }
+
+    /**
+     * Materializes every row (decodes all text, like FileIO.readGamers), for APIs that
+     * need a Gamer[]. Decoded text is not cached here.
+     */
+    public Gamer[] toGamers() {
+        Gamer[] out = new Gamer[size];
+        for (int i = 0; i < size; i++) {
+            String[] t = decodeRow(i);
+            out[i] = new Gamer(ids[i], t[0], t[1], t[2], experienceYears[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Approximate heap bytes of the parsed columns, growth slack included (the mapped file
+     * and the small decoded-text cache are not counted).
+     */
+    public long estimatedSizeBytes() {
+        return 4L * (ids.length + experienceYears.length + rowOffsets.length) + 4L * segmentFirstRow.length;
+    }
+
+    /** Closes the file; mapped segments are released once unreachable. */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private synchronized String[] text(int index) {
+        checkIndex(index);
+        return decoded.computeIfAbsent(index, this::decodeRow);
+    }
+
+    /** Re-scans one row for its field bounds and decodes nickname, name and phone. */
+    private String[] decodeRow(int index) {
+        int seg = Arrays.binarySearch(segmentFirstRow, index);
+        if (seg < 0) seg = -seg - 2;
+        while (seg + 1 < segmentFirstRow.length && segmentFirstRow[seg + 1] == index) seg++; // Skip empty segments
+        MappedByteBuffer b = segments[seg];
+        int pos = rowOffsets[index];
+        int[] commas = new int[FIELDS - 1];
+        int count = 0;
+        while (count < commas.length) {
+            if (b.get(pos) == ',') commas[count++] = pos;
+            pos++;
+        }
+        return new String[]{
+                decode(b, commas[0] + 1, commas[1]).trim(),
+                decode(b, commas[1] + 1, commas[2]).trim(),
+                decode(b, commas[2] + 1, commas[3]).trim()
+        };
+    }
+}
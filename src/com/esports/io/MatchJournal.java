@@ -0,0 +1,315 @@
+package com.esports.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary write-ahead journal of recorded match results.
+ * File layout:
+ *   header: int magic 'ESMJ', int version
+ *   record: int gamerIndex, int matchIndex, int matchId, long packedMatch, int matchPoints, int crc32
+ * (big-endian, 28 bytes per record; crc32 covers the first 24 bytes).
+ * Durability (see Durability):
+ * - PER_RECORD: append() returns only after its record is fsynced. Concurrent appenders
+ *   share fsyncs (group commit): one thread syncs everything pending, the others wait for it.
+ * - PER_BATCH:  an fsync is issued whenever batchSize records are pending.
+ * - PERIODIC:   a background thread fsyncs every intervalMillis; append() never waits for disk.
+ * Recovery: replay() reads records in order and stops at the first torn or corrupt record.
+ * I/O failures during append are rethrown as UncheckedIOException.
+ */
+public final class MatchJournal implements Closeable {
+
+    /** When appended records are forced to disk. */
+    public enum Durability { PER_RECORD, PER_BATCH, PERIODIC }
+
+    /** Receives records during replay, in journal order. */
+    public interface RecordHandler {
+        void onRecord(int gamerIndex, int matchIndex, int matchId, long packedMatch, int matchPoints);
+    }
+
+    public static final int RECORD_BYTES = 28;
+    private static final int HEADER_BYTES = 8;
+    private static final int MAGIC = 0x45534D4A; // "ESMJ"
+    private static final int VERSION = 1;
+    private static final int BUFFER_RECORDS = 4096;
+
+    private final FileChannel channel;
+    private final Durability durability;
+    private final int batchSize;
+    private final Thread flusher;          // PERIODIC only
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition syncDone = lock.newCondition();
+    private ByteBuffer pending = ByteBuffer.allocate(BUFFER_RECORDS * RECORD_BYTES);
+    private ByteBuffer spare = ByteBuffer.allocate(BUFFER_RECORDS * RECORD_BYTES);
+    private final CRC32 crc = new CRC32();
+    private long appended;                 // Records appended so far
+    private long durable;                  // Records known to be on disk
+    private boolean syncing;               // A thread is writing/forcing outside the lock
+    private boolean closed;
+    private IOException failure;
+
+    private MatchJournal(FileChannel channel, Durability durability, int batchSize, long intervalMillis) {
+        this.channel = channel;
+        this.durability = durability;
+        this.batchSize = batchSize;
+        if (durability == Durability.PERIODIC) {
+            this.flusher = new Thread(() -> runPeriodicSync(intervalMillis), "match-journal-sync");
+            this.flusher.setDaemon(true);
+            this.flusher.start();
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * Opens a journal for appending, creating it (with header) if needed.
+     * @param batchSize      records per fsync for PER_BATCH (ignored otherwise)
+     * @param intervalMillis sync period for PERIODIC (ignored otherwise)
+     */
+    public static MatchJournal open(Path path, Durability durability, int batchSize, long intervalMillis)
+            throws IOException {
+        if (path == null || durability == null) {
+            throw new IllegalArgumentException("path/durability cannot be null");
+        }
+        if (batchSize < 1 || intervalMillis < 1) {
+            throw new IllegalArgumentException("batchSize and intervalMillis must be >= 1");
+        }
+        FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (ch.size() < HEADER_BYTES) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION);
+                header.flip();
+                ch.truncate(0);
+                while (header.hasRemaining()) ch.write(header, HEADER_BYTES - header.remaining());
+                ch.force(false);
+            } else {
+                checkHeader(ch);
+            }
+            // Drop a torn tail so new records start on a record boundary.
+            long valid = HEADER_BYTES + countValidRecords(ch) * (long) RECORD_BYTES;
+            if (ch.size() > valid) ch.truncate(valid);
+            ch.position(valid);
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+            throw e;
+        }
+        return new MatchJournal(ch, durability, batchSize, intervalMillis);
+    }
+
+    // ---------------- Append ----------------
+
+    public void append(int gamerIndex, int matchIndex, int matchId, long packedMatch, int matchPoints) {
+        lock.lock();
+        try {
+            ensureOpen();
+            while (pending.remaining() < RECORD_BYTES) {
+                writePendingLocked();
+            }
+            int start = pending.position();
+            pending.putInt(gamerIndex).putInt(matchIndex).putInt(matchId).putLong(packedMatch).putInt(matchPoints);
+            crc.reset();
+            crc.update(pending.array(), start, RECORD_BYTES - 4);
+            pending.putInt((int) crc.getValue());
+            long seq = ++appended;
+
+            if (durability == Durability.PER_RECORD
+                    || (durability == Durability.PER_BATCH && appended - durable >= batchSize)) {
+                awaitDurableLocked(seq);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Forces every appended record to disk. */
+    public void sync() {
+        lock.lock();
+        try {
+            awaitDurableLocked(appended);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) return;
+            awaitDurableLocked(appended);
+        } catch (UncheckedIOException e) {
+            channel.close();
+            throw e.getCause();
+        } finally {
+            closed = true;
+            lock.unlock();
+        }
+        if (flusher != null) flusher.interrupt();
+        channel.close();
+    }
+
+    // ---------------- Replay ----------------
+
+    /**
+     * Replays all intact records of a journal file in order.
+     * @return number of records replayed (0 when the file does not exist)
+     */
+    public static long replay(Path path, RecordHandler handler) throws IOException {
+        if (handler == null) {
+            throw new IllegalArgumentException("handler cannot be null");
+        }
+        if (!Files.exists(path)) return 0;
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (ch.size() < HEADER_BYTES) return 0;
+            checkHeader(ch);
+            return scan(ch, handler);
+        }
+    }
+
+    // ---------------- Internals ----------------
+
+    /**
+     * Waits (lock held) until record seq is durable. If nobody is syncing, this thread
+     * becomes the leader: it swaps out everything pending, writes and forces it with the
+     * lock released, then wakes the waiters whose records were included (group commit).
+     */
+    private void awaitDurableLocked(long seq) {
+        while (durable < seq) {
+            if (failure != null) throw new UncheckedIOException(failure);
+            if (syncing) {
+                syncDone.awaitUninterruptibly();
+                continue;
+            }
+            syncing = true;
+            ByteBuffer toWrite = pending;
+            pending = spare;
+            spare = toWrite;
+            long target = appended;
+
+            IOException error = null;
+            lock.unlock();
+            try {
+                toWrite.flip();
+                while (toWrite.hasRemaining()) channel.write(toWrite);
+                channel.force(false);
+            } catch (IOException e) {
+                error = e;
+            } finally {
+                toWrite.clear();
+                lock.lock();
+            }
+            if (error != null) failure = error;
+            else durable = Math.max(durable, target);
+            syncing = false;
+            syncDone.signalAll();
+        }
+    }
+
+    /**
+     * Buffer full: writes it out without forcing. Waits for a running sync first,
+     * so records reach the file in append order.
+     */
+    private void writePendingLocked() {
+        while (syncing) {
+            syncDone.awaitUninterruptibly();
+        }
+        if (pending.remaining() >= RECORD_BYTES) return; // A sync drained it meanwhile
+        try {
+            pending.flip();
+            while (pending.hasRemaining()) channel.write(pending);
+        } catch (IOException e) {
+            failure = e;
+            throw new UncheckedIOException(e);
+        } finally {
+            pending.clear();
+        }
+    }
+
+    private void runPeriodicSync(long intervalMillis) {
+        while (true) {
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                return; // close()
+            }
+            lock.lock();
+            try {
+                if (closed) return;
+                if (appended > durable && failure == null) awaitDurableLocked(appended);
+            } catch (UncheckedIOException e) {
+                return; // Failure is reported to the next appender
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("Journal is closed");
+        if (failure != null) throw new UncheckedIOException(failure);
+    }
+
+    private static void checkHeader(FileChannel ch) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining()) {
+            if (ch.read(header, header.position()) < 0) break;
+        }
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException("Not a match journal (bad magic/version)");
+        }
+    }
+
+    private static long countValidRecords(FileChannel ch) throws IOException {
+        return scan(ch, null);
+    }
+
+    /** Reads records after the header; stops at the first short or CRC-mismatched record. */
+    private static long scan(FileChannel ch, RecordHandler handler) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(BUFFER_RECORDS * RECORD_BYTES);
+        CRC32 check = new CRC32();
+        long pos = HEADER_BYTES;
+        long count = 0;
+        while (true) {
+            buf.clear();
+            int n = 0;
+            while (buf.hasRemaining()) {
+                int r = ch.read(buf, pos + n);
+                if (r < 0) break;
+                n += r;
+            }
+            buf.flip();
+            while (buf.remaining() >= RECORD_BYTES) {
+                int start = buf.position();
+                check.reset();
+                check.update(buf.array(), start, RECORD_BYTES - 4);
+                int gamerIndex = buf.getInt();
+                int matchIndex = buf.getInt();
+                int matchId = buf.getInt();
+                long packed = buf.getLong();
+                int points = buf.getInt();
+                int stored = buf.getInt();
+                if (stored != (int) check.getValue()) return count;
+                if (handler != null) handler.onRecord(gamerIndex, matchIndex, matchId, packed, points);
+                count++;
+            }
+            if (n < buf.capacity()) return count; // Reached end of file
+            pos += (long) (n / RECORD_BYTES) * RECORD_BYTES;
+        }
+    }
+}
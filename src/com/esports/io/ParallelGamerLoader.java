@@ -0,0 +1,209 @@
+package com.esports.io;
+
+import com.esports.model.Gamer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parallel loader for gamers.csv.
+ * Steps:
+ * 1) Split the file (after the header line) into byte ranges whose ends are moved
+ *    forward to the next '\n', so every range holds whole lines.
+ * 2) Parse each range on a fork-join worker into its own Gamer[] buffer,
+ *    using the same row rules as FileIO.readGamers (FileIO.parseGamer).
+ * 3) Concatenate the buffers in range order, so the result has exactly the
+ *    ordering of the sequential reader.
+ * Notes:
+ * Lines end at '\n'; a trailing '\r' is dropped (CRLF files), but a lone '\r'
+ * is not treated as a line break the way BufferedReader.readLine() does.
+ */
+final class ParallelGamerLoader {
+
+    // Small files are not worth splitting; each range is at least this large.
+    private static final long MIN_CHUNK_BYTES = 1L << 20;      // 1 MiB
+    // Upper bound per range so one range always fits in a byte[].
+    private static final long MAX_CHUNK_BYTES = 64L << 20;     // 64 MiB
+    // A few ranges per worker so uneven rows still balance out.
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private ParallelGamerLoader() {
+    }
+
+    static Gamer[] load(String path) throws IOException {
+        return load(path, ForkJoinPool.commonPool());
+    }
+
+    static Gamer[] load(String path, ForkJoinPool pool) throws IOException {
+        try (FileChannel ch = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            long size = ch.size();
+            long dataStart = nextLineStart(ch, 0, size); // Skip header
+            if (dataStart >= size) return new Gamer[0];
+
+            long[] bounds = splitPoints(ch, dataStart, size, pool.getParallelism());
+            List<ChunkTask> tasks = new ArrayList<>(bounds.length - 1);
+            for (int c = 0; c + 1 < bounds.length; c++) {
+                if (bounds[c] < bounds[c + 1]) {
+                    tasks.add(new ChunkTask(ch, bounds[c], bounds[c + 1]));
+                }
+            }
+
+            Gamer[][] parts;
+            try {
+                parts = pool.submit(() -> {
+                    ChunkTask.invokeAll(tasks);
+                    Gamer[][] results = new Gamer[tasks.size()][];
+                    for (int c = 0; c < results.length; c++) {
+                        results[c] = tasks.get(c).join();
+                    }
+                    return results;
+                }).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while loading " + path, e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof UncheckedChunkException) {
+                    throw ((UncheckedChunkException) cause).getCause();
+                }
+                throw new IOException("Parallel load failed: " + cause, cause);
+            }
+
+            int total = 0;
+            for (Gamer[] part : parts) total += part.length;
+            Gamer[] out = new Gamer[total];
+            int pos = 0;
+            for (Gamer[] part : parts) {
+                System.arraycopy(part, 0, out, pos, part.length);
+                pos += part.length;
+            }
+            return out;
+        }
+    }
+
+    /**
+     * Computes range boundaries in [dataStart, size]; every inner boundary is a line start.
+     */
+    private static long[] splitPoints(FileChannel ch, long dataStart, long size, int workers)
+            throws IOException {
+        long dataBytes = size - dataStart;
+        long chunks = Math.max(1, Math.min((long) workers * CHUNKS_PER_WORKER, dataBytes / MIN_CHUNK_BYTES));
+        chunks = Math.max(chunks, (dataBytes + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+        long step = dataBytes / chunks;
+
+        long[] bounds = new long[(int) chunks + 1];
+        bounds[0] = dataStart;
+        for (int c = 1; c < chunks; c++) {
+            long nominal = Math.max(dataStart + c * step, bounds[c - 1]);
+            bounds[c] = nextLineStart(ch, nominal, size);
+        }
+        bounds[(int) chunks] = size;
+        return bounds;
+    }
+
+    /**
+     * Returns the offset just after the first '\n' at or after pos (or size if none).
+     * A position that already follows a '\n' is kept as is.
+     */
+    private static long nextLineStart(FileChannel ch, long pos, long size) throws IOException {
+        if (pos > 0 && pos < size) {
+            ByteBuffer prev = ByteBuffer.allocate(1);
+            ch.read(prev, pos - 1);
+            if (prev.get(0) == '\n') return pos;
+        }
+        ByteBuffer buf = ByteBuffer.allocate(8192);
+        long p = pos;
+        while (p < size) {
+            buf.clear();
+            int n = ch.read(buf, p);
+            if (n <= 0) break;
+            for (int k = 0; k < n; k++) {
+                if (buf.get(k) == '\n') return p + k + 1;
+            }
+            p += n;
+        }
+        return size;
+    }
+
+    /** Parses the whole lines in [start, end) into a Gamer[] buffer. */
+    private static final class ChunkTask extends RecursiveTask<Gamer[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel ch;
+        private final long start;
+        private final long end;
+
+        ChunkTask(FileChannel ch, long start, long end) {
+            this.ch = ch;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Gamer[] compute() {
+            byte[] bytes = new byte[(int) (end - start)];
+            ByteBuffer buf = ByteBuffer.wrap(bytes);
+            try {
+                long p = start;
+                while (buf.hasRemaining()) {
+                    int n = ch.read(buf, p);
+                    if (n < 0) break;
+                    p += n;
+                }
+            } catch (IOException e) {
+                throw new UncheckedChunkException(e);
+            }
+
+            // Rough upper bound; trimmed at the end like the sequential reader does.
+            Gamer[] out = new Gamer[Math.max(16, bytes.length / 24)];
+            int count = 0;
+            int lineStart = 0;
+            int limit = buf.position();
+            for (int k = 0; k <= limit; k++) {
+                if (k < limit && bytes[k] != '\n') continue;
+                int lineEnd = k;
+                if (lineEnd > lineStart && bytes[lineEnd - 1] == '\r') lineEnd--;
+                if (lineEnd > lineStart) {
+                    String line = new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+                    Gamer g = FileIO.parseGamer(line);
+                    if (g != null) {
+                        if (count == out.length) {
+                            Gamer[] grown = new Gamer[out.length * 2];
+                            System.arraycopy(out, 0, grown, 0, count);
+                            out = grown;
+                        }
+                        out[count++] = g;
+                    }
+                }
+                lineStart = k + 1;
+            }
+
+            Gamer[] trimmed = new Gamer[count];
+            System.arraycopy(out, 0, trimmed, 0, count);
+            return trimmed;
+        }
+    }
+
+    /** Carries an IOException out of a fork-join task. */
+    private static final class UncheckedChunkException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UncheckedChunkException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.esports.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ranked leaderboard written by ExternalLeaderboardSorter, read with positional I/O
+ * (only the sparse index is kept in memory).
+ * Data file (big-endian):
+ *   header: int magic 'ESLB', int version, long count
+ *   record: int total, int gamerId   (8 bytes, rank r at header + (r - 1) * 8)
+ * Index file (data path + ".idx"):
+ *   header: int magic 'ESLI', int version, int interval, long count, int entries
+ *   entry:  int total of rank 1 + k * interval
+ * Ranks are 1-based; the order is total descending, gamerId ascending.
+ */
+public final class RankedLeaderboardFile implements Closeable {
+
+    /** One ranked row. */
+    public static final class Entry {
+        private final long rank;
+        private final int total;
+        private final int gamerId;
+
+        Entry(long rank, int total, int gamerId) {
+            this.rank = rank;
+            this.total = total;
+            this.gamerId = gamerId;
+        }
+
+        public long getRank() {
+            return rank;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getGamerId() {
+            return gamerId;
+        }
+
+        @Override
+        public String toString() {
+            return rank + ". gamer " + gamerId + " (" + total + ")";
+        }
+    }
+
+    private static final int MAGIC = 0x45534C42;       // "ESLB"
+    private static final int INDEX_MAGIC = 0x45534C49; // "ESLI"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int INDEX_HEADER_BYTES = 24;
+    private static final int RECORD_BYTES = 8;
+
+    private final FileChannel channel;
+    private final long count;
+    private final int interval;
+    private final int[] index;
+
+    private RankedLeaderboardFile(FileChannel channel, long count, int interval, int[] index) {
+        this.channel = channel;
+        this.count = count;
+        this.interval = interval;
+        this.index = index;
+    }
+
+    public static Path indexPathFor(Path data) {
+        return data.resolveSibling(data.getFileName() + ".idx");
+    }
+
+    /** Opens a ranked file and loads its sparse index. */
+    public static RankedLeaderboardFile open(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+        FileChannel ch = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = readFully(ch, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not a ranked leaderboard (bad magic/version)");
+            }
+            long count = header.getLong();
+            if (count < 0 || ch.size() != HEADER_BYTES + count * RECORD_BYTES) {
+                throw new IOException("Corrupt ranked leaderboard (size does not match count)");
+            }
+
+            int interval;
+            int[] index;
+            try (FileChannel idx = FileChannel.open(indexPathFor(path), StandardOpenOption.READ)) {
+                ByteBuffer ih = readFully(idx, 0, INDEX_HEADER_BYTES);
+                if (ih.getInt() != INDEX_MAGIC || ih.getInt() != VERSION) {
+                    throw new IOException("Not a ranked leaderboard index (bad magic/version)");
+                }
+                interval = ih.getInt();
+                long indexedCount = ih.getLong();
+                int entries = ih.getInt();
+                if (interval < 1 || indexedCount != count || entries != entriesFor(count, interval)) {
+                    throw new IOException("Index does not belong to " + path);
+                }
+                index = new int[entries];
+                ByteBuffer body = readFully(idx, INDEX_HEADER_BYTES, entries * 4);
+                body.asIntBuffer().get(index);
+            }
+            return new RankedLeaderboardFile(ch, count, interval, index);
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+            throw e;
+        }
+    }
+
+    // ---------------- Lookups ----------------
+
+    public long size() {
+        return count;
+    }
+
+    public int getIndexInterval() {
+        return interval;
+    }
+
+    /** Row at a 1-based rank. */
+    public Entry get(long rank) throws IOException {
+        checkRank(rank);
+        ByteBuffer b = readFully(channel, offsetOf(rank), RECORD_BYTES);
+        return new Entry(rank, b.getInt(), b.getInt());
+    }
+
+    /** Up to limit rows starting at fromRank (one read). */
+    public List<Entry> page(long fromRank, int limit) throws IOException {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must be >= 0");
+        }
+        List<Entry> rows = new ArrayList<>();
+        if (limit == 0 || fromRank == count + 1) return rows;
+        checkRank(fromRank);
+        int n = (int) Math.min(limit, count - fromRank + 1);
+        ByteBuffer b = readFully(channel, offsetOf(fromRank), n * RECORD_BYTES);
+        for (int i = 0; i < n; i++) {
+            rows.add(new Entry(fromRank + i, b.getInt(), b.getInt()));
+        }
+        return rows;
+    }
+
+    /**
+     * Rank a season total would take: 1 + number of rows with a strictly higher total
+     * (so tied gamers share the rank of the first of them).
+     * Binary search over the index, then one block read of at most interval rows.
+     */
+    public long rankOf(int total) throws IOException {
+        // First index entry whose total is <= the searched one.
+        int lo = 0, hi = index.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (index[mid] > total) lo = mid + 1;
+            else hi = mid;
+        }
+        if (lo == 0) return 1;
+        long blockStart = (long) (lo - 1) * interval + 1; // Its first row is known to be higher
+        int n = (int) Math.min(interval, count - blockStart + 1);
+        ByteBuffer b = readFully(channel, offsetOf(blockStart), n * RECORD_BYTES);
+        for (int i = 0; i < n; i++) {
+            if (b.getInt(i * RECORD_BYTES) <= total) return blockStart + i;
+        }
+        return blockStart + n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // ---------------- Writing (used by ExternalLeaderboardSorter) ----------------
+
+    static Writer create(Path path, long count, int interval, int bufferBytes) throws IOException {
+        return new Writer(path, count, interval, bufferBytes);
+    }
+
+    /** Streams merged keys into the data file and collects the sparse index. */
+    static final class Writer implements ExternalLeaderboardSorter.KeySink, Closeable {
+        private final Path path;
+        private final FileChannel channel;
+        private final ByteBuffer buf;
+        private final long count;
+        private final int interval;
+        private final int[] index;
+        private long written;
+
+        private Writer(Path path, long count, int interval, int bufferBytes) throws IOException {
+            this.path = path;
+            this.count = count;
+            this.interval = interval;
+            this.index = new int[entriesFor(count, interval)];
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.buf = ByteBuffer.allocateDirect(Math.max(bufferBytes, HEADER_BYTES));
+            buf.putInt(MAGIC).putInt(VERSION).putLong(count);
+        }
+
+        @Override
+        public void accept(long key) throws IOException {
+            int total = ExternalLeaderboardSorter.totalOf(key);
+            if (written % interval == 0) index[(int) (written / interval)] = total;
+            if (buf.remaining() < RECORD_BYTES) drain();
+            buf.putInt(total).putInt(ExternalLeaderboardSorter.gamerIdOf(key));
+            written++;
+        }
+
+        private void drain() throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) channel.write(buf);
+            buf.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                drain();
+                channel.force(false);
+            } finally {
+                channel.close();
+            }
+            if (written != count) {
+                throw new IOException("Merged " + written + " records, expected " + count);
+            }
+            try (FileChannel idx = FileChannel.open(indexPathFor(path), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer b = ByteBuffer.allocate(INDEX_HEADER_BYTES + index.length * 4);
+                b.putInt(INDEX_MAGIC).putInt(VERSION).putInt(interval).putLong(count).putInt(index.length);
+                b.asIntBuffer().put(index);
+                b.position(b.capacity()).flip();
+                while (b.hasRemaining()) idx.write(b);
+                idx.force(false);
+            }
+        }
+    }
+
+    // ---------------- Internals ----------------
+
+    private static int entriesFor(long count, int interval) {
+        long entries = (count + interval - 1) / interval;
+        if (entries > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("indexInterval too small for " + count + " records");
+        }
+        return (int) entries;
+    }
+
+    private void checkRank(long rank) {
+        if (rank < 1 || rank > count) {
+            throw new IllegalArgumentException("Rank out of range: " + rank);
+        }
+    }
+
+    private static long offsetOf(long rank) {
+        return HEADER_BYTES + (rank - 1) * RECORD_BYTES;
+    }
+
+    private static ByteBuffer readFully(FileChannel ch, long position, int length) throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(length);
+        while (b.hasRemaining()) {
+            if (ch.read(b, position + b.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        b.flip();
+        return b;
+    }
+}
@@ -0,0 +1,22 @@
+package com.esports.io;
+
+import com.esports.model.Gamer;
+import com.esports.model.Medal;
+
+/**
+ * Output format for per-gamer leaderboard exports.
+ * A format writes straight into a ReportWriter, one row at a time,
+ * so exports stream without holding the whole report in memory.
+ * Standard implementations: see StandardReportFormat (TEXT, CSV, BINARY).
+ */
+public interface ReportFormat {
+
+    /** Called once before the first row. */
+    void writeHeader(ReportWriter out, int rowCount);
+
+    /** Called once per gamer, in rank order (rank starts at 1). */
+    void writeRow(ReportWriter out, int rank, Gamer gamer, int totalPoints, double averagePerMatch, Medal medal);
+
+    /** Called once after the last row. */
+    void writeFooter(ReportWriter out);
+}
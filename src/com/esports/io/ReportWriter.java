@@ -0,0 +1,313 @@
+package com.esports.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Buffered writer over an NIO channel, used for reports and leaderboard exports.
+ * Text is encoded straight into the buffer as UTF-8, and ints/longs/fixed-point
+ * numbers are written digit by digit, so streaming millions of rows does not
+ * build an intermediate String per field.
+ * Binary helpers write big-endian values (same as DataOutputStream).
+ * Notes:
+ * Write failures are rethrown as UncheckedIOException so report code can stay
+ * free of checked exceptions, like the rest of the print paths.
+ */
+public final class ReportWriter implements Closeable, Flushable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final OutputStream stream;   // Non-null when wrapping a stream (flushed on flush())
+    private final boolean closeChannel;
+    private final ByteBuffer buffer;
+    private final byte[] digits = new byte[20]; // Scratch for number formatting
+
+    public ReportWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE, true);
+    }
+
+    public ReportWriter(WritableByteChannel channel, int bufferSize, boolean closeChannel) {
+        if (channel == null) {
+            throw new IllegalArgumentException("channel cannot be null");
+        }
+        if (bufferSize < 64) {
+            throw new IllegalArgumentException("bufferSize must be >= 64");
+        }
+        this.channel = channel;
+        this.stream = null;
+        this.closeChannel = closeChannel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    private ReportWriter(OutputStream out, boolean closeStream) {
+        this.channel = Channels.newChannel(out);
+        this.stream = out;
+        this.closeChannel = closeStream;
+        this.buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+    }
+
+    /** Writer on System.out; close() only flushes, it never closes stdout. */
+    public static ReportWriter toStdout() {
+        return new ReportWriter(System.out, false);
+    }
+
+    public static ReportWriter toStream(OutputStream out) {
+        if (out == null) {
+            throw new IllegalArgumentException("out cannot be null");
+        }
+        return new ReportWriter(out, true);
+    }
+
+    /** Opens (creates or truncates) a file for writing. */
+    public static ReportWriter open(Path path) throws IOException {
+        FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new ReportWriter(ch);
+    }
+
+    // ---------------- Text ----------------
+
+    public ReportWriter print(CharSequence s) {
+        if (s == null) s = "null";
+        int len = s.length();
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                ensure(1);
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                ensure(2);
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                ensure(4);
+                buffer.put((byte) (0xF0 | (cp >> 18)));
+                buffer.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (cp & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                ensure(1);
+                buffer.put((byte) '?'); // Unpaired surrogate, same replacement as String.getBytes
+            } else {
+                ensure(3);
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        return this;
+    }
+
+    public ReportWriter print(char c) {
+        if (c < 0x80) {
+            ensure(1);
+            buffer.put((byte) c);
+            return this;
+        }
+        return print(String.valueOf(c));
+    }
+
+    public ReportWriter print(int v) {
+        return print((long) v);
+    }
+
+    public ReportWriter print(long v) {
+        ensure(20);
+        if (v < 0) {
+            buffer.put((byte) '-');
+            if (v == Long.MIN_VALUE) {
+                // Cannot negate; fall back once for this single value.
+                String s = Long.toString(v).substring(1);
+                return print(s);
+            }
+            v = -v;
+        }
+        int n = 0;
+        do {
+            digits[n++] = (byte) ('0' + (v % 10));
+            v /= 10;
+        } while (v != 0);
+        while (n > 0) buffer.put(digits[--n]);
+        return this;
+    }
+
+    /**
+     * Prints v with a fixed number of decimals (0..9), like String.format("%.Nf", v):
+     * the shortest decimal form of v (Double.toString) rounded half-up, for any divisor.
+     * Digits are written directly; only |v| * 10^decimals >= 2^48 falls back to BigDecimal.
+     */
+    public ReportWriter printFixed(double v, int decimals) {
+        if (decimals < 0 || decimals > 9) {
+            throw new IllegalArgumentException("decimals must be in [0..9]");
+        }
+        if (Double.isNaN(v) || Double.isInfinite(v)) {
+            return print(Double.toString(v));
+        }
+        if (Double.doubleToRawLongBits(v) < 0) { // Negative, including -0.0 (as %f prints it)
+            print('-');
+            v = -v;
+        }
+        long scale = 1;
+        for (int i = 0; i < decimals; i++) scale *= 10;
+        double p = v * scale;
+        if (p >= EXACT_FIXED_LIMIT) {
+            return print(BigDecimal.valueOf(v).setScale(decimals, RoundingMode.HALF_UP).toPlainString());
+        }
+
+        // p is within 2^-5 of the exact v * scale, so only values close to a midpoint
+        // k + 0.5 need the exact check. There, v's shortest decimal form is the midpoint
+        // exactly when v is the double nearest to (2k + 1) / (2 * scale), and then it rounds up;
+        // otherwise v and its shortest form lie on the same side of the midpoint.
+        long k = (long) p;
+        double frac = p - k;
+        long scaled;
+        if (Math.abs(frac - 0.5) > 0.0625) {
+            scaled = (frac > 0.5) ? k + 1 : k;
+        } else {
+            scaled = (v >= (2 * k + 1) / (2.0 * scale)) ? k + 1 : k;
+        }
+
+        print(scaled / scale);
+        if (decimals > 0) {
+            print('.');
+            long rest = scaled % scale;
+            for (long d = scale / 10; d > 0; d /= 10) {
+                print((char) ('0' + (rest / d) % 10));
+            }
+        }
+        return this;
+    }
+
+    private static final double EXACT_FIXED_LIMIT = 0x1p48;
+
+    public ReportWriter println(CharSequence s) {
+        return print(s).println();
+    }
+
+    public ReportWriter println() {
+        ensure(1);
+        buffer.put((byte) '\n');
+        return this;
+    }
+
+    /** Convenience for the few formatted lines in reports (builds one String). */
+    public ReportWriter printf(String format, Object... args) {
+        return print(String.format(format, args));
+    }
+
+    // ---------------- Binary (big-endian) ----------------
+
+    public ReportWriter writeByte(int v) {
+        ensure(1);
+        buffer.put((byte) v);
+        return this;
+    }
+
+    public ReportWriter writeShort(int v) {
+        ensure(2);
+        buffer.putShort((short) v);
+        return this;
+    }
+
+    public ReportWriter writeInt(int v) {
+        ensure(4);
+        buffer.putInt(v);
+        return this;
+    }
+
+    public ReportWriter writeLong(long v) {
+        ensure(8);
+        buffer.putLong(v);
+        return this;
+    }
+
+    public ReportWriter writeDouble(double v) {
+        ensure(8);
+        buffer.putDouble(v);
+        return this;
+    }
+
+    /** Writes an unsigned 16-bit UTF-8 byte length followed by the UTF-8 bytes. */
+    public ReportWriter writeUtf8(CharSequence s) {
+        int len = utf8Length(s);
+        if (len > 0xFFFF) {
+            throw new IllegalArgumentException("String too long for writeUtf8: " + len + " bytes");
+        }
+        writeShort(len);
+        return print(s);
+    }
+
+    // ---------------- Lifecycle ----------------
+
+    @Override
+    public void flush() {
+        drain();
+        if (stream != null) {
+            try {
+                stream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        if (closeChannel) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // ---------------- Helpers ----------------
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() < bytes) drain();
+    }
+
+    private void drain() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private static int utf8Length(CharSequence s) {
+        int len = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) len += 1;
+            else if (c < 0x800) len += 2;
+            else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                len += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) len += 1;
+            else len += 3;
+        }
+        return len;
+    }
+}
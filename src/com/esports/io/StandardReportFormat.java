@@ -0,0 +1,144 @@
+package com.esports.io;
+
+import com.esports.model.Gamer;
+import com.esports.model.Medal;
+
+/**
+ * Built-in leaderboard formats:
+ *  - TEXT   → human-readable lines using the same labels as the query report
+ *  - CSV    → Rank,ID,Nickname,TotalPoints,AveragePerMatch,Medal
+ *  - BINARY → compact big-endian records (see BINARY for the layout)
+ *  - JSON   → {"rows":N,"leaderboard":[{"rank":..,"id":..,"nickname":..,...},...]}
+ */
+public enum StandardReportFormat implements ReportFormat {
+
+    TEXT {
+        @Override
+        public void writeHeader(ReportWriter out, int rowCount) {
+            out.println("Leaderboard");
+        }
+
+        @Override
+        public void writeRow(ReportWriter out, int rank, Gamer gamer, int totalPoints,
+                             double averagePerMatch, Medal medal) {
+            out.print(rank).print(". ").print(gamer.getNickname())
+                    .print(" - Total Points: ").print(totalPoints)
+                    .print(", Average Per Match: ").printFixed(averagePerMatch, 2)
+                    .print(", Medal: ").print(medal.displayName())
+                    .println();
+        }
+
+        @Override
+        public void writeFooter(ReportWriter out) {
+        }
+    },
+
+    CSV {
+        @Override
+        public void writeHeader(ReportWriter out, int rowCount) {
+            out.println("Rank,ID,Nickname,TotalPoints,AveragePerMatch,Medal");
+        }
+
+        @Override
+        public void writeRow(ReportWriter out, int rank, Gamer gamer, int totalPoints,
+                             double averagePerMatch, Medal medal) {
+            out.print(rank).print(',').print(gamer.getId()).print(',');
+            writeCsvField(out, gamer.getNickname());
+            out.print(',').print(totalPoints)
+                    .print(',').printFixed(averagePerMatch, 2)
+                    .print(',').print(medal.displayName())
+                    .println();
+        }
+
+        @Override
+        public void writeFooter(ReportWriter out) {
+        }
+    },
+
+    /**
+     * Layout:
+     *   header: int magic 'ESLB', int version (1), int rowCount
+     *   row:    int rank, int gamerId, u16 length + UTF-8 nickname,
+     *           int totalPoints, double averagePerMatch, byte medal ordinal
+     */
+    BINARY {
+        @Override
+        public void writeHeader(ReportWriter out, int rowCount) {
+            out.writeInt(MAGIC).writeInt(VERSION).writeInt(rowCount);
+        }
+
+        @Override
+        public void writeRow(ReportWriter out, int rank, Gamer gamer, int totalPoints,
+                             double averagePerMatch, Medal medal) {
+            out.writeInt(rank).writeInt(gamer.getId()).writeUtf8(gamer.getNickname())
+                    .writeInt(totalPoints).writeDouble(averagePerMatch).writeByte(medal.ordinal());
+        }
+
+        @Override
+        public void writeFooter(ReportWriter out) {
+        }
+    },
+
+    JSON {
+        @Override
+        public void writeHeader(ReportWriter out, int rowCount) {
+            out.print("{\"rows\":").print(rowCount).print(",\"leaderboard\":[");
+        }
+
+        @Override
+        public void writeRow(ReportWriter out, int rank, Gamer gamer, int totalPoints,
+                             double averagePerMatch, Medal medal) {
+            if (rank > 1) out.print(',');
+            out.print("{\"rank\":").print(rank).print(",\"id\":").print(gamer.getId())
+                    .print(",\"nickname\":");
+            writeJsonString(out, gamer.getNickname());
+            out.print(",\"totalPoints\":").print(totalPoints)
+                    .print(",\"averagePerMatch\":").printFixed(averagePerMatch, 2)
+                    .print(",\"medal\":\"").print(medal.displayName()).print("\"}");
+        }
+
+        @Override
+        public void writeFooter(ReportWriter out) {
+            out.println("]}");
+        }
+    };
+
+    public static final int MAGIC = 0x45534C42; // "ESLB"
+    public static final int VERSION = 1;
+
+    /** Writes s as a quoted JSON string (escapes quotes, backslashes and control characters). */
+    public static void writeJsonString(ReportWriter out, String s) {
+        out.print('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.print('\\').print(c);
+            } else if (c < 0x20) {
+                out.print("\\u00").print(Character.forDigit(c >> 4, 16)).print(Character.forDigit(c & 0xF, 16));
+            } else {
+                out.print(c);
+            }
+        }
+        out.print('"');
+    }
+
+    /** Quotes a CSV field only when it contains a separator, quote or line break. */
+    private static void writeCsvField(ReportWriter out, String s) {
+        boolean quote = false;
+        for (int i = 0; i < s.length() && !quote; i++) {
+            char c = s.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.print(s);
+            return;
+        }
+        out.print('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"') out.print('"');
+            out.print(c);
+        }
+        out.print('"');
+    }
+}
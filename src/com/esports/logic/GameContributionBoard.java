@@ -0,0 +1,170 @@
+package com.esports.logic;
+
+import com.esports.model.Game;
+import com.esports.model.PackedMatch;
+
+/**
+ * Season-wide per-game aggregates, maintained as matches are recorded:
+ * - total contribution (sum of rounds × basePointPerRound)
+ * - rounds played
+ * - appearances (matches the game was picked in)
+ * - top-contributor count (matches where it was the most contributing game, Query #2 rule)
+ * All counters are primitive arrays indexed by game index (the order of the Game[]
+ * given to the constructor, which must be the one MatchManagement was built with).
+ * Every query is O(1); the leading games are tracked on update since counters only grow.
+ * Register with MatchManagement.addRecordListener (the app does so for --game-stats), or
+ * build from a finished season with fromSeason(). Contributions use the base points of the
+ * constructor's game table.
+ * Record listeners are not told about rescoring, so the board is not updated by
+ * MatchManagement.applyGameChanges / applyGamerChanges: after changed base points it is
+ * stale and should be rebuilt with fromSeason(getPackedSeason()) and the new game table.
+ */
+public class GameContributionBoard implements MatchRecordListener {
+
+    private final Game[] games;
+    private final int[] basePoints;
+    private final long[] contribution;
+    private final long[] rounds;
+    private final int[] appearances;
+    private final int[] topContributorCounts;
+    private long totalContribution;
+    private long matchCount;
+    private int leaderByContribution = -1;
+    private int leaderByTopContributor = -1;
+
+    public GameContributionBoard(Game[] games) {
+        if (games == null) {
+            throw new IllegalArgumentException("games cannot be null");
+        }
+        this.games = new Game[games.length];
+        for (int i = 0; i < games.length; i++) {
+            this.games[i] = new Game(games[i]);
+        }
+        this.basePoints = PackedMatch.basePointTable(games);
+        this.contribution = new long[games.length];
+        this.rounds = new long[games.length];
+        this.appearances = new int[games.length];
+        this.topContributorCounts = new int[games.length];
+    }
+
+    /** Builds the board over every played match of a packed season (empty slots are skipped). */
+    public static GameContributionBoard fromSeason(PackedSeason season) {
+        if (season == null) {
+            throw new IllegalArgumentException("season cannot be null");
+        }
+        GameContributionBoard board = new GameContributionBoard(season.getGames());
+        for (int i = 0; i < season.getNumberOfGamers(); i++) {
+            for (int j = 0; j < season.getMatchCount(i); j++) {
+                if (season.isEmpty(i, j)) continue;
+                board.record(season.getPacked(i, j));
+            }
+        }
+        return board;
+    }
+
+    @Override
+    public void onMatchRecorded(int gamerIndex, int matchIndex, int matchId, long packedMatch, int matchPoints) {
+        record(packedMatch);
+    }
+
+    /** Adds one packed match (game indices must refer to this board's game table). */
+    public void record(long packedMatch) {
+        for (int slot = 0; slot < 3; slot++) {
+            int g = PackedMatch.gameIndex(packedMatch, slot);
+            if (g >= games.length) {
+                throw new IllegalArgumentException("Game index out of range: " + g);
+            }
+            int c = PackedMatch.contribution(packedMatch, slot, basePoints);
+            contribution[g] += c;
+            rounds[g] += PackedMatch.rounds(packedMatch, slot);
+            appearances[g]++;
+            totalContribution += c;
+            if (isAhead(contribution, g, leaderByContribution)) leaderByContribution = g;
+        }
+        int top = PackedMatch.gameIndex(packedMatch, PackedMatch.topContributorSlot(packedMatch, basePoints));
+        topContributorCounts[top]++;
+        if (isAhead(topContributorCounts, top, leaderByTopContributor)) leaderByTopContributor = top;
+        matchCount++;
+    }
+
+    /** Higher value wins; ties go to the lower game index. */
+    private static boolean isAhead(long[] values, int candidate, int leader) {
+        return leader < 0 || values[candidate] > values[leader]
+                || (values[candidate] == values[leader] && candidate < leader);
+    }
+
+    private static boolean isAhead(int[] values, int candidate, int leader) {
+        return leader < 0 || values[candidate] > values[leader]
+                || (values[candidate] == values[leader] && candidate < leader);
+    }
+
+    private boolean valid(int gameIndex) {
+        return gameIndex >= 0 && gameIndex < games.length;
+    }
+
+    // -------- Queries (all O(1)) --------
+
+    public int getNumberOfGames() {
+        return games.length;
+    }
+
+    public Game getGame(int gameIndex) {
+        if (!valid(gameIndex)) {
+            throw new IllegalArgumentException("Game index out of range: " + gameIndex);
+        }
+        return new Game(games[gameIndex]);
+    }
+
+    public long getContribution(int gameIndex) {
+        return valid(gameIndex) ? contribution[gameIndex] : 0;
+    }
+
+    public long getRoundsPlayed(int gameIndex) {
+        return valid(gameIndex) ? rounds[gameIndex] : 0;
+    }
+
+    public int getAppearances(int gameIndex) {
+        return valid(gameIndex) ? appearances[gameIndex] : 0;
+    }
+
+    public int getTopContributorCount(int gameIndex) {
+        return valid(gameIndex) ? topContributorCounts[gameIndex] : 0;
+    }
+
+    public double getAverageContributionPerAppearance(int gameIndex) {
+        int n = getAppearances(gameIndex);
+        return (n == 0) ? 0.0 : contribution[gameIndex] / (double) n;
+    }
+
+    /** Share (0..1) of all raw points in the season that came from this game. */
+    public double getContributionShare(int gameIndex) {
+        return (totalContribution == 0) ? 0.0 : getContribution(gameIndex) / (double) totalContribution;
+    }
+
+    /** Sum of all contributions, i.e. total raw points of the recorded matches. */
+    public long getTotalContribution() {
+        return totalContribution;
+    }
+
+    public long getMatchCount() {
+        return matchCount;
+    }
+
+    /** Game index with the highest total contribution, or -1 before the first match. */
+    public int getTopGameByContribution() {
+        return leaderByContribution;
+    }
+
+    /** Game index that was most often a match's top contributor, or -1 before the first match. */
+    public int getTopGameByTopContributorCount() {
+        return leaderByTopContributor;
+    }
+
+    public long[] getAllContributions() {
+        return contribution.clone();
+    }
+
+    public int[] getAllTopContributorCounts() {
+        return topContributorCounts.clone();
+    }
+}
@@ -0,0 +1,223 @@
+package com.esports.logic;
+
+import com.esports.model.Game;
+import com.esports.model.Gamer;
+import com.esports.model.Match;
+import com.esports.model.Medal;
+import com.esports.model.PackedMatch;
+import com.esports.model.ScoringRules;
+
+/**
+ * A season whose matches are never stored: match (gamerIndex, matchIndex) is a pure
+ * function of (seed, gamerIndex, matchIndex), drawn from a counter-based RNG
+ * (SplitMix64 finalizer over seed + position + draw counter), so any match can be
+ * regenerated on demand, in any order, on any thread.
+ * Kept in memory (O(gamers)):
+ * - per-gamer season totals
+ * - positions of the highest-scoring, lowest-scoring and lowest-bonus matches
+ *   (first in [gamer][match] scan order on ties, like Query)
+ * Query runs on toExtremeMatchGrid(), a sparse grid holding just those three matches,
+ * and on toPointsBoard(); getMatch() rebuilds any other match for details.
+ * Match IDs follow the MatchManagement scheme: firstMatchId + gamerIndex * 15 + matchIndex.
+ * Created by LazySeason.simulate(...) (no match grid is ever allocated) or
+ * MatchManagement.simulateLazySeason(seed).
+ */
+public class LazySeason {
+
+    private static final int MATCHES_PER_GAMER = 15;
+    private static final int GAME_COUNT = 3;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final Gamer[] gamers;
+    private final Game[] games;
+    private final int[] basePoints;
+    private final int firstMatchId;
+    private final int[] totals;
+
+    private long highestOrder = -1;
+    private long lowestOrder = -1;
+    private long lowestBonusOrder = -1;
+
+    /**
+     * Plays a lazy season straight from the loaded tables; match IDs start at 1.
+     * Copies the gamers and games once (no MatchManagement, no Match grid).
+     */
+    public static LazySeason simulate(long seed, Gamer[] gamers, Game[] games) {
+        return simulate(seed, gamers, games, 1);
+    }
+
+    public static LazySeason simulate(long seed, Gamer[] gamers, Game[] games, int firstMatchId) {
+        if (gamers == null || games == null || firstMatchId < 0) {
+            throw new IllegalArgumentException("gamers/games cannot be null and firstMatchId must be >= 0");
+        }
+        Gamer[] gamerCopies = new Gamer[gamers.length];
+        for (int i = 0; i < gamers.length; i++) {
+            gamerCopies[i] = new Gamer(gamers[i]);
+        }
+        Game[] gameCopies = new Game[games.length];
+        for (int i = 0; i < games.length; i++) {
+            gameCopies[i] = new Game(games[i]);
+        }
+        return new LazySeason(seed, gamerCopies, gameCopies, firstMatchId);
+    }
+
+    /** Generates every match once to fill the aggregates. Arrays are used as given (callers pass copies). */
+    LazySeason(long seed, Gamer[] gamers, Game[] games, int firstMatchId) {
+        if (games.length < GAME_COUNT || games.length > PackedMatch.MAX_GAME_INDEX + 1) {
+            throw new IllegalArgumentException("Lazy seasons need 3.." + (PackedMatch.MAX_GAME_INDEX + 1) + " games");
+        }
+        long lastMatchId = firstMatchId + (long) gamers.length * MATCHES_PER_GAMER - 1;
+        if (lastMatchId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Match ids up to " + lastMatchId + " do not fit in an int");
+        }
+        this.seed = seed;
+        this.gamers = gamers;
+        this.games = games;
+        this.basePoints = PackedMatch.basePointTable(games);
+        this.firstMatchId = firstMatchId;
+        this.totals = new int[gamers.length];
+
+        ScoringRules rules = ScoringRules.active();
+        int[] gameIndices = new int[GAME_COUNT];
+        int[] rounds = new int[GAME_COUNT];
+        int highest = Integer.MIN_VALUE;
+        int lowest = Integer.MAX_VALUE;
+        int lowestBonus = Integer.MAX_VALUE;
+
+        for (int i = 0; i < gamers.length; i++) {
+            int cappedExp = gamers[i].getCappedExperienceForScoring();
+            int total = 0;
+            for (int j = 0; j < MATCHES_PER_GAMER; j++) {
+                generate(i, j, gameIndices, rounds);
+                int raw = 0;
+                for (int k = 0; k < GAME_COUNT; k++) raw += rounds[k] * basePoints[gameIndices[k]];
+                int bonus = rules.bonusPoints(raw);
+                int points = rules.skillPoints(raw, cappedExp) + bonus;
+                total += points;
+
+                long order = (long) i * MATCHES_PER_GAMER + j;
+                if (points > highest) {
+                    highest = points;
+                    highestOrder = order;
+                }
+                if (points < lowest) {
+                    lowest = points;
+                    lowestOrder = order;
+                }
+                if (bonus < lowestBonus) {
+                    lowestBonus = bonus;
+                    lowestBonusOrder = order;
+                }
+            }
+            totals[i] = total;
+        }
+    }
+
+    // ---------------- Counter-based generation ----------------
+
+    /**
+     * Draws the games and rounds of one match. Same selection rules as
+     * MatchManagement.generateRandomMatch: 3 distinct games, rounds in [1..10].
+     */
+    private void generate(int gamerIndex, int matchIndex, int[] gameIndices, int[] rounds) {
+        long stream = mix(seed + GOLDEN_GAMMA * ((long) gamerIndex * MATCHES_PER_GAMER + matchIndex + 1));
+        int counter = 0;
+        int count = 0;
+        while (count < GAME_COUNT) {
+            int candidate = bounded(mix(stream + GOLDEN_GAMMA * ++counter), games.length);
+            boolean alreadyChosen = false;
+            for (int k = 0; k < count; k++) {
+                if (gameIndices[k] == candidate) {
+                    alreadyChosen = true;
+                    break;
+                }
+            }
+            if (!alreadyChosen) {
+                gameIndices[count] = candidate;
+                rounds[count] = bounded(mix(stream + GOLDEN_GAMMA * ++counter), 10) + 1;
+                count++;
+            }
+        }
+    }
+
+    /** SplitMix64 finalizer. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Maps the high 32 bits of r onto [0, bound) (multiply-shift). */
+    private static int bounded(long r, int bound) {
+        return (int) (((r >>> 32) * bound) >>> 32);
+    }
+
+    // ---------------- On-demand matches ----------------
+
+    /** Regenerates one match, fully scored (same result on every call). */
+    public Match getMatch(int gamerIndex, int matchIndex) {
+        if (gamerIndex < 0 || gamerIndex >= gamers.length || matchIndex < 0 || matchIndex >= MATCHES_PER_GAMER) {
+            throw new IllegalArgumentException("Match position out of range: " + gamerIndex + "/" + matchIndex);
+        }
+        int[] gameIndices = new int[GAME_COUNT];
+        int[] rounds = new int[GAME_COUNT];
+        generate(gamerIndex, matchIndex, gameIndices, rounds);
+        long packed = PackedMatch.encode(gameIndices, rounds, gamers[gamerIndex].getCappedExperienceForScoring());
+        return PackedMatch.toMatch(packed, getMatchId(gamerIndex, matchIndex), games);
+    }
+
+    /** Fits in an int for every match position (checked when the season is created). */
+    public int getMatchId(int gamerIndex, int matchIndex) {
+        return (int) (firstMatchId + (long) gamerIndex * MATCHES_PER_GAMER + matchIndex);
+    }
+
+    /**
+     * Sparse [gamers][15] grid with only the highest-scoring, lowest-scoring and
+     * lowest-bonus matches filled in; Query skips the null slots.
+     */
+    public Match[][] toExtremeMatchGrid() {
+        Match[][] grid = new Match[gamers.length][];
+        for (long order : new long[]{highestOrder, lowestOrder, lowestBonusOrder}) {
+            if (order < 0) continue;
+            int g = (int) (order / MATCHES_PER_GAMER);
+            int j = (int) (order % MATCHES_PER_GAMER);
+            if (grid[g] == null) grid[g] = new Match[MATCHES_PER_GAMER];
+            grid[g][j] = getMatch(g, j);
+        }
+        return grid;
+    }
+
+    /** PointsBoard with this season's totals (averages and medals derived as usual). */
+    public PointsBoard toPointsBoard() {
+        PointsBoard board = new PointsBoard(gamers);
+        for (int i = 0; i < totals.length; i++) {
+            board.applyDelta(i, totals[i]);
+        }
+        return board;
+    }
+
+    // ---------------- Aggregates ----------------
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getNumberOfGamers() {
+        return gamers.length;
+    }
+
+    public int getTotalPoints(int gamerIndex) {
+        return (gamerIndex >= 0 && gamerIndex < totals.length) ? totals[gamerIndex] : 0;
+    }
+
+    public long getTournamentTotal() {
+        long sum = 0;
+        for (int t : totals) sum += t;
+        return sum;
+    }
+
+    public Medal getMedal(int gamerIndex) {
+        return Medal.fromTotalPoints(getTotalPoints(gamerIndex));
+    }
+}
@@ -0,0 +1,72 @@
+package com.esports.logic;
+
+import com.esports.io.ReportFormat;
+import com.esports.io.ReportWriter;
+import com.esports.model.Gamer;
+
+import java.util.Arrays;
+
+/**
+ * Streams the full per-gamer leaderboard (nickname, total, average, medal)
+ * from a PointsBoard through a ReportFormat.
+ * Ranking: total points descending; ties keep PointsBoard (file) order.
+ * The ranking is a single primitive sort over packed (total, index) longs,
+ * so no per-gamer objects are created beyond the gamer copies PointsBoard hands out.
+ */
+public class LeaderboardExporter {
+
+    private final PointsBoard pointsBoard;
+
+    public LeaderboardExporter(PointsBoard pointsBoard) {
+        if (pointsBoard == null) {
+            throw new IllegalArgumentException("pointsBoard cannot be null");
+        }
+        this.pointsBoard = pointsBoard;
+    }
+
+    /** Writes header, every gamer in rank order, then footer. Does not close out. */
+    public void export(ReportFormat format, ReportWriter out) {
+        export(format, out, Integer.MAX_VALUE);
+    }
+
+    /** Same as export(format, out), but only the first limit ranks (top-K). */
+    public void export(ReportFormat format, ReportWriter out, int limit) {
+        if (format == null || out == null) {
+            throw new IllegalArgumentException("format/out cannot be null");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must be >= 0");
+        }
+        Gamer[] gamers = pointsBoard.getGamers();
+        int[] order = rankOrder(pointsBoard.getAllTotalPoints());
+        int rows = Math.min(limit, order.length);
+
+        format.writeHeader(out, rows);
+        for (int rank = 0; rank < rows; rank++) {
+            int i = order[rank];
+            format.writeRow(out, rank + 1, gamers[i],
+                    pointsBoard.getTotalPoints(i),
+                    pointsBoard.getAveragePerMatch(i),
+                    pointsBoard.getMedal(i));
+        }
+        format.writeFooter(out);
+        out.flush();
+    }
+
+    /**
+     * Returns gamer indices sorted by total descending, index ascending.
+     * Key = (~total) in the high 32 bits (flips the order), index in the low 32 bits.
+     */
+    public static int[] rankOrder(int[] totals) {
+        long[] keys = new long[totals.length];
+        for (int i = 0; i < totals.length; i++) {
+            keys[i] = ((long) ~totals[i] << 32) | i; // ~total sorts descending
+        }
+        Arrays.sort(keys);
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+}
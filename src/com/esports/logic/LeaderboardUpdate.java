@@ -0,0 +1,145 @@
+package com.esports.logic;
+
+import com.esports.model.Medal;
+
+import java.util.Arrays;
+
+/**
+ * One item of the live leaderboard stream (see LiveLeaderboardPublisher).
+ * Kinds:
+ * - MATCH_SCORED:    a match was recorded (gamerIndex, matchId, matchPoints, totalPoints)
+ * - MATCHES_SKIPPED: match events coalesced for a slow subscriber
+ *                    (skippedMatches, skippedPoints); totals stay exact in the other events
+ * - MEDAL_CHANGED:   a gamer's medal tier changed (gamerIndex, oldMedal, newMedal, totalPoints)
+ * - MEDAL_COUNTS:    too many medal changes to coalesce per gamer; carries the current
+ *                    number of gamers per medal instead (medalCounts, by Medal ordinal)
+ * - TOP_K_CHANGED:   membership or order of the top K changed (topGamerIndices, topTotals)
+ * Fields that do not apply to a kind are -1 / null. Immutable.
+ */
+public final class LeaderboardUpdate {
+
+    public enum Kind { MATCH_SCORED, MATCHES_SKIPPED, MEDAL_CHANGED, MEDAL_COUNTS, TOP_K_CHANGED }
+
+    private final Kind kind;
+    private final int gamerIndex;
+    private final int matchId;
+    private final int matchPoints;
+    private final int totalPoints;
+    private final Medal oldMedal;
+    private final Medal newMedal;
+    private final int[] topGamerIndices;
+    private final int[] topTotals;
+    private final long skippedMatches;
+    private final long skippedPoints;
+    private final int[] medalCounts;
+
+    private LeaderboardUpdate(Kind kind, int gamerIndex, int matchId, int matchPoints, int totalPoints,
+                              Medal oldMedal, Medal newMedal, int[] topGamerIndices, int[] topTotals,
+                              long skippedMatches, long skippedPoints, int[] medalCounts) {
+        this.kind = kind;
+        this.gamerIndex = gamerIndex;
+        this.matchId = matchId;
+        this.matchPoints = matchPoints;
+        this.totalPoints = totalPoints;
+        this.oldMedal = oldMedal;
+        this.newMedal = newMedal;
+        this.topGamerIndices = topGamerIndices;
+        this.topTotals = topTotals;
+        this.skippedMatches = skippedMatches;
+        this.skippedPoints = skippedPoints;
+        this.medalCounts = medalCounts;
+    }
+
+    static LeaderboardUpdate matchScored(int gamerIndex, int matchId, int matchPoints, int totalPoints) {
+        return new LeaderboardUpdate(Kind.MATCH_SCORED, gamerIndex, matchId, matchPoints, totalPoints,
+                null, null, null, null, 0, 0, null);
+    }
+
+    static LeaderboardUpdate matchesSkipped(long count, long points) {
+        return new LeaderboardUpdate(Kind.MATCHES_SKIPPED, -1, -1, -1, -1, null, null, null, null, count, points, null);
+    }
+
+    static LeaderboardUpdate medalChanged(int gamerIndex, Medal oldMedal, Medal newMedal, int totalPoints) {
+        return new LeaderboardUpdate(Kind.MEDAL_CHANGED, gamerIndex, -1, -1, totalPoints,
+                oldMedal, newMedal, null, null, 0, 0, null);
+    }
+
+    /** Arrays are taken as given (callers pass fresh copies). */
+    static LeaderboardUpdate topKChanged(int[] gamerIndices, int[] totals) {
+        return new LeaderboardUpdate(Kind.TOP_K_CHANGED, -1, -1, -1, -1, null, null, gamerIndices, totals, 0, 0, null);
+    }
+
+    /** counts is taken as given (callers pass a fresh copy). */
+    static LeaderboardUpdate medalCounts(int[] counts) {
+        return new LeaderboardUpdate(Kind.MEDAL_COUNTS, -1, -1, -1, -1, null, null, null, null, 0, 0, counts);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getGamerIndex() {
+        return gamerIndex;
+    }
+
+    public int getMatchId() {
+        return matchId;
+    }
+
+    public int getMatchPoints() {
+        return matchPoints;
+    }
+
+    public int getTotalPoints() {
+        return totalPoints;
+    }
+
+    public Medal getOldMedal() {
+        return oldMedal;
+    }
+
+    public Medal getNewMedal() {
+        return newMedal;
+    }
+
+    /** Top gamer indices, best first (null unless TOP_K_CHANGED). */
+    public int[] getTopGamerIndices() {
+        return topGamerIndices == null ? null : topGamerIndices.clone();
+    }
+
+    /** Totals parallel to getTopGamerIndices(). */
+    public int[] getTopTotals() {
+        return topTotals == null ? null : topTotals.clone();
+    }
+
+    /** Gamers per medal, indexed by Medal ordinal (null unless MEDAL_COUNTS). */
+    public int[] getMedalCounts() {
+        return medalCounts == null ? null : medalCounts.clone();
+    }
+
+    public long getSkippedMatches() {
+        return skippedMatches;
+    }
+
+    public long getSkippedPoints() {
+        return skippedPoints;
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case MATCH_SCORED:
+                return "MATCH_SCORED gamer=" + gamerIndex + " match=" + matchId + " points=" + matchPoints
+                        + " total=" + totalPoints;
+            case MATCHES_SKIPPED:
+                return "MATCHES_SKIPPED count=" + skippedMatches + " points=" + skippedPoints;
+            case MEDAL_CHANGED:
+                return "MEDAL_CHANGED gamer=" + gamerIndex + " " + oldMedal + " -> " + newMedal
+                        + " total=" + totalPoints;
+            case MEDAL_COUNTS:
+                return "MEDAL_COUNTS " + Arrays.toString(medalCounts);
+            default:
+                return "TOP_K_CHANGED " + Arrays.toString(topGamerIndices);
+        }
+    }
+}
@@ -0,0 +1,486 @@
+package com.esports.logic;
+
+import com.esports.model.Gamer;
+import com.esports.model.Medal;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes live leaderboard updates (see LeaderboardUpdate) to Flow subscribers while
+ * a season is simulated or ingested.
+ * Sources:
+ * - register with MatchManagement.addRecordListener: every stored match is published
+ * - applyDelta(): total changes that do not come from a new match (e.g. rescoring)
+ * The publisher keeps its own running totals, medals and top K.
+ * Backpressure, per subscriber:
+ * - a bounded buffer of bufferCapacity updates, delivered only against request(n)
+ * - when it is full, updates are coalesced instead of queued: match events are folded
+ *   into one MATCHES_SKIPPED count, medal changes keep the latest per gamer (beyond
+ *   bufferCapacity gamers they collapse into one MEDAL_COUNTS snapshot) and top-K
+ *   changes keep only the newest list
+ * - onNext runs on the executor, one drain task per subscriber at a time
+ * Publishing therefore never waits for a subscriber: the recording thread only does an
+ * O(K) top-K update and a short locked enqueue per subscriber.
+ */
+public class LiveLeaderboardPublisher implements Flow.Publisher<LeaderboardUpdate>, MatchRecordListener,
+        AutoCloseable {
+
+    public static final int DEFAULT_BUFFER_CAPACITY = 256;
+
+    private final Gamer[] gamers;
+    private final int[] totals;
+    private final Medal[] medals;
+    private final int[] medalCounts;    // Gamers per medal ordinal
+    private final int[] topIndices;     // Best first: total descending, index ascending
+    private final int[] topTotals;
+    private int topSize;
+
+    private final int bufferCapacity;
+    private final Executor executor;
+    private final List<LiveSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private volatile boolean closed;
+    private volatile Throwable closeError;
+
+    public LiveLeaderboardPublisher(Gamer[] gamers, int topK) {
+        this(gamers, topK, DEFAULT_BUFFER_CAPACITY, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param gamers         gamer list in MatchManagement order (copied)
+     * @param topK           size of the tracked top list (>= 1)
+     * @param bufferCapacity per-subscriber buffer size before coalescing (>= 1)
+     * @param executor       runs subscriber callbacks
+     */
+    public LiveLeaderboardPublisher(Gamer[] gamers, int topK, int bufferCapacity, Executor executor) {
+        if (gamers == null || executor == null) {
+            throw new IllegalArgumentException("gamers/executor cannot be null");
+        }
+        if (topK < 1 || bufferCapacity < 1) {
+            throw new IllegalArgumentException("topK and bufferCapacity must be >= 1");
+        }
+        this.gamers = new Gamer[gamers.length];
+        for (int i = 0; i < gamers.length; i++) {
+            this.gamers[i] = new Gamer(gamers[i]);
+        }
+        this.totals = new int[gamers.length];
+        this.medals = new Medal[gamers.length];
+        Medal initial = Medal.fromTotalPoints(0);
+        Arrays.fill(medals, initial);
+        this.medalCounts = new int[Medal.values().length];
+        medalCounts[initial.ordinal()] = gamers.length;
+        this.topIndices = new int[Math.min(topK, gamers.length)];
+        this.topTotals = new int[topIndices.length];
+        this.bufferCapacity = bufferCapacity;
+        this.executor = executor;
+    }
+
+    // ---------------- Flow.Publisher ----------------
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super LeaderboardUpdate> subscriber) {
+        if (subscriber == null) throw new NullPointerException("subscriber");
+        LiveSubscription s = new LiveSubscription(subscriber);
+        for (LiveSubscription existing : subscriptions) {
+            if (existing.subscriber == subscriber) {
+                subscriber.onSubscribe(s);
+                subscriber.onError(new IllegalStateException("Already subscribed"));
+                return;
+            }
+        }
+        // The new subscription starts with the drain token held (wip = 1), so no signal can
+        // reach the subscriber until onSubscribe has returned (Flow rule 1.3: serial signals).
+        subscriber.onSubscribe(s);
+        subscriptions.add(s);
+        if (s.isCancelled()) subscriptions.remove(s); // Cancelled inside onSubscribe
+        if (closed) s.terminate(closeError);
+        s.releaseAfterSubscribe();
+    }
+
+    // ---------------- Sources ----------------
+
+    @Override
+    public void onMatchRecorded(int gamerIndex, int matchIndex, int matchId, long packedMatch, int matchPoints) {
+        publish(gamerIndex, matchPoints, matchId, true);
+    }
+
+    /** Publishes a total change that is not a new match (medal / top-K updates only). */
+    public void applyDelta(int gamerIndex, int delta) {
+        publish(gamerIndex, delta, -1, false);
+    }
+
+    private synchronized void publish(int gamerIndex, int delta, int matchId, boolean isMatch) {
+        if (gamerIndex < 0 || gamerIndex >= totals.length) {
+            throw new IllegalArgumentException("Gamer index out of range: " + gamerIndex);
+        }
+        int total = totals[gamerIndex] + delta;
+        totals[gamerIndex] = total;
+        boolean hasSubscribers = !closed && !subscriptions.isEmpty();
+
+        if (isMatch && hasSubscribers) {
+            published.increment();
+            for (LiveSubscription s : subscriptions) s.offerMatch(gamerIndex, matchId, delta, total);
+        }
+        Medal medal = Medal.fromTotalPoints(total);
+        if (medal != medals[gamerIndex]) {
+            medalCounts[medals[gamerIndex].ordinal()]--;
+            medalCounts[medal.ordinal()]++;
+            if (hasSubscribers) {
+                offerAll(LeaderboardUpdate.medalChanged(gamerIndex, medals[gamerIndex], medal, total));
+            }
+            medals[gamerIndex] = medal;
+        }
+        if (updateTop(gamerIndex, total, delta) && hasSubscribers) {
+            offerAll(LeaderboardUpdate.topKChanged(Arrays.copyOf(topIndices, topSize),
+                    Arrays.copyOf(topTotals, topSize)));
+        }
+    }
+
+    private void offerAll(LeaderboardUpdate update) {
+        published.increment();
+        for (LiveSubscription s : subscriptions) s.offer(update);
+    }
+
+    // ---------------- Top K ----------------
+
+    /** Updates the top list for gamer g; true when membership or order changed. */
+    private boolean updateTop(int g, int total, int delta) {
+        if (topIndices.length == 0) return false;
+        int pos = -1;
+        for (int i = 0; i < topSize; i++) {
+            if (topIndices[i] == g) {
+                pos = i;
+                break;
+            }
+        }
+        if (pos >= 0) {
+            if (delta < 0) return rebuildTop();
+            topTotals[pos] = total;
+            return bubbleUp(pos) != pos;
+        }
+        if (topSize < topIndices.length) {
+            topIndices[topSize] = g;
+            topTotals[topSize] = total;
+            bubbleUp(topSize++);
+            return true;
+        }
+        int last = topSize - 1;
+        if (!better(g, total, topIndices[last], topTotals[last])) return false;
+        topIndices[last] = g;
+        topTotals[last] = total;
+        bubbleUp(last);
+        return true;
+    }
+
+    private int bubbleUp(int pos) {
+        while (pos > 0 && better(topIndices[pos], topTotals[pos], topIndices[pos - 1], topTotals[pos - 1])) {
+            int idx = topIndices[pos];
+            int tot = topTotals[pos];
+            topIndices[pos] = topIndices[pos - 1];
+            topTotals[pos] = topTotals[pos - 1];
+            topIndices[pos - 1] = idx;
+            topTotals[pos - 1] = tot;
+            pos--;
+        }
+        return pos;
+    }
+
+    /** Full rescan, only needed when a top gamer's total drops. */
+    private boolean rebuildTop() {
+        int[] before = Arrays.copyOf(topIndices, topSize);
+        topSize = 0;
+        for (int g = 0; g < totals.length; g++) {
+            int t = totals[g];
+            if (topSize < topIndices.length) {
+                topIndices[topSize] = g;
+                topTotals[topSize] = t;
+                bubbleUp(topSize++);
+            } else if (better(g, t, topIndices[topSize - 1], topTotals[topSize - 1])) {
+                topIndices[topSize - 1] = g;
+                topTotals[topSize - 1] = t;
+                bubbleUp(topSize - 1);
+            }
+        }
+        return !Arrays.equals(before, Arrays.copyOf(topIndices, topSize));
+    }
+
+    private static boolean better(int a, int totalA, int b, int totalB) {
+        return totalA > totalB || (totalA == totalB && a < b);
+    }
+
+    // ---------------- State ----------------
+
+    public synchronized int getTotalPoints(int gamerIndex) {
+        return (gamerIndex >= 0 && gamerIndex < totals.length) ? totals[gamerIndex] : 0;
+    }
+
+    public synchronized int[] getMedalCounts() {
+        return medalCounts.clone();
+    }
+
+    public synchronized int[] getTopGamerIndices() {
+        return Arrays.copyOf(topIndices, topSize);
+    }
+
+    public Gamer getGamer(int gamerIndex) {
+        return new Gamer(gamers[gamerIndex]);
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /** Updates published (each counted once, whatever the number of subscribers). */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /** Updates folded into coalesced state because a subscriber's buffer was full. */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /** Completes every subscriber once its buffered updates are delivered. */
+    @Override
+    public void close() {
+        closeWith(null);
+    }
+
+    /** Signals onError to every subscriber (buffered updates are dropped). */
+    public void closeExceptionally(Throwable error) {
+        if (error == null) {
+            throw new IllegalArgumentException("error cannot be null");
+        }
+        closeWith(error);
+    }
+
+    private synchronized void closeWith(Throwable error) {
+        if (closed) return;
+        closeError = error;
+        closed = true;
+        for (LiveSubscription s : subscriptions) s.terminate(error);
+    }
+
+    // ---------------- Subscription ----------------
+
+    private final class LiveSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super LeaderboardUpdate> subscriber;
+        private final AtomicInteger wip = new AtomicInteger(1); // Held by subscribe() until onSubscribe returns
+
+        // Guarded by this
+        private final ArrayDeque<LeaderboardUpdate> buffer = new ArrayDeque<>();
+        private final Map<Integer, LeaderboardUpdate> pendingMedals = new LinkedHashMap<>();
+        private LeaderboardUpdate pendingMedalCounts;
+        private LeaderboardUpdate pendingTop;
+        private long skippedMatches;
+        private long skippedPoints;
+        private long demand;
+        private boolean done;            // Terminal signal requested
+        private Throwable error;
+        private boolean cancelled;
+
+        LiveSubscription(Flow.Subscriber<? super LeaderboardUpdate> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /** Match events are the bulk of the stream: only allocated when actually buffered. */
+        void offerMatch(int gamerIndex, int matchId, int points, int total) {
+            synchronized (this) {
+                if (cancelled || done) return;
+                if (buffer.size() < bufferCapacity && !hasCoalesced()) {
+                    buffer.add(LeaderboardUpdate.matchScored(gamerIndex, matchId, points, total));
+                } else {
+                    coalesced.increment();
+                    skippedMatches++;
+                    skippedPoints += points;
+                }
+            }
+            schedule();
+        }
+
+        void offer(LeaderboardUpdate u) {
+            synchronized (this) {
+                if (cancelled || done) return;
+                if (buffer.size() < bufferCapacity && !hasCoalesced()) {
+                    buffer.add(u);
+                } else {
+                    coalesce(u);
+                }
+            }
+            schedule();
+        }
+
+        private boolean hasCoalesced() {
+            return skippedMatches > 0 || !pendingMedals.isEmpty() || pendingMedalCounts != null || pendingTop != null;
+        }
+
+        /**
+         * Buffer full (or already coalescing, to keep ordering per kind): fold u into pending state.
+         * Runs inside publish(), so the publisher's medal counts are consistent here.
+         */
+        private void coalesce(LeaderboardUpdate u) {
+            coalesced.increment();
+            switch (u.getKind()) {
+                case MATCH_SCORED:
+                    skippedMatches++;
+                    skippedPoints += u.getMatchPoints();
+                    break;
+                case MEDAL_CHANGED:
+                    if (pendingMedalCounts != null
+                            || (pendingMedals.size() >= bufferCapacity && !pendingMedals.containsKey(u.getGamerIndex()))) {
+                        pendingMedals.clear();
+                        pendingMedalCounts = LeaderboardUpdate.medalCounts(medalCounts.clone());
+                        break;
+                    }
+                    LeaderboardUpdate prev = pendingMedals.remove(u.getGamerIndex());
+                    Medal from = (prev == null) ? u.getOldMedal() : prev.getOldMedal();
+                    if (from != u.getNewMedal()) {
+                        pendingMedals.put(u.getGamerIndex(),
+                                LeaderboardUpdate.medalChanged(u.getGamerIndex(), from, u.getNewMedal(),
+                                        u.getTotalPoints()));
+                    }
+                    break;
+                default:
+                    pendingTop = u;
+            }
+        }
+
+        /** Next update to deliver: buffered ones first, then the coalesced state (oldest kind first). */
+        private LeaderboardUpdate poll() {
+            LeaderboardUpdate u = buffer.poll();
+            if (u != null) return u;
+            if (skippedMatches > 0) {
+                u = LeaderboardUpdate.matchesSkipped(skippedMatches, skippedPoints);
+                skippedMatches = 0;
+                skippedPoints = 0;
+                return u;
+            }
+            if (!pendingMedals.isEmpty()) {
+                Iterator<LeaderboardUpdate> it = pendingMedals.values().iterator();
+                u = it.next();
+                it.remove();
+                return u;
+            }
+            if (pendingMedalCounts != null) {
+                u = pendingMedalCounts;
+                pendingMedalCounts = null;
+                return u;
+            }
+            u = pendingTop;
+            pendingTop = null;
+            return u;
+        }
+
+        private void clearPending() {
+            buffer.clear();
+            pendingMedals.clear();
+            pendingMedalCounts = null;
+            pendingTop = null;
+            skippedMatches = 0;
+            skippedPoints = 0;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (cancelled) return;
+                if (n <= 0) {
+                    error = new IllegalArgumentException("request(n) needs n > 0, got " + n);
+                    done = true;
+                    clearPending();
+                } else {
+                    demand = (demand + n < 0) ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                clearPending();
+            }
+            subscriptions.remove(this);
+        }
+
+        void terminate(Throwable t) {
+            synchronized (this) {
+                if (done) return;
+                done = true;
+                error = t;
+                if (t != null) {
+                    clearPending();
+                }
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        /** Drops subscribe()'s drain token; runs the drain for anything requested meanwhile. */
+        void releaseAfterSubscribe() {
+            if (wip.decrementAndGet() != 0) {
+                executor.execute(this);
+            }
+        }
+
+        /** Drain loop; at most one instance runs per subscription. */
+        @Override
+        public void run() {
+            int missed = 1;
+            while (true) {
+                while (true) {
+                    LeaderboardUpdate next;
+                    synchronized (this) {
+                        if (cancelled || demand == 0) break;
+                        next = poll();
+                        if (next == null) break;
+                        if (demand != Long.MAX_VALUE) demand--;
+                    }
+                    try {
+                        subscriber.onNext(next);
+                    } catch (RuntimeException e) {
+                        cancel(); // Misbehaving subscriber (Flow rule 2.13)
+                        return;
+                    }
+                }
+                boolean finish;
+                Throwable t;
+                synchronized (this) {
+                    finish = !cancelled && done && (error != null || (buffer.isEmpty() && !hasCoalesced()));
+                    t = error;
+                    if (finish) cancelled = true;
+                }
+                if (finish) {
+                    subscriptions.remove(this);
+                    if (t != null) subscriber.onError(t);
+                    else subscriber.onComplete();
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) return;
+            }
+        }
+    }
+}
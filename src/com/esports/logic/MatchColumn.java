@@ -0,0 +1,18 @@
+package com.esports.logic;
+
+/**
+ * Primitive columns available to MatchQuery (one int per match each).
+ * GAME_n columns hold game indices into the season's game table.
+ */
+public enum MatchColumn {
+    GAMER,          // gamer index (file order)
+    MATCH_INDEX,    // 0..14 within the gamer's season
+    MATCH_ID,
+    GAME_0, GAME_1, GAME_2,
+    ROUNDS_0, ROUNDS_1, ROUNDS_2,
+    EXPERIENCE,     // capped experience used for scoring
+    RAW,
+    SKILL,
+    BONUS,
+    POINTS
+}
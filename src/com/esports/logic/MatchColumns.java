@@ -0,0 +1,101 @@
+package com.esports.logic;
+
+import com.esports.model.Game;
+import com.esports.model.PackedMatch;
+
+/**
+ * Columnar (struct-of-arrays) view of a season for analytical scans:
+ * one int[] per MatchColumn, one entry per match, rows in grid order
+ * (gamer 0 matches 0..14, then gamer 1, ...). Empty slots of the season are skipped.
+ * Built once from a PackedSeason; immutable afterwards.
+ */
+public final class MatchColumns {
+
+    private final int rows;
+    private final int[][] columns;   // [MatchColumn.ordinal()][row]
+    private final Game[] games;
+
+    private MatchColumns(int rows, int[][] columns, Game[] games) {
+        this.rows = rows;
+        this.columns = columns;
+        this.games = games;
+    }
+
+    public static MatchColumns from(PackedSeason season) {
+        if (season == null) {
+            throw new IllegalArgumentException("season cannot be null");
+        }
+        Game[] games = season.getGames();
+        int[] base = PackedMatch.basePointTable(games);
+
+        int rows = 0;
+        for (int i = 0; i < season.getNumberOfGamers(); i++) {
+            rows += season.getPlayedMatchCount(i);
+        }
+        int[][] c = new int[MatchColumn.values().length][rows];
+
+        int r = 0;
+        for (int i = 0; i < season.getNumberOfGamers(); i++) {
+            for (int j = 0; j < season.getMatchCount(i); j++) {
+                if (season.isEmpty(i, j)) continue;
+                long p = season.getPacked(i, j);
+                int raw = PackedMatch.rawPoints(p, base);
+                int bonus = PackedMatch.bonusPoints(p, base);
+                int points = season.getMatchPoints(i, j);
+                c[MatchColumn.GAMER.ordinal()][r] = i;
+                c[MatchColumn.MATCH_INDEX.ordinal()][r] = j;
+                c[MatchColumn.MATCH_ID.ordinal()][r] = season.getMatchId(i, j);
+                c[MatchColumn.GAME_0.ordinal()][r] = PackedMatch.gameIndex(p, 0);
+                c[MatchColumn.GAME_1.ordinal()][r] = PackedMatch.gameIndex(p, 1);
+                c[MatchColumn.GAME_2.ordinal()][r] = PackedMatch.gameIndex(p, 2);
+                c[MatchColumn.ROUNDS_0.ordinal()][r] = PackedMatch.rounds(p, 0);
+                c[MatchColumn.ROUNDS_1.ordinal()][r] = PackedMatch.rounds(p, 1);
+                c[MatchColumn.ROUNDS_2.ordinal()][r] = PackedMatch.rounds(p, 2);
+                c[MatchColumn.EXPERIENCE.ordinal()][r] = PackedMatch.cappedExperience(p);
+                c[MatchColumn.RAW.ordinal()][r] = raw;
+                c[MatchColumn.SKILL.ordinal()][r] = points - bonus;
+                c[MatchColumn.BONUS.ordinal()][r] = bonus;
+                c[MatchColumn.POINTS.ordinal()][r] = points;
+                r++;
+            }
+        }
+        return new MatchColumns(rows, c, games);
+    }
+
+    public int rowCount() {
+        return rows;
+    }
+
+    /** Direct (read-only by convention) access to a column for scans within this package. */
+    int[] column(MatchColumn column) {
+        return columns[column.ordinal()];
+    }
+
+    public int get(MatchColumn column, int row) {
+        return columns[column.ordinal()][row];
+    }
+
+    public int gameCount() {
+        return games.length;
+    }
+
+    public String gameName(int gameIndex) {
+        return games[gameIndex].getName();
+    }
+
+    /** Returns the game index for a game id, or -1 when the id is unknown. */
+    public int gameIndexOfId(int gameId) {
+        for (int i = 0; i < games.length; i++) {
+            if (games[i].getId() == gameId) return i;
+        }
+        return -1;
+    }
+
+    /** Returns the game index for a game name (case-insensitive), or -1 when unknown. */
+    public int gameIndexOfName(String name) {
+        for (int i = 0; i < games.length; i++) {
+            if (games[i].getName().equalsIgnoreCase(name)) return i;
+        }
+        return -1;
+    }
+}
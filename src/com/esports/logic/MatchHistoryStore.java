@@ -0,0 +1,289 @@
+package com.esports.logic;
+
+import com.esports.model.Game;
+import com.esports.model.Match;
+import com.esports.model.PackedMatch;
+
+import java.util.Arrays;
+
+/**
+ * Variable-length match histories in compressed sparse row (CSR) layout.
+ * - one contiguous set of match columns: packed match (see PackedMatch), match ID, match points
+ * - gamer g's row is offsets[g] .. offsets[g] + counts[g] of the columns, with spare
+ *   capacity up to offsets[g] + capacities[g] for appends
+ * An append writes into the row's spare capacity in O(1). A full row moves to the end of
+ * the columns with twice its capacity (O(row), so O(1) amortized per append), leaving its
+ * old slots unused; once unused slots are at least half of the columns, all rows are
+ * repacked in one pass. Reads never reorganize anything.
+ * Storage is proportional to the matches actually played: 16 bytes per match (about 2x
+ * at most with spare capacity and unused slots; compact() trims both) + 12 per gamer,
+ * not gamers × the busiest gamer's match count.
+ * Per-gamer match counts and totals are kept up to date on every append.
+ * Registered with MatchManagement.addRecordListener, it records every stored match.
+ * Not thread-safe (like MatchManagement).
+ */
+public class MatchHistoryStore implements MatchRecordListener {
+
+    private static final int MIN_ROW_CAPACITY = 4;
+    private static final int MAX_COLUMN_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final Game[] games;
+    private final int[] basePoints;
+
+    private final int[] offsets;     // Row start per gamer
+    private final int[] capacities;  // Row capacity per gamer (>= counts)
+    private final int[] counts;      // Matches per gamer
+    private final int[] totals;      // Match points per gamer
+    private long[] packed;
+    private int[] matchIds;
+    private int[] points;
+    private int end;                 // Columns in use by rows (start of free space)
+    private int unused;              // Slots left behind by moved rows
+    private int size;                // Matches in the store
+
+    public MatchHistoryStore(int gamerCount, Game[] games) {
+        if (gamerCount < 0 || games == null) {
+            throw new IllegalArgumentException("gamerCount must be >= 0 and games cannot be null");
+        }
+        this.games = new Game[games.length];
+        for (int i = 0; i < games.length; i++) {
+            this.games[i] = new Game(games[i]);
+        }
+        this.basePoints = PackedMatch.basePointTable(this.games);
+        this.offsets = new int[gamerCount];
+        this.capacities = new int[gamerCount];
+        this.packed = new long[0];
+        this.matchIds = new int[0];
+        this.points = new int[0];
+        this.counts = new int[gamerCount];
+        this.totals = new int[gamerCount];
+    }
+
+    /** Copies a packed season, skipping empty slots (packed value 0), so counts are the real ones. */
+    public static MatchHistoryStore fromSeason(PackedSeason season) {
+        if (season == null) {
+            throw new IllegalArgumentException("season cannot be null");
+        }
+        int n = season.getNumberOfGamers();
+        MatchHistoryStore store = new MatchHistoryStore(n, season.getGames());
+        long matches = 0;
+        for (int i = 0; i < n; i++) {
+            matches += season.getPlayedMatchCount(i);
+        }
+        if (matches > MAX_COLUMN_LENGTH) {
+            throw new IllegalArgumentException("Too many matches for one store: " + matches);
+        }
+        // Rows arrive in gamer order, so the columns can be filled directly (no spare capacity).
+        int m = (int) matches;
+        store.packed = new long[m];
+        store.matchIds = new int[m];
+        store.points = new int[m];
+        int pos = 0;
+        for (int i = 0; i < n; i++) {
+            store.offsets[i] = pos;
+            int total = 0;
+            for (int j = 0; j < season.getMatchCount(i); j++) {
+                if (season.isEmpty(i, j)) continue;
+                long p = season.getPacked(i, j);
+                int pts = season.getMatchPoints(i, j);
+                store.packed[pos] = p;
+                store.matchIds[pos] = season.getMatchId(i, j);
+                store.points[pos] = pts;
+                total += pts;
+                pos++;
+            }
+            store.counts[i] = pos - store.offsets[i];
+            store.capacities[i] = store.counts[i];
+            store.totals[i] = total;
+        }
+        store.end = pos;
+        store.size = pos;
+        return store;
+    }
+
+    // ---------------- Appends ----------------
+
+    /** Appends one match to a gamer's history; points are derived from the packed match. */
+    public void append(int gamerIndex, int matchId, long packedMatch) {
+        append(gamerIndex, matchId, packedMatch, PackedMatch.matchPoints(packedMatch, basePoints));
+    }
+
+    /** Appends one already scored match. */
+    public void append(int gamerIndex, int matchId, long packedMatch, int matchPoints) {
+        if (gamerIndex < 0 || gamerIndex >= counts.length) {
+            throw new IllegalArgumentException("Gamer index out of range: " + gamerIndex);
+        }
+        if (packedMatch == 0) {
+            throw new IllegalArgumentException("Empty packed match");
+        }
+        if (counts[gamerIndex] == capacities[gamerIndex]) {
+            moveRowToEnd(gamerIndex);
+        }
+        int pos = offsets[gamerIndex] + counts[gamerIndex];
+        packed[pos] = packedMatch;
+        matchIds[pos] = matchId;
+        points[pos] = matchPoints;
+        counts[gamerIndex]++;
+        totals[gamerIndex] += matchPoints;
+        size++;
+    }
+
+    @Override
+    public void onMatchRecorded(int gamerIndex, int matchIndex, int matchId, long packedMatch, int matchPoints) {
+        append(gamerIndex, matchId, packedMatch, matchPoints);
+    }
+
+    /** Gives a full row twice its capacity at the end of the columns (repacking first if half is unused). */
+    private void moveRowToEnd(int g) {
+        int count = counts[g];
+        long wanted = Math.max(MIN_ROW_CAPACITY, 2L * count);
+        if (unused > 0 && unused >= end / 2) {
+            repack(true);
+        }
+        if (end + wanted > MAX_COLUMN_LENGTH) {
+            repack(false);
+            wanted = Math.min(wanted, (long) MAX_COLUMN_LENGTH - end);
+            if (wanted <= count) {
+                throw new IllegalStateException("Match store is full");
+            }
+        }
+        int capacity = (int) wanted;
+        ensureColumns(end + capacity);
+        int from = offsets[g];
+        System.arraycopy(packed, from, packed, end, count);
+        System.arraycopy(matchIds, from, matchIds, end, count);
+        System.arraycopy(points, from, points, end, count);
+        unused += capacities[g];
+        offsets[g] = end;
+        capacities[g] = capacity;
+        end += capacity;
+    }
+
+    private void ensureColumns(int length) {
+        if (length <= packed.length) return;
+        int cap = (int) Math.min(MAX_COLUMN_LENGTH, Math.max(length, packed.length + ((long) packed.length >> 1)));
+        packed = Arrays.copyOf(packed, cap);
+        matchIds = Arrays.copyOf(matchIds, cap);
+        points = Arrays.copyOf(points, cap);
+    }
+
+    /**
+     * Lays the rows out back to back in gamer order, dropping unused slots.
+     * @param keepSpare true to keep each row's spare capacity, false to trim rows to their counts
+     */
+    private void repack(boolean keepSpare) {
+        int gamers = counts.length;
+        long needed = 0;
+        for (int g = 0; g < gamers; g++) {
+            needed += keepSpare ? capacities[g] : counts[g];
+        }
+        int length = (int) needed;
+        long[] newPacked = new long[length];
+        int[] newIds = new int[length];
+        int[] newPoints = new int[length];
+        int pos = 0;
+        for (int g = 0; g < gamers; g++) {
+            int from = offsets[g];
+            int len = counts[g];
+            System.arraycopy(packed, from, newPacked, pos, len);
+            System.arraycopy(matchIds, from, newIds, pos, len);
+            System.arraycopy(points, from, newPoints, pos, len);
+            offsets[g] = pos;
+            if (!keepSpare) capacities[g] = len;
+            pos += capacities[g];
+        }
+        packed = newPacked;
+        matchIds = newIds;
+        points = newPoints;
+        end = pos;
+        unused = 0;
+    }
+
+    /**
+     * Repacks the rows back to back without spare capacity or unused slots, e.g. once a
+     * burst of appends is over. Later appends still work (rows move on demand).
+     */
+    public void compact() {
+        if (unused == 0 && end == size && packed.length == size) return;
+        repack(false);
+    }
+
+    // ---------------- Per-gamer aggregates (always current) ----------------
+
+    public int getNumberOfGamers() {
+        return counts.length;
+    }
+
+    /** Matches actually played by one gamer. */
+    public int getMatchCount(int gamerIndex) {
+        return (gamerIndex >= 0 && gamerIndex < counts.length) ? counts[gamerIndex] : 0;
+    }
+
+    public int getTotalPoints(int gamerIndex) {
+        return (gamerIndex >= 0 && gamerIndex < totals.length) ? totals[gamerIndex] : 0;
+    }
+
+    /** Matches in the store. */
+    public int size() {
+        return size;
+    }
+
+    // ---------------- Rows ----------------
+
+    /** First column position of gamer g's row (use with getEnd and the *At accessors). */
+    public int getStart(int gamerIndex) {
+        checkGamer(gamerIndex);
+        return offsets[gamerIndex];
+    }
+
+    /** End (exclusive) of gamer g's row; positions stay valid until the next append. */
+    public int getEnd(int gamerIndex) {
+        checkGamer(gamerIndex);
+        return offsets[gamerIndex] + counts[gamerIndex];
+    }
+
+    public long getPackedAt(int position) {
+        return packed[position];
+    }
+
+    public int getMatchIdAt(int position) {
+        return matchIds[position];
+    }
+
+    public int getMatchPointsAt(int position) {
+        return points[position];
+    }
+
+    /** k-th match (append order) of one gamer, materialized for display. */
+    public Match getMatch(int gamerIndex, int k) {
+        if (k < 0 || k >= getMatchCount(gamerIndex)) {
+            throw new IllegalArgumentException("No match " + k + " for gamer " + gamerIndex);
+        }
+        int pos = getStart(gamerIndex) + k;
+        return PackedMatch.toMatch(packed[pos], matchIds[pos], games);
+    }
+
+    /** One gamer's matches as Match objects (e.g. to feed Query with a ragged grid). */
+    public Match[] getMatches(int gamerIndex) {
+        int start = getStart(gamerIndex);
+        Match[] row = new Match[counts[gamerIndex]];
+        for (int k = 0; k < row.length; k++) {
+            row[k] = PackedMatch.toMatch(packed[start + k], matchIds[start + k], games);
+        }
+        return row;
+    }
+
+    private void checkGamer(int gamerIndex) {
+        if (gamerIndex < 0 || gamerIndex >= counts.length) {
+            throw new IllegalArgumentException("Gamer index out of range: " + gamerIndex);
+        }
+    }
+
+    public Game[] getGames() {
+        Game[] copy = new Game[games.length];
+        for (int i = 0; i < games.length; i++) {
+            copy[i] = new Game(games[i]);
+        }
+        return copy;
+    }
+}
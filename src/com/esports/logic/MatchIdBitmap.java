@@ -0,0 +1,478 @@
+package com.esports.logic;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Compressed set of match IDs (non-negative ints), roaring-bitmap style.
+ * An id is split into a 16-bit key (high bits) and a 16-bit low part; each key owns one container:
+ * - ARRAY  sorted char[] of low parts, up to 4096 values (2 bytes per id)
+ * - BITMAP long[1024], one bit per low part (fixed 8 KB)
+ * - RUN    sorted (start, length - 1) char pairs (4 bytes per run of consecutive ids)
+ * A full array container turns into runs or a bitmap, whichever is smaller; a run container
+ * with too many runs turns into a bitmap. Mostly sequential IDs therefore cost a few bytes
+ * per 65536 ids, and appending the next id extends the last run in O(1).
+ * contains() is a binary search over keys (skipped for the most recently used key)
+ * plus one lookup / binary search inside the container.
+ * Binary form: see writeTo / readFrom (magic "ESMB").
+ */
+public class MatchIdBitmap {
+
+    private static final int MAGIC = 0x45534D42; // "ESMB"
+    private static final int VERSION = 1;
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final int BITMAP_BYTES = BITMAP_WORDS * 8;
+    private static final byte TYPE_ARRAY = 0;
+    private static final byte TYPE_BITMAP = 1;
+    private static final byte TYPE_RUN = 2;
+
+    private int[] keys = new int[4];
+    private Container[] containers = new Container[4];
+    private int size;               // Number of containers
+    private long cardinality;
+    private int lastIndex = -1;     // Container index of the last lookup (sequential fast path)
+
+    /**
+     * Adds an id.
+     * @return true when it was not present yet (i.e. the match is new)
+     */
+    public boolean add(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Match id must be >= 0: " + id);
+        }
+        int key = id >>> 16;
+        int low = id & 0xFFFF;
+        int i = indexOf(key);
+        if (i < 0) {
+            i = -i - 1;
+            insertContainer(i, key, new ArrayContainer());
+        }
+        Container c = containers[i];
+        if (c.contains(low)) return false;
+        containers[i] = c.add(low);
+        cardinality++;
+        return true;
+    }
+
+    public boolean contains(int id) {
+        if (id < 0) return false;
+        int i = indexOf(id >>> 16);
+        return i >= 0 && containers[i].contains(id & 0xFFFF);
+    }
+
+    public long getCardinality() {
+        return cardinality;
+    }
+
+    public int getContainerCount() {
+        return size;
+    }
+
+    /** Payload bytes of all containers plus the key index. */
+    public long sizeInBytes() {
+        long bytes = size * 6L;
+        for (int i = 0; i < size; i++) bytes += containers[i].sizeInBytes();
+        return bytes;
+    }
+
+    /** Converts every container to its smallest representation. */
+    public void runOptimize() {
+        for (int i = 0; i < size; i++) containers[i] = containers[i].optimize();
+    }
+
+    private int indexOf(int key) {
+        int last = lastIndex;
+        if (last >= 0 && last < size && keys[last] == key) return last;
+        int i = Arrays.binarySearch(keys, 0, size, key);
+        if (i >= 0) lastIndex = i;
+        return i;
+    }
+
+    private void insertContainer(int at, int key, Container c) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, at, keys, at + 1, size - at);
+        System.arraycopy(containers, at, containers, at + 1, size - at);
+        keys[at] = key;
+        containers[at] = c;
+        size++;
+        lastIndex = at;
+    }
+
+    // ---------------- Binary form ----------------
+
+    /**
+     * Layout: int magic, int version, int containerCount, long cardinality, then per container:
+     * u16 key, byte type, int count, payload
+     * (ARRAY: count u16 values; BITMAP: 1024 longs; RUN: count u16 start/length-1 pairs).
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(size);
+        out.writeLong(cardinality);
+        for (int i = 0; i < size; i++) {
+            out.writeShort(keys[i]);
+            containers[i].writeTo(out);
+        }
+    }
+
+    public static MatchIdBitmap readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a match id bitmap (bad magic/version)");
+        }
+        MatchIdBitmap b = new MatchIdBitmap();
+        int n = in.readInt();
+        long expected = in.readLong();
+        if (n < 0 || n > 0x10000) throw new IOException("Corrupt match id bitmap (container count " + n + ")");
+        b.keys = new int[Math.max(n, 4)];
+        b.containers = new Container[b.keys.length];
+        int previousKey = -1;
+        for (int i = 0; i < n; i++) {
+            int key = in.readUnsignedShort();
+            if (key <= previousKey) throw new IOException("Corrupt match id bitmap (keys out of order)");
+            previousKey = key;
+            Container c = readContainer(in);
+            b.keys[i] = key;
+            b.containers[i] = c;
+            b.cardinality += c.cardinality();
+        }
+        b.size = n;
+        if (b.cardinality != expected) throw new IOException("Corrupt match id bitmap (cardinality mismatch)");
+        return b;
+    }
+
+    private static Container readContainer(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        int count = in.readInt();
+        switch (type) {
+            case TYPE_ARRAY: {
+                if (count < 0 || count > ARRAY_MAX) throw new IOException("Corrupt array container");
+                ArrayContainer a = new ArrayContainer(Math.max(count, 4));
+                for (int k = 0; k < count; k++) a.values[k] = in.readChar();
+                a.size = count;
+                return a;
+            }
+            case TYPE_BITMAP: {
+                BitmapContainer bm = new BitmapContainer();
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    bm.words[w] = in.readLong();
+                    bm.cardinality += Long.bitCount(bm.words[w]);
+                }
+                return bm;
+            }
+            case TYPE_RUN: {
+                if (count < 0 || count > 0x8000) throw new IOException("Corrupt run container");
+                RunContainer r = new RunContainer(Math.max(count, 4));
+                for (int k = 0; k < count; k++) {
+                    r.starts[k] = in.readChar();
+                    r.lengths[k] = in.readChar();
+                    r.cardinality += r.lengths[k] + 1;
+                }
+                r.runs = count;
+                return r;
+            }
+            default:
+                throw new IOException("Corrupt match id bitmap (container type " + type + ")");
+        }
+    }
+
+    // ---------------- Containers ----------------
+
+    /** Set of 16-bit values. add() is only called for absent values and may return a new container. */
+    private abstract static class Container {
+        abstract boolean contains(int low);
+
+        abstract Container add(int low);
+
+        abstract int cardinality();
+
+        abstract int sizeInBytes();
+
+        abstract void writeTo(DataOutputStream out) throws IOException;
+
+        abstract int runCount();
+
+        /** Smallest of array / bitmap / run for the current contents. */
+        Container optimize() {
+            int card = cardinality();
+            int runBytes = runCount() * 4;
+            int arrayBytes = (card <= ARRAY_MAX) ? card * 2 : Integer.MAX_VALUE;
+            if (runBytes < arrayBytes && runBytes < BITMAP_BYTES) return toRuns();
+            if (arrayBytes <= BITMAP_BYTES) return toArray();
+            return toBitmap();
+        }
+
+        abstract boolean isInstance(byte type);
+
+        Container toRuns() {
+            if (isInstance(TYPE_RUN)) return this;
+            RunContainer r = new RunContainer(Math.max(runCount(), 4));
+            forEach(r);
+            return r;
+        }
+
+        Container toArray() {
+            if (isInstance(TYPE_ARRAY)) return this;
+            ArrayContainer a = new ArrayContainer(Math.max(cardinality(), 4));
+            forEach(a);
+            return a;
+        }
+
+        Container toBitmap() {
+            if (isInstance(TYPE_BITMAP)) return this;
+            BitmapContainer b = new BitmapContainer();
+            forEach(b);
+            return b;
+        }
+
+        /** Appends every value, ascending, to target (which must be empty). */
+        abstract void forEach(Container target);
+    }
+
+    private static final class ArrayContainer extends Container {
+        char[] values;
+        int size;
+
+        ArrayContainer() {
+            this(4);
+        }
+
+        ArrayContainer(int capacity) {
+            this.values = new char[capacity];
+        }
+
+        @Override
+        boolean contains(int low) {
+            if (size > 0 && low > values[size - 1]) return false; // Common for growing ids
+            return Arrays.binarySearch(values, 0, size, (char) low) >= 0;
+        }
+
+        @Override
+        Container add(int low) {
+            if (size == ARRAY_MAX) {
+                return optimizeFull().add(low);
+            }
+            if (size == values.length) values = Arrays.copyOf(values, Math.min(size * 2, ARRAY_MAX));
+            if (size == 0 || low > values[size - 1]) {
+                values[size++] = (char) low; // Append (sequential ids)
+                return this;
+            }
+            int at = -Arrays.binarySearch(values, 0, size, (char) low) - 1;
+            System.arraycopy(values, at, values, at + 1, size - at);
+            values[at] = (char) low;
+            size++;
+            return this;
+        }
+
+        /** Full array: switch to runs when that is smaller than a bitmap. */
+        private Container optimizeFull() {
+            return (runCount() * 4 < BITMAP_BYTES) ? toRuns() : toBitmap();
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        int sizeInBytes() {
+            return values.length * 2;
+        }
+
+        @Override
+        int runCount() {
+            int runs = 0;
+            for (int k = 0; k < size; k++) {
+                if (k == 0 || values[k] != values[k - 1] + 1) runs++;
+            }
+            return runs;
+        }
+
+        @Override
+        boolean isInstance(byte type) {
+            return type == TYPE_ARRAY;
+        }
+
+        @Override
+        void forEach(Container target) {
+            for (int k = 0; k < size; k++) target.add(values[k]);
+        }
+
+        @Override
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeByte(TYPE_ARRAY);
+            out.writeInt(size);
+            for (int k = 0; k < size; k++) out.writeChar(values[k]);
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        final long[] words = new long[BITMAP_WORDS];
+        int cardinality;
+
+        @Override
+        boolean contains(int low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(int low) {
+            words[low >>> 6] |= 1L << low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        int sizeInBytes() {
+            return BITMAP_BYTES;
+        }
+
+        @Override
+        int runCount() {
+            int runs = 0;
+            long previousTop = 0; // Highest bit of the previous word
+            for (long w : words) {
+                // Run starts: set bits whose lower neighbour is clear.
+                runs += Long.bitCount(w & ~((w << 1) | previousTop));
+                previousTop = w >>> 63;
+            }
+            return runs;
+        }
+
+        @Override
+        boolean isInstance(byte type) {
+            return type == TYPE_BITMAP;
+        }
+
+        @Override
+        void forEach(Container target) {
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long bits = words[w];
+                while (bits != 0) {
+                    target.add(w * 64 + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        @Override
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeByte(TYPE_BITMAP);
+            out.writeInt(cardinality);
+            for (long w : words) out.writeLong(w);
+        }
+    }
+
+    private static final class RunContainer extends Container {
+        private static final int MAX_RUNS = BITMAP_BYTES / 4; // Beyond this a bitmap is smaller
+
+        char[] starts;
+        char[] lengths;  // Run length - 1
+        int runs;
+        int cardinality;
+
+        RunContainer(int capacity) {
+            this.starts = new char[capacity];
+            this.lengths = new char[capacity];
+        }
+
+        @Override
+        boolean contains(int low) {
+            int r = runAtOrBefore(low);
+            return r >= 0 && low <= starts[r] + lengths[r];
+        }
+
+        /** Index of the last run starting at or before low, or -1. */
+        private int runAtOrBefore(int low) {
+            if (runs > 0 && starts[runs - 1] <= low) return runs - 1; // Fast path: tail
+            int lo = 0;
+            int hi = runs - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (starts[mid] <= low) lo = mid + 1;
+                else hi = mid - 1;
+            }
+            return hi;
+        }
+
+        @Override
+        Container add(int low) {
+            cardinality++;
+            int r = runAtOrBefore(low);
+            boolean extendsPrevious = r >= 0 && starts[r] + lengths[r] + 1 == low;
+            boolean joinsNext = r + 1 < runs && low + 1 == starts[r + 1];
+            if (extendsPrevious && joinsNext) {
+                lengths[r] = (char) (lengths[r] + 1 + lengths[r + 1] + 1);
+                System.arraycopy(starts, r + 2, starts, r + 1, runs - r - 2);
+                System.arraycopy(lengths, r + 2, lengths, r + 1, runs - r - 2);
+                runs--;
+            } else if (extendsPrevious) {
+                lengths[r]++;
+            } else if (joinsNext) {
+                starts[r + 1] = (char) low;
+                lengths[r + 1]++;
+            } else {
+                if (runs == starts.length) {
+                    starts = Arrays.copyOf(starts, runs * 2);
+                    lengths = Arrays.copyOf(lengths, runs * 2);
+                }
+                int at = r + 1;
+                System.arraycopy(starts, at, starts, at + 1, runs - at);
+                System.arraycopy(lengths, at, lengths, at + 1, runs - at);
+                starts[at] = (char) low;
+                lengths[at] = 0;
+                runs++;
+                if (runs > MAX_RUNS) return toBitmap();
+            }
+            return this;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        int sizeInBytes() {
+            return starts.length * 4;
+        }
+
+        @Override
+        int runCount() {
+            return runs;
+        }
+
+        @Override
+        boolean isInstance(byte type) {
+            return type == TYPE_RUN;
+        }
+
+        @Override
+        void forEach(Container target) {
+            for (int k = 0; k < runs; k++) {
+                for (int v = starts[k], end = starts[k] + lengths[k]; v <= end; v++) target.add(v);
+            }
+        }
+
+        @Override
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeByte(TYPE_RUN);
+            out.writeInt(runs);
+            for (int k = 0; k < runs; k++) {
+                out.writeChar(starts[k]);
+                out.writeChar(lengths[k]);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.esports.logic;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Idempotent entry point for match results coming from producers that may retry.
+ * Every result is checked against a MatchIdBitmap of already accepted match IDs:
+ * - new id   → recorded in the bitmap and added to the gamer's PointsBoard total
+ * - seen id  → rejected (counted in getDuplicates), PointsBoard is not touched
+ * Also usable as a MatchRecordListener, so MatchManagement output (including journal
+ * replays) can be fed through the same check.
+ * State is saved as one snapshot holding the accepted-id bitmap together with the
+ * PointsBoard totals it guards, so a restart can never pair a bitmap with totals that
+ * are missing (or already include) the accepted results.
+ * Binary form (magic "ESIG"): gamer count, totals, accepted count, then the bitmap.
+ */
+public class MatchIngestor implements MatchRecordListener {
+
+    private static final int MAGIC = 0x45534947; // "ESIG"
+    private static final int VERSION = 1;
+
+    private final PointsBoard pointsBoard;
+    private final MatchIdBitmap seen;
+    private long accepted;
+    private long duplicates;
+
+    public MatchIngestor(PointsBoard pointsBoard) {
+        this(pointsBoard, new MatchIdBitmap());
+    }
+
+    private MatchIngestor(PointsBoard pointsBoard, MatchIdBitmap seen) {
+        if (pointsBoard == null || seen == null) {
+            throw new IllegalArgumentException("pointsBoard/seen cannot be null");
+        }
+        this.pointsBoard = pointsBoard;
+        this.seen = seen;
+    }
+
+    @Override
+    public void onMatchRecorded(int gamerIndex, int matchIndex, int matchId, long packedMatch, int matchPoints) {
+        ingest(gamerIndex, matchId, matchPoints);
+    }
+
+    /**
+     * Applies one match result unless its id was accepted before.
+     * @return true if applied, false if rejected as a duplicate
+     */
+    public synchronized boolean ingest(int gamerIndex, int matchId, int matchPoints) {
+        if (seen.contains(matchId)) {
+            duplicates++;
+            return false;
+        }
+        pointsBoard.applyDelta(gamerIndex, matchPoints); // Validates gamerIndex before the id is marked
+        seen.add(matchId);
+        accepted++;
+        return true;
+    }
+
+    public synchronized boolean isKnown(int matchId) {
+        return seen.contains(matchId);
+    }
+
+    public synchronized long getAccepted() {
+        return accepted;
+    }
+
+    public synchronized long getDuplicates() {
+        return duplicates;
+    }
+
+    /** Compressed size of the accepted-id set. */
+    public synchronized long getBitmapSizeBytes() {
+        return seen.sizeInBytes();
+    }
+
+    /** Writes the accepted ids and the board's totals as one snapshot (temp file + atomic move). */
+    public synchronized void saveSnapshot(Path path) throws IOException {
+        seen.runOptimize();
+        int[] totals = pointsBoard.getAllTotalPoints();
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(totals.length);
+            for (int total : totals) {
+                out.writeInt(total);
+            }
+            out.writeLong(accepted);
+            seen.writeTo(out);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores a snapshot written by saveSnapshot: the board's totals are set to the saved
+     * totals and ingestion continues with the saved accepted ids. When the file does not
+     * exist, the board is left as is and no ids are known yet.
+     * @throws IOException if the file is not a snapshot or was saved for a different gamer count
+     */
+    public static MatchIngestor restore(PointsBoard pointsBoard, Path path) throws IOException {
+        if (pointsBoard == null) {
+            throw new IllegalArgumentException("pointsBoard cannot be null");
+        }
+        if (!Files.exists(path)) return new MatchIngestor(pointsBoard);
+        int[] totals;
+        long accepted;
+        MatchIdBitmap seen;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not an ingestor snapshot (bad magic/version)");
+            }
+            int gamers = in.readInt();
+            int boardGamers = pointsBoard.getAllTotalPoints().length;
+            if (gamers != boardGamers) {
+                throw new IOException("Snapshot is for " + gamers + " gamers, board has " + boardGamers);
+            }
+            totals = new int[gamers];
+            for (int i = 0; i < gamers; i++) {
+                totals[i] = in.readInt();
+            }
+            accepted = in.readLong();
+            seen = MatchIdBitmap.readFrom(in);
+        }
+        // Only touch the board once the whole file has been read.
+        for (int i = 0; i < totals.length; i++) {
+            pointsBoard.applyDelta(i, totals[i] - pointsBoard.getTotalPoints(i));
+        }
+        MatchIngestor ingestor = new MatchIngestor(pointsBoard, seen);
+        ingestor.accepted = accepted;
+        return ingestor;
+    }
+}
@@ -1,9 +1,18 @@
 package com.esports.logic;
 
+import com.esports.io.MatchJournal;
 import com.esports.model.Game;
 import com.esports.model.Gamer;
 import com.esports.model.Match;
+import com.esports.model.PackedMatch;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 /**
@@ -13,6 +22,10 @@ import java.util.Random;
  * Deep-copies input Gamer/Game arrays in the constructor.
  * getAllGamerMatches() returns deep copies of Match objects to avoid privacy leaks.
  * Optional Random can be injected for deterministic tests.
+ * Optional MatchJournal: every stored match is also appended to the journal,
+ * and recoverFromJournal() restores the grid after a crash.
+ * Optional MatchRecordListeners are notified of every recorded match
+ * (not of later rescoring through applyGameChanges / applyGamerChanges).
  */
 public class MatchManagement {
 
@@ -21,18 +34,38 @@ public class MatchManagement {
     private final Match[][] allGamerMatches; // [gamer][0..14]
     private final Gamer[] allGamers;         // Mutable
     private final Game[] availableGames;     // Mutable
-    private int nextMatchID = 1;
+    private final int[] sortedGameIds;       // Game ids, ascending (lookup without boxing)
+    private final int[] gameIndexBySortedId; // Index in availableGames, parallel to sortedGameIds
+    private final int firstMatchID;
+    private int nextMatchID;
     private final Random random;
+    private MatchJournal journal;            // Optional write-ahead journal
+    private final List<MatchRecordListener> listeners = new ArrayList<>();
 
     public MatchManagement(Gamer[] gamers, Game[] games) {
         this(gamers, games, new Random());
     }
 
     public MatchManagement(Gamer[] gamers, Game[] games, Random rng) {
+        this(gamers, games, rng, 1);
+    }
+
+    /**
+     * Same as above, but match IDs start at firstMatchID instead of 1
+     * (used when a season is simulated in several independent parts).
+     */
+    public MatchManagement(Gamer[] gamers, Game[] games, Random rng, int firstMatchID) {
+        if (firstMatchID < 0) {
+            throw new IllegalArgumentException("firstMatchID must be >= 0");
+        }
+        this.firstMatchID = firstMatchID;
+        this.nextMatchID = firstMatchID;
         if (gamers == null || games == null || games.length < 3) {
             this.allGamers = new Gamer[0];
             this.availableGames = new Game[0];
             this.allGamerMatches = new Match[0][0];
+            this.sortedGameIds = new int[0];
+            this.gameIndexBySortedId = new int[0];
             this.random = (rng == null) ? new Random() : rng;
         } else {
             // Deep-copy gamers array (element by element) using Gamer copy ctor
@@ -46,12 +79,32 @@ public class MatchManagement {
             for (int i = 0; i < games.length; i++) {
                 this.availableGames[i] = new Game(games[i]);
             }
+            // Id -> index table; on duplicate ids the later game wins.
+            long[] idIndex = new long[games.length];
+            for (int i = 0; i < games.length; i++) {
+                idIndex[i] = ((long) availableGames[i].getId() << 32) | i;
+            }
+            Arrays.sort(idIndex);
+            int distinct = 0;
+            for (int k = 0; k < idIndex.length; k++) {
+                boolean lastOfId = k + 1 == idIndex.length || (idIndex[k + 1] >>> 32) != (idIndex[k] >>> 32);
+                if (lastOfId) idIndex[distinct++] = idIndex[k];
+            }
+            this.sortedGameIds = new int[distinct];
+            this.gameIndexBySortedId = new int[distinct];
+            for (int k = 0; k < distinct; k++) {
+                sortedGameIds[k] = (int) (idIndex[k] >>> 32);
+                gameIndexBySortedId[k] = (int) idIndex[k];
+            }
             this.allGamerMatches = new Match[gamers.length][MATCHES_PER_GAMER];
             this.random = (rng == null) ? new Random() : rng;
         }
     }
 
-    /** Simulates 15 matches per gamer. Each match has 3 distinct games and 1..10 rounds per game. */
+    /**
+     * Simulates 15 matches per gamer. Each match has 3 distinct games and 1..10 rounds per game.
+     * Slots already filled (e.g. restored by recoverFromJournal) are kept.
+     */
     public void simulateTournament() {
         if (allGamers.length == 0) return;
 
@@ -59,14 +112,82 @@ public class MatchManagement {
             Gamer currentGamer = allGamers[i];
 
             for (int j = 0; j < MATCHES_PER_GAMER; j++) {
+                if (allGamerMatches[i][j] != null) continue;
                 Match newMatch = generateRandomMatch(nextMatchID++);
                 newMatch.computePointsFor(currentGamer);
-                // Storing the match as-is is fine; we return defensive copies to callers.
-                allGamerMatches[i][j] = newMatch;
+                storeMatch(i, j, newMatch);
             }
         }
     }
 
+    /**
+     * Single store path for new matches: writes the grid slot and, if configured,
+     * the journal and the record listeners.
+     */
+    private void storeMatch(int gamerIndex, int matchIndex, Match match) {
+        // Storing the match as-is is fine; we return defensive copies to callers.
+        allGamerMatches[gamerIndex][matchIndex] = match;
+        if (journal == null && listeners.isEmpty()) return;
+
+        long packed = pack(gamerIndex, match);
+        if (journal != null) {
+            journal.append(gamerIndex, matchIndex, match.getId(), packed, match.getMatchPoints());
+        }
+        notifyListeners(gamerIndex, matchIndex, match.getId(), packed, match.getMatchPoints());
+    }
+
+    private void notifyListeners(int gamerIndex, int matchIndex, int matchId, long packed, int points) {
+        for (int k = 0; k < listeners.size(); k++) {
+            listeners.get(k).onMatchRecorded(gamerIndex, matchIndex, matchId, packed, points);
+        }
+    }
+
+    /** Attaches (or detaches, with null) a write-ahead journal for newly stored matches. */
+    public void setJournal(MatchJournal journal) {
+        this.journal = journal;
+    }
+
+    public void addRecordListener(MatchRecordListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeRecordListener(MatchRecordListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Replays a journal into the match grid (records outside the grid are ignored).
+     * Match points are recomputed from the current game/gamer tables.
+     * Match IDs continue after the highest restored id.
+     * @return number of restored matches
+     */
+    public long recoverFromJournal(Path journalPath) throws IOException {
+        long[] restored = new long[1];
+        MatchJournal.replay(journalPath, (gamerIndex, matchIndex, matchId, packed, points) -> {
+            if (gamerIndex < 0 || gamerIndex >= allGamerMatches.length) return;
+            if (matchIndex < 0 || matchIndex >= MATCHES_PER_GAMER) return;
+            Match m = PackedMatch.toMatch(packed, matchId, availableGames);
+            m.computePointsFor(allGamers[gamerIndex]);
+            allGamerMatches[gamerIndex][matchIndex] = m;
+            nextMatchID = Math.max(nextMatchID, matchId + 1);
+            restored[0]++;
+            notifyListeners(gamerIndex, matchIndex, matchId, packed, m.getMatchPoints());
+        });
+        return restored[0];
+    }
+
+    /**
+     * Lazy alternative to simulateTournament(): plays the season with a counter-based RNG
+     * and keeps only per-gamer aggregates (see LazySeason). The match grid of this
+     * manager is not touched; matches are regenerated from (seed, gamer, match) on demand.
+     */
+    public LazySeason simulateLazySeason(long seed) {
+        return new LazySeason(seed, getGamers(), availableGames.clone(), firstMatchID);
+    }
+
     /** Generates a random match with 3 different games and random rounds in [1..10]. */
     private Match generateRandomMatch(int id) {
         Game[] selectedGames = new Game[3];
@@ -109,6 +230,143 @@ public class MatchManagement {
         return copy;
     }
 
+    /**
+     * Returns the season in the bit-packed form (one long per match, see PackedMatch).
+     * Game indices in the packed longs refer to this manager's game table.
+     */
+    public PackedSeason getPackedSeason() {
+        long[][] packed = new long[allGamerMatches.length][MATCHES_PER_GAMER];
+        for (int i = 0; i < allGamerMatches.length; i++) {
+            for (int j = 0; j < MATCHES_PER_GAMER; j++) {
+                Match m = allGamerMatches[i][j];
+                if (m != null) packed[i][j] = pack(i, m);
+            }
+        }
+        return new PackedSeason(packed, availableGames, firstMatchID);
+    }
+
+    /** Encodes a stored match with this manager's game indices (see PackedMatch); allocation-free. */
+    private long pack(int gamerIndex, Match m) {
+        return PackedMatch.encode(gameIndexOf(m.getGameId(0)), gameIndexOf(m.getGameId(1)),
+                gameIndexOf(m.getGameId(2)), m.getRounds(0), m.getRounds(1), m.getRounds(2),
+                allGamers[gamerIndex].getCappedExperienceForScoring());
+    }
+
+    /** Index of a game id in availableGames, or -1 if unknown. */
+    private int gameIndexOf(int gameId) {
+        int k = Arrays.binarySearch(sortedGameIds, gameId);
+        return (k >= 0) ? gameIndexBySortedId[k] : -1;
+    }
+
+    /**
+     * Applies corrected game data (matched by game id) and rescores only the matches
+     * that contain a changed game. Simulated rounds are kept as they are.
+     * Games that are new or missing in freshGames are ignored.
+     * @param freshGames  newly loaded games
+     * @param pointDeltas per-gamer output: change in total match points is added here
+     * @return number of rescored matches
+     */
+    public int applyGameChanges(Game[] freshGames, int[] pointDeltas) {
+        if (freshGames == null || pointDeltas == null || pointDeltas.length < allGamers.length) {
+            throw new IllegalArgumentException("freshGames/pointDeltas invalid");
+        }
+
+        boolean[] changed = new boolean[availableGames.length];
+        boolean anyChanged = false;
+        for (Game fresh : freshGames) {
+            if (fresh == null) continue;
+            int index = gameIndexOf(fresh.getId());
+            if (index < 0) continue;
+            Game old = availableGames[index];
+            if (old.getBasePointPerRound() != fresh.getBasePointPerRound()
+                    || !old.getName().equals(fresh.getName())) {
+                availableGames[index] = new Game(fresh);
+                changed[index] = true;
+                anyChanged = true;
+            }
+        }
+        if (!anyChanged) return 0;
+
+        int rescored = 0;
+        for (int i = 0; i < allGamerMatches.length; i++) {
+            for (int j = 0; j < MATCHES_PER_GAMER; j++) {
+                Match m = allGamerMatches[i][j];
+                if (m == null) continue;
+                boolean affected = false;
+                for (int k = 0; k < 3 && !affected; k++) {
+                    affected = changed[gameIndexOf(m.getGameId(k))];
+                }
+                if (!affected) continue;
+
+                pointDeltas[i] += rescore(i, j);
+                rescored++;
+            }
+        }
+        return rescored;
+    }
+
+    /**
+     * Applies corrected gamer data (matched by gamer id). Gamers whose experience changed
+     * get all their matches rescored; other field changes are just copied.
+     * Gamers that are new or missing in freshGamers are ignored.
+     * @param freshGamers newly loaded gamers
+     * @param pointDeltas per-gamer output: change in total match points is added here
+     * @return number of rescored matches
+     */
+    public int applyGamerChanges(Gamer[] freshGamers, int[] pointDeltas) {
+        if (freshGamers == null || pointDeltas == null || pointDeltas.length < allGamers.length) {
+            throw new IllegalArgumentException("freshGamers/pointDeltas invalid");
+        }
+
+        Map<Integer, Gamer> freshById = new HashMap<>();
+        for (Gamer g : freshGamers) {
+            if (g != null) freshById.put(g.getId(), g);
+        }
+
+        int rescored = 0;
+        for (int i = 0; i < allGamers.length; i++) {
+            Gamer fresh = freshById.get(allGamers[i].getId());
+            if (fresh == null) continue;
+
+            boolean expChanged = fresh.getCappedExperienceForScoring()
+                    != allGamers[i].getCappedExperienceForScoring();
+            allGamers[i] = new Gamer(fresh);
+            if (!expChanged) continue;
+
+            for (int j = 0; j < MATCHES_PER_GAMER; j++) {
+                if (allGamerMatches[i][j] == null) continue;
+                pointDeltas[i] += rescore(i, j);
+                rescored++;
+            }
+        }
+        return rescored;
+    }
+
+    /**
+     * Rebuilds one stored match against the current game table and gamer (same id, same rounds)
+     * and returns the change in match points.
+     */
+    private int rescore(int gamerIndex, int matchIndex) {
+        Match old = allGamerMatches[gamerIndex][matchIndex];
+        Game[] games = new Game[3];
+        for (int k = 0; k < 3; k++) {
+            games[k] = availableGames[gameIndexOf(old.getGameId(k))];
+        }
+        Match updated = new Match(old.getId(), games, old.getRounds());
+        updated.computePointsFor(allGamers[gamerIndex]);
+        allGamerMatches[gamerIndex][matchIndex] = updated;
+        return updated.getMatchPoints() - old.getMatchPoints();
+    }
+
+    /** Returns copies of the current gamers, in grid row order. */
+    public Gamer[] getGamers() {
+        Gamer[] copy = new Gamer[allGamers.length];
+        for (int i = 0; i < allGamers.length; i++) {
+            copy[i] = new Gamer(allGamers[i]);
+        }
+        return copy;
+    }
+
     public int getNumberOfGamers() {
         return allGamers.length;
     }
@@ -0,0 +1,61 @@
+package com.esports.logic;
+
+import com.esports.logic.MatchQuery.Aggregate;
+import com.esports.logic.MatchQuery.Grouping;
+import com.esports.logic.MatchQuery.Op;
+
+/**
+ * Ready-made MatchQuery definitions: the fixed match queries from Query
+ * expressed in the query API, plus the analyst questions that motivated it.
+ */
+public final class MatchQueries {
+
+    private MatchQueries() {
+    }
+
+    /** Query 1: highest-scoring match (first in grid order on ties). */
+    public static MatchQuery highestScoringMatch(MatchColumns cols) {
+        return MatchQuery.over(cols).select(MatchColumn.MATCH_ID, MatchColumn.GAMER, MatchColumn.RAW,
+                MatchColumn.SKILL, MatchColumn.BONUS, MatchColumn.POINTS)
+                .orderBy(MatchColumn.POINTS, true).limit(1);
+    }
+
+    /** Query 2 (first half): lowest-scoring match. */
+    public static MatchQuery lowestScoringMatch(MatchColumns cols) {
+        return MatchQuery.over(cols).select(MatchColumn.MATCH_ID, MatchColumn.GAMER, MatchColumn.RAW,
+                MatchColumn.SKILL, MatchColumn.BONUS, MatchColumn.POINTS)
+                .orderBy(MatchColumn.POINTS, false).limit(1);
+    }
+
+    /** Query 3: match with the lowest bonus points. */
+    public static MatchQuery lowestBonusMatch(MatchColumns cols) {
+        return MatchQuery.over(cols).select(MatchColumn.MATCH_ID, MatchColumn.SKILL,
+                MatchColumn.BONUS, MatchColumn.POINTS)
+                .orderBy(MatchColumn.BONUS, false).limit(1);
+    }
+
+    /** Query 5: total tournament points. */
+    public static MatchQuery totalTournamentPoints(MatchColumns cols) {
+        return MatchQuery.over(cols).aggregate(Aggregate.sum(MatchColumn.POINTS), Aggregate.count());
+    }
+
+    /** Average match points by game (each match counts for all three of its games). */
+    public static MatchQuery averagePointsByGame(MatchColumns cols) {
+        return MatchQuery.over(cols).groupBy(Grouping.byGame())
+                .aggregate(Aggregate.count(), Aggregate.avg(MatchColumn.POINTS));
+    }
+
+    /** Bonus tier counts by capped-experience band. */
+    public static MatchQuery bonusTierCountsByExperienceBand(MatchColumns cols, int bandWidth) {
+        return MatchQuery.over(cols)
+                .groupBy(Grouping.band(MatchColumn.EXPERIENCE, bandWidth), Grouping.by(MatchColumn.BONUS))
+                .aggregate(Aggregate.count());
+    }
+
+    /** Top k matches (by match points) where the given game was played for at least minRounds rounds. */
+    public static MatchQuery topMatchesWithGameRounds(MatchColumns cols, int gameIndex, int minRounds, int k) {
+        return MatchQuery.over(cols).whereGameRounds(gameIndex, Op.GE, minRounds)
+                .select(MatchColumn.MATCH_ID, MatchColumn.GAMER, MatchColumn.POINTS)
+                .orderBy(MatchColumn.POINTS, true).limit(k);
+    }
+}
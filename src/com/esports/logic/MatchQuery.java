@@ -0,0 +1,624 @@
+package com.esports.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Small ad-hoc query builder over MatchColumns: filter → (group-by + aggregates | project + order + limit).
+ * Execution is a series of tight scans over primitive columns:
+ * - filters shrink a selection vector (int[] of row numbers) one predicate at a time
+ * - group keys are mapped to dense group ids, then each aggregate is one pass over the selection
+ * Examples:
+ *   // average match points by game
+ *   MatchQuery.over(cols).groupBy(Grouping.byGame()).aggregate(Aggregate.avg(MatchColumn.POINTS)).run();
+ *   // bonus tier counts by experience band of 3 years
+ *   MatchQuery.over(cols).groupBy(Grouping.band(MatchColumn.EXPERIENCE, 3), Grouping.by(MatchColumn.BONUS))...
+ *   // top 10 matches where rounds of game X >= 8
+ *   MatchQuery.over(cols).whereGameRounds(x, Op.GE, 8)
+ *             .select(MatchColumn.MATCH_ID, MatchColumn.POINTS).orderBy(MatchColumn.POINTS, true).limit(10).run();
+ * A query without groupBy/aggregate and without select returns MATCH_ID, GAMER and POINTS.
+ */
+public final class MatchQuery {
+
+    /** Comparison operators for filters. */
+    public enum Op { EQ, NE, LT, LE, GT, GE }
+
+    private final MatchColumns cols;
+    private final List<Predicate> predicates = new ArrayList<>();
+    private final List<Grouping> groupings = new ArrayList<>();
+    private final List<Aggregate> aggregates = new ArrayList<>();
+    private MatchColumn[] projection;
+    private MatchColumn orderColumn;
+    private boolean orderDescending;
+    private int limit = Integer.MAX_VALUE;
+
+    private MatchQuery(MatchColumns cols) {
+        this.cols = cols;
+    }
+
+    public static MatchQuery over(MatchColumns cols) {
+        if (cols == null) {
+            throw new IllegalArgumentException("cols cannot be null");
+        }
+        return new MatchQuery(cols);
+    }
+
+    // ---------------- Builder ----------------
+
+    public MatchQuery where(MatchColumn column, Op op, int value) {
+        predicates.add(new Predicate(column, -1, op, value));
+        return this;
+    }
+
+    /** Keeps matches that contain the game and whose rounds for that game satisfy (op, value). */
+    public MatchQuery whereGameRounds(int gameIndex, Op op, int value) {
+        if (gameIndex < 0 || gameIndex >= cols.gameCount()) {
+            throw new IllegalArgumentException("Unknown game index: " + gameIndex);
+        }
+        predicates.add(new Predicate(null, gameIndex, op, value));
+        return this;
+    }
+
+    /** Keeps matches that contain the game in any slot. */
+    public MatchQuery whereHasGame(int gameIndex) {
+        return whereGameRounds(gameIndex, Op.GE, 1);
+    }
+
+    public MatchQuery groupBy(Grouping... keys) {
+        if (keys == null || keys.length == 0) {
+            throw new IllegalArgumentException("groupBy needs at least one key");
+        }
+        if (groupings.size() + keys.length > 3) {
+            throw new IllegalArgumentException("At most 3 group-by keys are supported");
+        }
+        groupings.addAll(Arrays.asList(keys));
+        return this;
+    }
+
+    public MatchQuery aggregate(Aggregate... aggs) {
+        if (aggs == null || aggs.length == 0) {
+            throw new IllegalArgumentException("aggregate needs at least one aggregate");
+        }
+        aggregates.addAll(Arrays.asList(aggs));
+        return this;
+    }
+
+    public MatchQuery select(MatchColumn... columns) {
+        if (columns == null || columns.length == 0) {
+            throw new IllegalArgumentException("select needs at least one column");
+        }
+        this.projection = columns.clone();
+        return this;
+    }
+
+    /** Row order for non-aggregating queries; ties keep grid order. */
+    public MatchQuery orderBy(MatchColumn column, boolean descending) {
+        this.orderColumn = column;
+        this.orderDescending = descending;
+        return this;
+    }
+
+    public MatchQuery limit(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("limit must be >= 0");
+        }
+        this.limit = n;
+        return this;
+    }
+
+    // ---------------- Execution ----------------
+
+    public QueryResult run() {
+        // No filters: sel stays null and means "every row" (no identity vector is built).
+        int[] sel = null;
+        int n = cols.rowCount();
+        if (!predicates.isEmpty()) {
+            sel = new int[n];
+            for (int r = 0; r < n; r++) sel[r] = r;
+            for (Predicate p : predicates) {
+                n = p.apply(cols, sel, n);
+            }
+        }
+
+        if (!groupings.isEmpty() || !aggregates.isEmpty()) {
+            return runAggregation(sel, n);
+        }
+        return runProjection(sel, n);
+    }
+
+    private QueryResult runProjection(int[] sel, int n) {
+        MatchColumn[] out = (projection != null) ? projection
+                : new MatchColumn[]{MatchColumn.MATCH_ID, MatchColumn.GAMER, MatchColumn.POINTS};
+
+        int[] rows;
+        if (orderColumn != null) {
+            rows = topK(cols.column(orderColumn), orderDescending, sel, n, Math.min(limit, n));
+        } else if (sel != null) {
+            rows = Arrays.copyOf(sel, Math.min(limit, n));
+        } else {
+            rows = new int[Math.min(limit, n)];
+            for (int r = 0; r < rows.length; r++) rows[r] = r;
+        }
+
+        String[] headers = new String[out.length];
+        for (int c = 0; c < out.length; c++) headers[c] = out[c].name();
+        double[][] values = new double[rows.length][out.length];
+        for (int c = 0; c < out.length; c++) {
+            int[] col = cols.column(out[c]);
+            for (int r = 0; r < rows.length; r++) values[r][c] = col[rows[r]];
+        }
+        return new QueryResult(headers, null, values);
+    }
+
+    private QueryResult runAggregation(int[] sel, int n) {
+        List<Aggregate> aggs = aggregates.isEmpty() ? List.of(Aggregate.count()) : aggregates;
+        int keyCols = groupings.size();
+        if (keyCols == 0) {
+            // Whole-selection aggregates: no pair, key or group arrays.
+            double[][] values = new double[Math.min(1, limit)][aggs.size()];
+            for (int a = 0; a < aggs.size() && values.length > 0; a++) {
+                values[0][a] = aggs.get(a).computeAll(cols, sel, n);
+            }
+            String[] headers = new String[aggs.size()];
+            for (int a = 0; a < aggs.size(); a++) headers[a] = aggs.get(a).name();
+            return new QueryResult(headers, null, values);
+        }
+
+        // 1) Expand to (row, key) pairs; byGame() yields three pairs per match.
+        int fanOut = 1;
+        for (Grouping g : groupings) fanOut *= g.fanOut();
+        long pairCount = (long) n * fanOut;
+        if (pairCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many (row, key) pairs to group: " + pairCount);
+        }
+        int pairs = (int) pairCount;
+        int[] pairRows = sel;           // Null = row k (only when fanOut == 1)
+        if (fanOut > 1) {
+            pairRows = new int[pairs];
+            for (int k = 0; k < pairs; k++) pairRows[k] = (sel == null) ? k / fanOut : sel[k / fanOut];
+        }
+
+        int[][] keys = new int[keyCols][pairs];
+        int stride = fanOut;
+        for (int c = 0; c < keyCols; c++) {
+            Grouping g = groupings.get(c);
+            stride /= g.fanOut();
+            g.fillKeys(cols, pairRows, keys[c], pairs, stride);
+        }
+
+        // 2) Map key tuples to dense group ids (ascending tuple order).
+        int[] groupOf = new int[pairs];
+        int groups = assignGroups(keys, pairs, groupOf);
+        int[] firstPair = new int[groups];
+        Arrays.fill(firstPair, -1);
+        for (int k = 0; k < pairs; k++) {
+            if (firstPair[groupOf[k]] < 0) firstPair[groupOf[k]] = k;
+        }
+
+        // 3) One scan per aggregate.
+        int shown = Math.min(groups, limit);
+        double[][] values = new double[shown][keyCols + aggs.size()];
+        String[] labels = new String[shown];
+        for (int gId = 0; gId < shown; gId++) {
+            StringBuilder label = new StringBuilder();
+            for (int c = 0; c < keyCols; c++) {
+                int key = keys[c][firstPair[gId]];
+                values[gId][c] = key;
+                if (c > 0) label.append(" / ");
+                label.append(groupings.get(c).label(cols, key));
+            }
+            labels[gId] = label.toString();
+        }
+        for (int a = 0; a < aggs.size(); a++) {
+            double[] result = aggs.get(a).compute(cols, pairRows, groupOf, pairs, groups);
+            for (int gId = 0; gId < shown; gId++) values[gId][keyCols + a] = result[gId];
+        }
+
+        String[] headers = new String[keyCols + aggs.size()];
+        for (int c = 0; c < keyCols; c++) headers[c] = groupings.get(c).name();
+        for (int a = 0; a < aggs.size(); a++) headers[keyCols + a] = aggs.get(a).name();
+        return new QueryResult(headers, labels, values);
+    }
+
+    /**
+     * Fills groupOf with dense group ids, numbered in ascending (lexicographic) tuple order,
+     * and returns the number of groups. Any int keys are accepted:
+     * - narrow ranges (games, bands, bonus tiers): mixed-radix index into a counting array
+     * - wider ranges whose offsets from the minimum fit in 63 bits together: one packed
+     *   long per pair, sorted
+     * - otherwise: components are folded in one at a time, (group so far, key) as one long
+     */
+    private static int assignGroups(int[][] keys, int pairs, int[] groupOf) {
+        if (pairs == 0) return 0;
+        int keyCols = keys.length;
+        int[] min = new int[keyCols];
+        int[] max = new int[keyCols];
+        int[] bits = new int[keyCols];
+        int totalBits = 0;
+        long space = 1;
+        for (int c = 0; c < keyCols; c++) {
+            int lo = Integer.MAX_VALUE, hi = Integer.MIN_VALUE;
+            for (int k = 0; k < pairs; k++) {
+                int v = keys[c][k];
+                if (v < lo) lo = v;
+                if (v > hi) hi = v;
+            }
+            min[c] = lo;
+            max[c] = hi;
+            long span = (long) hi - lo + 1;
+            bits[c] = 64 - Long.numberOfLeadingZeros(span - 1);
+            totalBits += bits[c];
+            space = (space > MAX_DENSE_GROUPS) ? space : space * span;
+        }
+
+        if (space <= MAX_DENSE_GROUPS) {
+            return denseGroups(keys, pairs, min, max, (int) space, groupOf);
+        }
+
+        long[] packed = new long[pairs];
+        if (totalBits <= 63) {
+            for (int c = 0; c < keyCols; c++) {
+                int[] col = keys[c];
+                int lo = min[c];
+                for (int k = 0; k < pairs; k++) {
+                    packed[k] = (packed[k] << bits[c]) | ((long) col[k] - lo);
+                }
+            }
+            return sortGroups(packed, pairs, groupOf);
+        }
+
+        // Group ids are < pairs <= 2^31, so (id << 32 | unsigned key) always fits.
+        int groups = 0;
+        for (int c = 0; c < keyCols; c++) {
+            int[] col = keys[c];
+            for (int k = 0; k < pairs; k++) {
+                long id = (c == 0) ? 0 : groupOf[k];
+                packed[k] = (id << 32) | ((col[k] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+            }
+            groups = sortGroups(packed, pairs, groupOf);
+        }
+        return groups;
+    }
+
+    /** Counting-array grouping for a key space of at most MAX_DENSE_GROUPS tuples. */
+    private static int denseGroups(int[][] keys, int pairs, int[] min, int[] max, int space, int[] groupOf) {
+        int keyCols = keys.length;
+        int[] radix = new int[keyCols];
+        int r = 1;
+        for (int c = keyCols - 1; c >= 0; c--) {
+            radix[c] = r;
+            r *= (max[c] - min[c] + 1);
+        }
+
+        int[] slot = new int[space];
+        for (int k = 0; k < pairs; k++) {
+            int id = 0;
+            for (int c = 0; c < keyCols; c++) {
+                id += (keys[c][k] - min[c]) * radix[c];
+            }
+            groupOf[k] = id;
+            slot[id] = 1;
+        }
+        int groups = 0;
+        for (int id = 0; id < slot.length; id++) {
+            if (slot[id] != 0) slot[id] = groups++;
+        }
+        for (int k = 0; k < pairs; k++) {
+            groupOf[k] = slot[groupOf[k]];
+        }
+        return groups;
+    }
+
+    /** Dense ids = rank of each packed key among the distinct keys. */
+    private static int sortGroups(long[] packed, int pairs, int[] groupOf) {
+        long[] distinct = Arrays.copyOf(packed, pairs);
+        Arrays.sort(distinct);
+        int groups = 0;
+        for (int k = 0; k < pairs; k++) {
+            if (k == 0 || distinct[k] != distinct[k - 1]) distinct[groups++] = distinct[k];
+        }
+        for (int k = 0; k < pairs; k++) {
+            groupOf[k] = Arrays.binarySearch(distinct, 0, groups, packed[k]);
+        }
+        return groups;
+    }
+
+    private static final int MAX_DENSE_GROUPS = 1 << 22;
+
+    /**
+     * Selects the k best rows by column value using a bounded binary heap over
+     * packed (value, row) keys; ties go to the lower row number. A null sel means rows 0..n-1.
+     */
+    static int[] topK(int[] column, boolean descending, int[] sel, int n, int k) {
+        if (k == 0) return new int[0];
+        // Smaller key = better; the heap root holds the worst kept key.
+        long[] heap = new long[k];
+        int size = 0;
+        for (int s = 0; s < n; s++) {
+            int row = (sel == null) ? s : sel[s];
+            int v = descending ? ~column[row] : column[row];
+            long key = ((long) v << 32) | row;
+            if (size < k) {
+                heap[size] = key;
+                siftUp(heap, size++);
+            } else if (key < heap[0]) {
+                heap[0] = key;
+                siftDown(heap, 0, size);
+            }
+        }
+        long[] sorted = Arrays.copyOf(heap, size);
+        Arrays.sort(sorted);
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) rows[i] = (int) sorted[i];
+        return rows;
+    }
+
+    private static void siftUp(long[] h, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (h[parent] >= h[i]) break;
+            long t = h[parent]; h[parent] = h[i]; h[i] = t;
+            i = parent;
+        }
+    }
+
+    private static void siftDown(long[] h, int i, int size) {
+        while (true) {
+            int l = 2 * i + 1;
+            if (l >= size) break;
+            int m = (l + 1 < size && h[l + 1] > h[l]) ? l + 1 : l;
+            if (h[i] >= h[m]) break;
+            long t = h[m]; h[m] = h[i]; h[i] = t;
+            i = m;
+        }
+    }
+
+    // ---------------- Filters ----------------
+
+    /** A comparison turned into an inclusive range [lo, hi] (NE is handled separately). */
+    private static final class Predicate {
+        private final MatchColumn column;  // Null for game-rounds predicates
+        private final int gameIndex;
+        private final Op op;
+        private final int value;
+        private final int lo;
+        private final int hi;
+        private final boolean empty;       // e.g. LT Integer.MIN_VALUE
+
+        Predicate(MatchColumn column, int gameIndex, Op op, int value) {
+            if (op == null) {
+                throw new IllegalArgumentException("op cannot be null");
+            }
+            this.column = column;
+            this.gameIndex = gameIndex;
+            this.op = op;
+            this.value = value;
+            this.empty = (op == Op.LT && value == Integer.MIN_VALUE) || (op == Op.GT && value == Integer.MAX_VALUE);
+            switch (op) {
+                case EQ: lo = value; hi = value; break;
+                case LT: lo = Integer.MIN_VALUE; hi = empty ? value : value - 1; break;
+                case LE: lo = Integer.MIN_VALUE; hi = value; break;
+                case GT: lo = empty ? value : value + 1; hi = Integer.MAX_VALUE; break;
+                case GE: lo = value; hi = Integer.MAX_VALUE; break;
+                default: lo = Integer.MIN_VALUE; hi = Integer.MAX_VALUE; break; // NE
+            }
+        }
+
+        /** Compacts sel[0..n) to the rows that pass; returns the new length. */
+        int apply(MatchColumns cols, int[] sel, int n) {
+            if (empty) return 0;
+            if (column != null) {
+                int[] c = cols.column(column);
+                int out = 0;
+                if (op == Op.NE) {
+                    for (int s = 0; s < n; s++) {
+                        int row = sel[s];
+                        sel[out] = row;
+                        out += (c[row] != value) ? 1 : 0;
+                    }
+                } else {
+                    // lo <= x <= hi  as one unsigned comparison of (x - lo) against (hi - lo)
+                    int span = (hi - lo) + Integer.MIN_VALUE;
+                    for (int s = 0; s < n; s++) {
+                        int row = sel[s];
+                        sel[out] = row;
+                        out += ((c[row] - lo) + Integer.MIN_VALUE <= span) ? 1 : 0;
+                    }
+                }
+                return out;
+            }
+
+            // Game-rounds predicate: find the slot holding the game, then test its rounds.
+            int[] g0 = cols.column(MatchColumn.GAME_0), g1 = cols.column(MatchColumn.GAME_1);
+            int[] g2 = cols.column(MatchColumn.GAME_2);
+            int[] r0 = cols.column(MatchColumn.ROUNDS_0), r1 = cols.column(MatchColumn.ROUNDS_1);
+            int[] r2 = cols.column(MatchColumn.ROUNDS_2);
+            int out = 0;
+            for (int s = 0; s < n; s++) {
+                int row = sel[s];
+                int rounds = (g0[row] == gameIndex) ? r0[row]
+                        : (g1[row] == gameIndex) ? r1[row]
+                        : (g2[row] == gameIndex) ? r2[row] : -1;
+                boolean pass = rounds >= 0 && ((op == Op.NE) ? rounds != value : rounds >= lo && rounds <= hi);
+                sel[out] = row;
+                out += pass ? 1 : 0;
+            }
+            return out;
+        }
+    }
+
+    // ---------------- Group keys ----------------
+
+    /**
+     * A group-by key: a column value, a band of a column, or the games of a match.
+     * Any int value is a valid key (see assignGroups for how tuples are grouped).
+     */
+    public static final class Grouping {
+        private final MatchColumn column;  // Null for byGame()
+        private final int width;           // Band width (1 = plain value)
+
+        private Grouping(MatchColumn column, int width) {
+            this.column = column;
+            this.width = width;
+        }
+
+        public static Grouping by(MatchColumn column) {
+            if (column == null) {
+                throw new IllegalArgumentException("column cannot be null");
+            }
+            return new Grouping(column, 1);
+        }
+
+        /** Groups by floor(value / width) * width, e.g. experience bands of 3 years. */
+        public static Grouping band(MatchColumn column, int width) {
+            if (column == null || width < 1) {
+                throw new IllegalArgumentException("column cannot be null and width must be >= 1");
+            }
+            return new Grouping(column, width);
+        }
+
+        /** Groups by game: every match counts once for each of its three games. */
+        public static Grouping byGame() {
+            return new Grouping(null, 1);
+        }
+
+        String name() {
+            if (column == null) return "GAME";
+            return (width == 1) ? column.name() : column.name() + "/" + width;
+        }
+
+        int fanOut() {
+            return (column == null) ? 3 : 1;
+        }
+
+        String label(MatchColumns cols, int key) {
+            if (column == null) return cols.gameName(key);
+            if (width == 1) return Integer.toString(key);
+            return key + ".." + (key + width - 1);
+        }
+
+        /**
+         * Writes this grouping's key for every pair into keys.
+         * stride tells which pair slot of the fan-out this grouping varies with;
+         * a null pairRows means pair k is row k.
+         */
+        void fillKeys(MatchColumns cols, int[] pairRows, int[] keys, int pairs, int stride) {
+            if (column == null) {
+                int[][] games = {cols.column(MatchColumn.GAME_0), cols.column(MatchColumn.GAME_1),
+                        cols.column(MatchColumn.GAME_2)};
+                for (int k = 0; k < pairs; k++) {
+                    int slot = (k / stride) % 3;
+                    keys[k] = games[slot][pairRows[k]];
+                }
+                return;
+            }
+            int[] c = cols.column(column);
+            for (int k = 0; k < pairs; k++) {
+                int v = c[(pairRows == null) ? k : pairRows[k]];
+                keys[k] = (width == 1) ? v : Math.floorDiv(v, width) * width;
+            }
+        }
+    }
+
+    // ---------------- Aggregates ----------------
+
+    /** COUNT / SUM / AVG / MIN / MAX over a column, computed per group. */
+    public static final class Aggregate {
+        private enum Kind { COUNT, SUM, AVG, MIN, MAX }
+
+        private final Kind kind;
+        private final MatchColumn column;
+
+        private Aggregate(Kind kind, MatchColumn column) {
+            if (kind != Kind.COUNT && column == null) {
+                throw new IllegalArgumentException("column cannot be null");
+            }
+            this.kind = kind;
+            this.column = column;
+        }
+
+        public static Aggregate count() {
+            return new Aggregate(Kind.COUNT, null);
+        }
+
+        public static Aggregate sum(MatchColumn column) {
+            return new Aggregate(Kind.SUM, column);
+        }
+
+        public static Aggregate avg(MatchColumn column) {
+            return new Aggregate(Kind.AVG, column);
+        }
+
+        public static Aggregate min(MatchColumn column) {
+            return new Aggregate(Kind.MIN, column);
+        }
+
+        public static Aggregate max(MatchColumn column) {
+            return new Aggregate(Kind.MAX, column);
+        }
+
+        String name() {
+            return (kind == Kind.COUNT) ? "COUNT" : kind.name() + "(" + column.name() + ")";
+        }
+
+        /** One value over the whole selection (rows == null means rows 0..n-1). */
+        double computeAll(MatchColumns cols, int[] rows, int n) {
+            if (kind == Kind.COUNT) return n;
+            int[] c = cols.column(column);
+            if (kind == Kind.SUM || kind == Kind.AVG) {
+                long sum = 0;
+                if (rows == null) {
+                    for (int r = 0; r < n; r++) sum += c[r];
+                } else {
+                    for (int s = 0; s < n; s++) sum += c[rows[s]];
+                }
+                return (kind == Kind.SUM) ? sum : (n == 0 ? 0.0 : sum / (double) n);
+            }
+            if (n == 0) return 0.0;
+            int best = (kind == Kind.MIN) ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+            for (int s = 0; s < n; s++) {
+                int v = c[(rows == null) ? s : rows[s]];
+                best = (kind == Kind.MIN) ? Math.min(best, v) : Math.max(best, v);
+            }
+            return best;
+        }
+
+        /** Per-group values; pairRows == null means pair k is row k. */
+        double[] compute(MatchColumns cols, int[] pairRows, int[] groupOf, int pairs, int groups) {
+            double[] out = new double[groups];
+            long[] counts = new long[groups];
+            for (int k = 0; k < pairs; k++) counts[groupOf[k]]++;
+            if (kind == Kind.COUNT) {
+                for (int g = 0; g < groups; g++) out[g] = counts[g];
+                return out;
+            }
+
+            int[] c = cols.column(column);
+            if (kind == Kind.SUM || kind == Kind.AVG) {
+                long[] sums = new long[groups];
+                for (int k = 0; k < pairs; k++) sums[groupOf[k]] += c[(pairRows == null) ? k : pairRows[k]];
+                for (int g = 0; g < groups; g++) {
+                    out[g] = (kind == Kind.SUM) ? sums[g] : (counts[g] == 0 ? 0.0 : sums[g] / (double) counts[g]);
+                }
+                return out;
+            }
+
+            int[] best = new int[groups];
+            Arrays.fill(best, (kind == Kind.MIN) ? Integer.MAX_VALUE : Integer.MIN_VALUE);
+            if (kind == Kind.MIN) {
+                for (int k = 0; k < pairs; k++) {
+                    int g = groupOf[k];
+                    best[g] = Math.min(best[g], c[(pairRows == null) ? k : pairRows[k]]);
+                }
+            } else {
+                for (int k = 0; k < pairs; k++) {
+                    int g = groupOf[k];
+                    best[g] = Math.max(best[g], c[(pairRows == null) ? k : pairRows[k]]);
+                }
+            }
+            for (int g = 0; g < groups; g++) out[g] = (counts[g] == 0) ? 0.0 : best[g];
+            return out;
+        }
+    }
+}
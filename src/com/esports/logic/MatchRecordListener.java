@@ -0,0 +1,12 @@
+package com.esports.logic;
+
+/**
+ * Receives every match MatchManagement records (simulated or restored from a journal),
+ * in the order they are stored. Arguments are primitive so listeners can update
+ * their own aggregates without allocating.
+ * packedMatch uses the manager's game table indices (see PackedMatch).
+ */
+public interface MatchRecordListener {
+
+    void onMatchRecorded(int gamerIndex, int matchIndex, int matchId, long packedMatch, int matchPoints);
+}
@@ -0,0 +1,175 @@
+package com.esports.logic;
+
+import com.esports.model.Game;
+import com.esports.model.Match;
+import com.esports.model.PackedMatch;
+
+/**
+ * Memory-compact season storage: one long per match (see PackedMatch),
+ * kept in a long[] per gamer: [gamerIndex][matchIndex].
+ * Match points can optionally be cached in a parallel int[] per gamer.
+ * Notes:
+ * Match IDs are not stored; they are derived from position the same way
+ * MatchManagement assigns them (firstMatchId + gamerIndex * matchesPerGamer + matchIndex).
+ * Game indices inside each long refer to the Game[] table held here.
+ * A packed value of 0 marks an empty slot (a match that was never played; real
+ * matches always have rounds >= 1). Empty slots score 0 and are skipped by totals;
+ * scans should check isEmpty(i, j) and getPlayedMatchCount gives the real count.
+ */
+public class PackedSeason {
+
+    private final long[][] packedMatches;  // [gamer][match]
+    private final Game[] games;            // Deep copies, index = game index in packed longs
+    private final int[] basePoints;        // Base point per round by game index
+    private final int firstMatchId;
+    private final int matchesPerGamer;
+    private int[][] cachedMatchPoints;     // Null until cacheMatchPoints() is called
+
+    public PackedSeason(long[][] packedMatches, Game[] games, int firstMatchId) {
+        if (packedMatches == null || games == null) {
+            throw new IllegalArgumentException("packedMatches/games cannot be null");
+        }
+        this.games = new Game[games.length];
+        for (int i = 0; i < games.length; i++) {
+            this.games[i] = new Game(games[i]);
+        }
+        this.basePoints = PackedMatch.basePointTable(this.games);
+
+        int perGamer = 0;
+        this.packedMatches = new long[packedMatches.length][];
+        for (int i = 0; i < packedMatches.length; i++) {
+            this.packedMatches[i] = (packedMatches[i] == null) ? new long[0] : packedMatches[i].clone();
+            perGamer = Math.max(perGamer, this.packedMatches[i].length);
+        }
+        this.matchesPerGamer = perGamer;
+        this.firstMatchId = firstMatchId;
+    }
+
+    /**
+     * Precomputes match points for every match into a parallel int[] per gamer,
+     * trading 4 bytes per match for not re-deriving scores on every read.
+     */
+    public void cacheMatchPoints() {
+        int[][] cache = new int[packedMatches.length][];
+        for (int i = 0; i < packedMatches.length; i++) {
+            long[] row = packedMatches[i];
+            int[] points = new int[row.length];
+            for (int j = 0; j < row.length; j++) {
+                points[j] = (row[j] == 0) ? 0 : PackedMatch.matchPoints(row[j], basePoints);
+            }
+            cache[i] = points;
+        }
+        this.cachedMatchPoints = cache;
+    }
+
+    public boolean hasCachedMatchPoints() {
+        return cachedMatchPoints != null;
+    }
+
+    public int getNumberOfGamers() {
+        return packedMatches.length;
+    }
+
+    /** Number of slots for a gamer, including empty ones (see isEmpty). */
+    public int getMatchCount(int gamerIndex) {
+        return packedMatches[gamerIndex].length;
+    }
+
+    /** Number of matches the gamer actually played (non-empty slots). */
+    public int getPlayedMatchCount(int gamerIndex) {
+        int played = 0;
+        for (long p : packedMatches[gamerIndex]) {
+            if (p != 0) played++;
+        }
+        return played;
+    }
+
+    /** True if the slot holds no match (packed value 0). */
+    public boolean isEmpty(int gamerIndex, int matchIndex) {
+        return packedMatches[gamerIndex][matchIndex] == 0;
+    }
+
+    public long getPacked(int gamerIndex, int matchIndex) {
+        return packedMatches[gamerIndex][matchIndex];
+    }
+
+    public int getMatchId(int gamerIndex, int matchIndex) {
+        return firstMatchId + gamerIndex * matchesPerGamer + matchIndex;
+    }
+
+    public int getMatchPoints(int gamerIndex, int matchIndex) {
+        if (cachedMatchPoints != null) {
+            return cachedMatchPoints[gamerIndex][matchIndex];
+        }
+        long packed = packedMatches[gamerIndex][matchIndex];
+        return (packed == 0) ? 0 : PackedMatch.matchPoints(packed, basePoints);
+    }
+
+    public int getRawPoints(int gamerIndex, int matchIndex) {
+        long packed = packedMatches[gamerIndex][matchIndex];
+        return (packed == 0) ? 0 : PackedMatch.rawPoints(packed, basePoints);
+    }
+
+    public int getBonusPoints(int gamerIndex, int matchIndex) {
+        long packed = packedMatches[gamerIndex][matchIndex];
+        return (packed == 0) ? 0 : PackedMatch.bonusPoints(packed, basePoints);
+    }
+
+    /** Sum of match points for one gamer, derived on the fly (or from the cache). */
+    public int getTotalPoints(int gamerIndex) {
+        int total = 0;
+        for (int j = 0; j < packedMatches[gamerIndex].length; j++) {
+            total += getMatchPoints(gamerIndex, j);
+        }
+        return total;
+    }
+
+    /** Materializes a single fully-scored Match for display (null for an empty slot). */
+    public Match toMatch(int gamerIndex, int matchIndex) {
+        if (packedMatches[gamerIndex][matchIndex] == 0) return null;
+        return PackedMatch.toMatch(packedMatches[gamerIndex][matchIndex],
+                getMatchId(gamerIndex, matchIndex), games);
+    }
+
+    /**
+     * Materializes the classic Match grid so existing consumers (PointsBoard, Query) can be reused.
+     * Empty slots stay null, as in MatchManagement's own grid.
+     */
+    public Match[][] toMatchGrid() {
+        Match[][] grid = new Match[packedMatches.length][];
+        for (int i = 0; i < packedMatches.length; i++) {
+            grid[i] = new Match[packedMatches[i].length];
+            for (int j = 0; j < packedMatches[i].length; j++) {
+                grid[i][j] = toMatch(i, j);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Approximate heap bytes of the season: packed longs, the optional points cache and
+     * one 16-byte array header per row (the small game table is not counted).
+     */
+    public long estimatedSizeBytes() {
+        long bytes = 4L * packedMatches.length;
+        for (long[] row : packedMatches) {
+            bytes += 16 + 8L * row.length;
+        }
+        if (cachedMatchPoints != null) {
+            bytes += 4L * cachedMatchPoints.length;
+            for (int[] row : cachedMatchPoints) {
+                bytes += 16 + ((4L * row.length + 7) & ~7L);
+            }
+        }
+        return bytes;
+    }
+
+    /** Returns copies of the game table the packed indices refer to. */
+    public Game[] getGames() {
+        Game[] copy = new Game[games.length];
+        for (int i = 0; i < games.length; i++) {
+            copy[i] = new Game(games[i]);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,120 @@
+package com.esports.logic;
+
+import com.esports.io.ReportWriter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-stage counters for SeasonPipeline:
+ * - items (gamers) and batches handled
+ * - busy time (doing work) and blocked time (waiting on a queue)
+ * and per-queue depth statistics sampled on every put.
+ * All counters are thread-safe; read them after run() for a consistent report.
+ */
+public final class PipelineMetrics {
+
+    /** Pipeline stages, in data-flow order. */
+    public enum Stage { LOAD, SIMULATE, AGGREGATE }
+
+    /** Queues between stages. */
+    public enum QueueId { LOAD_TO_SIMULATE, SIMULATE_TO_AGGREGATE }
+
+    private final LongAdder[] items = adders(Stage.values().length);
+    private final LongAdder[] batches = adders(Stage.values().length);
+    private final LongAdder[] busyNanos = adders(Stage.values().length);
+    private final LongAdder[] blockedNanos = adders(Stage.values().length);
+    private final AtomicLong[] maxDepth = new AtomicLong[QueueId.values().length];
+    private final LongAdder[] depthSum = adders(QueueId.values().length);
+    private final LongAdder[] depthSamples = adders(QueueId.values().length);
+    private final int[] capacity = new int[QueueId.values().length];
+    private volatile long wallNanos;
+
+    PipelineMetrics(int queueCapacity) {
+        for (int q = 0; q < maxDepth.length; q++) {
+            maxDepth[q] = new AtomicLong();
+            capacity[q] = queueCapacity;
+        }
+    }
+
+    void addBatch(Stage stage, int itemCount, long busy) {
+        items[stage.ordinal()].add(itemCount);
+        batches[stage.ordinal()].increment();
+        busyNanos[stage.ordinal()].add(busy);
+    }
+
+    void addBlocked(Stage stage, long nanos) {
+        blockedNanos[stage.ordinal()].add(nanos);
+    }
+
+    void sampleDepth(QueueId queue, int depth) {
+        int q = queue.ordinal();
+        depthSum[q].add(depth);
+        depthSamples[q].increment();
+        maxDepth[q].accumulateAndGet(depth, Math::max);
+    }
+
+    void setWallNanos(long nanos) {
+        this.wallNanos = nanos;
+    }
+
+    // -------- Getters --------
+
+    public long getItems(Stage stage) {
+        return items[stage.ordinal()].sum();
+    }
+
+    public long getBatches(Stage stage) {
+        return batches[stage.ordinal()].sum();
+    }
+
+    public long getBusyNanos(Stage stage) {
+        return busyNanos[stage.ordinal()].sum();
+    }
+
+    public long getBlockedNanos(Stage stage) {
+        return blockedNanos[stage.ordinal()].sum();
+    }
+
+    /** Items per second of busy time for a stage (summed over its threads). */
+    public double getThroughput(Stage stage) {
+        long busy = getBusyNanos(stage);
+        return (busy == 0) ? 0.0 : getItems(stage) * 1e9 / busy;
+    }
+
+    public long getMaxQueueDepth(QueueId queue) {
+        return maxDepth[queue.ordinal()].get();
+    }
+
+    public double getAverageQueueDepth(QueueId queue) {
+        long samples = depthSamples[queue.ordinal()].sum();
+        return (samples == 0) ? 0.0 : depthSum[queue.ordinal()].sum() / (double) samples;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    public void print(ReportWriter out) {
+        out.println("Pipeline Metrics:");
+        out.print("Wall time: ").printFixed(wallNanos / 1e6, 1).println(" ms");
+        for (Stage s : Stage.values()) {
+            out.print(s.name()).print(": ").print(getItems(s)).print(" gamers in ").print(getBatches(s))
+                    .print(" batches, busy ").printFixed(getBusyNanos(s) / 1e6, 1)
+                    .print(" ms, blocked ").printFixed(getBlockedNanos(s) / 1e6, 1)
+                    .print(" ms, ").printFixed(getThroughput(s), 0).println(" gamers/s busy");
+        }
+        for (QueueId q : QueueId.values()) {
+            out.print(q.name()).print(": max depth ").print(getMaxQueueDepth(q)).print('/')
+                    .print(capacity[q.ordinal()]).print(", avg depth ").printFixed(getAverageQueueDepth(q), 2)
+                    .println();
+        }
+        out.flush();
+    }
+
+    private static LongAdder[] adders(int n) {
+        LongAdder[] a = new LongAdder[n];
+        for (int i = 0; i < n; i++) a[i] = new LongAdder();
+        return a;
+    }
+}
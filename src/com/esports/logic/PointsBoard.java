@@ -4,10 +4,13 @@ import com.esports.model.Gamer;
 import com.esports.model.Match;
 import com.esports.model.Medal;
 
+import java.util.Arrays;
+
 /**
  * Aggregates season results per gamer:
  * - total points
- * - averagePerMatch: Total Points / 15.0
+ * - averagePerMatch: Total Points / 15.0 for the 15-match grid, or / matches actually
+ *   played when results come from a MatchHistoryStore
  * - medal (derived from total points)
  * Notes:
  * Stores deep copies of Gamer instances.
@@ -19,6 +22,7 @@ public class PointsBoard {
     private final int[] totalPoints;       // Season totals per gamer
     private final double[] averagePerMatch;// Season averages per gamer (15)
     private final Medal[] medals;          // Medal per gamer (derived from total)
+    private int[] matchCounts;             // Matches played per gamer; null = always 15 (grid mode)
 
     // Each gamer plays exactly 15 matches in the season (spec requirement).
     private static final int MATCHES_PER_GAMER = 15;
@@ -38,6 +42,7 @@ public class PointsBoard {
             this.totalPoints = new int[size];
             this.averagePerMatch = new double[size];
             this.medals = new Medal[size];
+            Arrays.fill(this.medals, Medal.NONE); // Until results are calculated
         }
     }
 
@@ -82,6 +87,66 @@ public class PointsBoard {
             averagePerMatch[i] = 0.0;
             medals[i] = Medal.NONE;
         }
+        matchCounts = null;
+    }
+
+    /**
+     * Computes totals, averages, and medals from variable-length histories.
+     * - Total Points = sum of matchPoints over the gamer's recorded matches.
+     * - Average Per Match = Total Points / matches actually played (0.0 with no matches).
+     * - Medal is assigned from Total Points; gamers with no matches keep Medal.NONE.
+     * Gamers beyond the store's gamer count get 0 totals, like the grid version.
+     */
+    public void calculateSeasonResults(MatchHistoryStore store) {
+        if (store == null) return;
+        int[] counts = new int[gamers.length];
+        for (int i = 0; i < gamers.length; i++) {
+            int total = store.getTotalPoints(i);
+            counts[i] = store.getMatchCount(i);
+            totalPoints[i] = total;
+            averagePerMatch[i] = averageOf(total, counts[i]);
+            medals[i] = medalOf(total, counts[i]);
+        }
+        matchCounts = counts;
+    }
+
+    /**
+     * Adjusts one gamer's season total by delta (used by incremental rescoring)
+     * and re-derives the average and medal from the new total. A gamer with no
+     * recorded matches keeps Medal.NONE, as in calculateSeasonResults.
+     */
+    public void applyDelta(int index, int delta) {
+        if (index < 0 || index >= totalPoints.length) {
+            throw new IllegalArgumentException("Gamer index out of range: " + index);
+        }
+        int total = totalPoints[index] + delta;
+        totalPoints[index] = total;
+        if (matchCounts == null) {
+            averagePerMatch[index] = total / (double) MATCHES_PER_GAMER;
+            medals[index] = Medal.fromTotalPoints(total);
+        } else {
+            averagePerMatch[index] = averageOf(total, matchCounts[index]);
+            medals[index] = medalOf(total, matchCounts[index]);
+        }
+    }
+
+    private static Medal medalOf(int total, int matches) {
+        return (matches == 0) ? Medal.NONE : Medal.fromTotalPoints(total);
+    }
+
+    private static double averageOf(int total, int matches) {
+        return (matches == 0) ? 0.0 : total / (double) matches;
+    }
+
+    /** Replaces the stored copy of one gamer (e.g. after a corrected gamers.csv). */
+    public void updateGamer(int index, Gamer gamer) {
+        if (index < 0 || index >= gamers.length) {
+            throw new IllegalArgumentException("Gamer index out of range: " + index);
+        }
+        if (gamer == null) {
+            throw new IllegalArgumentException("Gamer cannot be null");
+        }
+        gamers[index] = new Gamer(gamer);
     }
 
     /** Returns a defensive copy of the highest-scoring gamer. */
@@ -112,6 +177,12 @@ public class PointsBoard {
         return (index >= 0 && index < averagePerMatch.length) ? averagePerMatch[index] : 0.0;
     }
 
+    /** Matches the average is based on: 15 in grid mode, else the recorded count. */
+    public int getMatchCount(int index) {
+        if (index < 0 || index >= gamers.length) return 0;
+        return (matchCounts == null) ? MATCHES_PER_GAMER : matchCounts[index];
+    }
+
     public Medal getMedal(int index) {
         return (index >= 0 && index < medals.length) ? medals[index] : Medal.NONE;
     }
@@ -1,5 +1,6 @@
 package com.esports.logic;
 
+import com.esports.io.ReportWriter;
 import com.esports.model.Game;
 import com.esports.model.Gamer;
 import com.esports.model.Match;
@@ -13,14 +14,19 @@ import com.esports.model.Medal;
  * 4- The highest-scoring gamer (Nickname, Name, Total Points, Average Per Match, Medal).
  * 5- The total tournament points across all 1500 matches.
  * 6- The medal distribution (counts and percentages).
+ * Optional season-wide game figures (printGameContributions) are read from a
+ * GameContributionBoard maintained during simulation, not recomputed from the grid.
  * Notes for safety/robustness:
  * - We defensively handle empty / null inputs to avoid NPEs.
+ * - Output goes through a buffered ReportWriter (stdout by default) and is
+ *   flushed once per public print call instead of once per line.
  */
 public class Query {
 
     private final Match[][] allGamerMatches;
     private final Gamer[] allGamers;
     private final PointsBoard pointsBoard;
+    private final ReportWriter out;
 
     /**
      * Constructs the Query object with already-simulated data.
@@ -30,44 +36,86 @@ public class Query {
      * @param pointsBoard     the computed season stats per gamer
      */
     public Query(Match[][] allGamerMatches, Gamer[] allGamers, PointsBoard pointsBoard) {
+        this(allGamerMatches, allGamers, pointsBoard, ReportWriter.toStdout());
+    }
+
+    /**
+     * Same as above, but writes the report to the given writer instead of stdout.
+     */
+    public Query(Match[][] allGamerMatches, Gamer[] allGamers, PointsBoard pointsBoard, ReportWriter out) {
+        if (out == null) {
+            throw new IllegalArgumentException("out cannot be null");
+        }
         // Store references. We assume caller already gave us the "safe" / copied versions.
         // (MatchManagement.getAllGamerMatches() already does deep copy; PointsBoard.getGamers() clones.)
         this.allGamerMatches = allGamerMatches;
         this.allGamers = allGamers;
         this.pointsBoard = pointsBoard;
+        this.out = out;
     }
 
     /**
      * Executes and prints all 6 queries to stdout in the exact order required by the assignment.
      */
     public void printAllQueries() {
-        printHighestScoringMatch();
-        System.out.println(); // blank line between queries
+        writeHighestScoringMatch();
+        out.println(); // blank line between queries
 
-        printLowestScoringMatch();
-        System.out.println();
+        writeLowestScoringMatch();
+        out.println();
 
-        printLowestBonusMatch();
-        System.out.println();
+        writeLowestBonusMatch();
+        out.println();
 
-        printHighestScoringGamer();
-        System.out.println();
+        writeHighestScoringGamer();
+        out.println();
+
+        writeTotalTournamentPoints();
+        out.println();
+
+        writeMedalDistribution();
+        out.flush();
+    }
+
+    public void printHighestScoringMatch() {
+        writeHighestScoringMatch();
+        out.flush();
+    }
+
+    public void printLowestScoringMatch() {
+        writeLowestScoringMatch();
+        out.flush();
+    }
+
+    public void printLowestBonusMatch() {
+        writeLowestBonusMatch();
+        out.flush();
+    }
+
+    public void printHighestScoringGamer() {
+        writeHighestScoringGamer();
+        out.flush();
+    }
 
-        printTotalTournamentPoints();
-        System.out.println();
+    public void printTotalTournamentPoints() {
+        writeTotalTournamentPoints();
+        out.flush();
+    }
 
-        printMedalDistribution();
+    public void printMedalDistribution() {
+        writeMedalDistribution();
+        out.flush();
     }
 
     /* -------------------------------------------------
        Query 1: Highest-Scoring Match (by Match Points)
        ------------------------------------------------- */
-    public void printHighestScoringMatch() {
-        System.out.println("1. Highest-Scoring Match");
+    private void writeHighestScoringMatch() {
+        out.println("1. Highest-Scoring Match");
 
         Match bestMatch = findFirstNonNullMatch();
         if (bestMatch == null) {
-            System.out.println("No matches found.");
+            out.println("No matches found.");
             return;
         }
 
@@ -83,7 +131,7 @@ public class Query {
             }
         }
 
-        System.out.println("Highest-Scoring Match:");
+        out.println("Highest-Scoring Match:");
         printMatchDetails(bestMatch);
     }
 
@@ -91,12 +139,12 @@ public class Query {
        Query 2: Lowest-Scoring Match & Most Contributing Game
      * Outputs the lowest-scoring match (by Match Points) and the most contributing game within it.
        ------------------------------------------------- */
-    public void printLowestScoringMatch() {
-        System.out.println("2. Lowest-Scoring Match & Most Contributing Game");
+    private void writeLowestScoringMatch() {
+        out.println("2. Lowest-Scoring Match & Most Contributing Game");
 
         Match worstMatch = findFirstNonNullMatch();
         if (worstMatch == null) {
-            System.out.println("No matches found.");
+            out.println("No matches found.");
             return;
         }
 
@@ -112,7 +160,7 @@ public class Query {
             }
         }
 
-        System.out.println("Lowest-Scoring Match:");
+        out.println("Lowest-Scoring Match:");
         printMatchDetails(worstMatch);
 
         // Now find the most contributing game in that worst match
@@ -133,9 +181,9 @@ public class Query {
         Game bestGame = games[bestGameIndex];
         int bestRounds = rounds[bestGameIndex];
 
-        System.out.println("Most Contributing Game in this Match:");
-        System.out.println("Game: " + bestGame.getName());
-        System.out.println("Contribution: " + bestRounds + " rounds × "
+        out.println("Most Contributing Game in this Match:");
+        out.println("Game: " + bestGame.getName());
+        out.println("Contribution: " + bestRounds + " rounds × "
                 + bestGame.getBasePointPerRound() + " points = " + maxContribution);
     }
 
@@ -143,12 +191,12 @@ public class Query {
        Query 3: Match with the Lowest Bonus Points
        We match the sample output structure
        ------------------------------------------------- */
-    public void printLowestBonusMatch() {
-        System.out.println("3. Match with the Lowest Bonus Points");
+    private void writeLowestBonusMatch() {
+        out.println("3. Match with the Lowest Bonus Points");
 
         Match lowestBonusMatch = findFirstNonNullMatch();
         if (lowestBonusMatch == null) {
-            System.out.println("No matches found.");
+            out.println("No matches found.");
             return;
         }
 
@@ -164,15 +212,15 @@ public class Query {
             }
         }
 
-        System.out.println("Match with Lowest Bonus Points:");
+        out.println("Match with Lowest Bonus Points:");
         Game[] games = lowestBonusMatch.getGames();
-        System.out.println("Match ID: " + lowestBonusMatch.getId());
-        System.out.println("Games: [" + games[0].getName() + ", "
+        out.println("Match ID: " + lowestBonusMatch.getId());
+        out.println("Games: [" + games[0].getName() + ", "
                 + games[1].getName() + ", "
                 + games[2].getName() + "]");
-        System.out.println("Skill Points: " + lowestBonusMatch.getSkillPoints());
-        System.out.println("Bonus Points: " + lowestBonusMatch.getBonusPoints());
-        System.out.println("Match Points: " + lowestBonusMatch.getMatchPoints());
+        out.println("Skill Points: " + lowestBonusMatch.getSkillPoints());
+        out.println("Bonus Points: " + lowestBonusMatch.getBonusPoints());
+        out.println("Match Points: " + lowestBonusMatch.getMatchPoints());
     }
 
     /* -------------------------------------------------
@@ -184,12 +232,12 @@ public class Query {
        - Average Per Match
        - Medal
        ------------------------------------------------- */
-    public void printHighestScoringGamer() {
-        System.out.println("4. Highest-Scoring Gamer");
+    private void writeHighestScoringGamer() {
+        out.println("4. Highest-Scoring Gamer");
 
         int[] totals = pointsBoard.getAllTotalPoints();
         if (totals.length == 0) {
-            System.out.println("No gamers found.");
+            out.println("No gamers found.");
             return;
         }
 
@@ -205,20 +253,20 @@ public class Query {
         double avg = pointsBoard.getAveragePerMatch(bestIndex);
         Medal medal = pointsBoard.getMedal(bestIndex);
 
-        System.out.println("Highest-Scoring Gamer:");
-        System.out.println("Nickname: " + bestGamer.getNickname());
-        System.out.println("Name: " + bestGamer.getRealName());
-        System.out.println("Total Points: " + total);
-        System.out.printf("Average Per Match: %.2f\n", avg);
-        System.out.println("Medal: " + medal.displayName());
+        out.println("Highest-Scoring Gamer:");
+        out.println("Nickname: " + bestGamer.getNickname());
+        out.println("Name: " + bestGamer.getRealName());
+        out.println("Total Points: " + total);
+        out.printf("Average Per Match: %.2f\n", avg);
+        out.println("Medal: " + medal.displayName());
     }
 
     /* -------------------------------------------------
        Query 5: Total Tournament Points
        We should sum Match Points of every match in the entire season.
        ------------------------------------------------- */
-    public void printTotalTournamentPoints() {
-        System.out.println("5. Total Tournament Points");
+    private void writeTotalTournamentPoints() {
+        out.println("5. Total Tournament Points");
 
         // Sum all gamers' totals to get the global tournament total.
         int[] gamerTotals = pointsBoard.getAllTotalPoints();
@@ -228,21 +276,21 @@ public class Query {
         }
 
         // Print in the exact sample style:
-        System.out.println("Total Tournament Points across 1500 matches: " + tournamentTotal);
+        out.println("Total Tournament Points across 1500 matches: " + tournamentTotal);
     }
 
     /* -------------------------------------------------
        Query 6: Medal Distribution
        We print count and percentage of each medal type.
        ------------------------------------------------- */
-    public void printMedalDistribution() {
-        System.out.println("6. Medal Distribution");
+    private void writeMedalDistribution() {
+        out.println("6. Medal Distribution");
 
         Medal[] allMedals = pointsBoard.getAllMedals();
         int totalGamers = allMedals.length;
 
         if (totalGamers == 0) {
-            System.out.println("No gamers found.");
+            out.println("No gamers found.");
             return;
         }
 
@@ -268,11 +316,43 @@ public class Query {
         double bronzePct = (double) bronzeCount * 100.0 / totalGamers;
         double nonePct   = (double) noneCount   * 100.0 / totalGamers;
 
-        System.out.println("Medal Distribution:");
-        System.out.printf("GOLD:   %d gamers (%.1f%%)\n",   goldCount,   goldPct);
-        System.out.printf("SILVER: %d gamers (%.1f%%)\n", silverCount, silverPct);
-        System.out.printf("BRONZE: %d gamers (%.1f%%)\n", bronzeCount, bronzePct);
-        System.out.printf("NONE:   %d gamers (%.1f%%)\n",   noneCount,   nonePct);
+        out.println("Medal Distribution:");
+        out.printf("GOLD:   %d gamers (%.1f%%)\n",   goldCount,   goldPct);
+        out.printf("SILVER: %d gamers (%.1f%%)\n", silverCount, silverPct);
+        out.printf("BRONZE: %d gamers (%.1f%%)\n", bronzeCount, bronzePct);
+        out.printf("NONE:   %d gamers (%.1f%%)\n",   noneCount,   nonePct);
+    }
+
+    /* -------------------------------------------------
+       Season Game Contributions (optional, O(1) reads)
+       Top game by total contribution and the game most often
+       a match's top contributor (the Query 2 rule, season-wide).
+       ------------------------------------------------- */
+    public void printGameContributions(GameContributionBoard board) {
+        if (board == null) {
+            throw new IllegalArgumentException("board cannot be null");
+        }
+        writeGameContributions(board);
+        out.flush();
+    }
+
+    private void writeGameContributions(GameContributionBoard board) {
+        out.println("7. Season Game Contributions");
+        if (board.getMatchCount() == 0) {
+            out.println("No matches found.");
+            return;
+        }
+        int top = board.getTopGameByContribution();
+        Game topGame = board.getGame(top);
+        out.println("Top Game by Contribution: " + topGame.getName());
+        out.printf("Contribution: %d points (%.1f%% of all raw points)\n",
+                board.getContribution(top), board.getContributionShare(top) * 100.0);
+        out.println("Rounds Played: " + board.getRoundsPlayed(top)
+                + ", Appearances: " + board.getAppearances(top));
+
+        int mostOften = board.getTopGameByTopContributorCount();
+        out.println("Most Often Top Contributor: " + board.getGame(mostOften).getName()
+                + " (" + board.getTopContributorCount(mostOften) + " of " + board.getMatchCount() + " matches)");
     }
 
     /* =================================================
@@ -286,17 +366,17 @@ public class Query {
         Game[] games = m.getGames();
         int[] rounds = m.getRounds();
 
-        System.out.println("Match ID: " + m.getId());
-        System.out.println("Games: [" + games[0].getName() + ", "
+        out.println("Match ID: " + m.getId());
+        out.println("Games: [" + games[0].getName() + ", "
                 + games[1].getName() + ", "
                 + games[2].getName() + "]");
-        System.out.println("Rounds: [" + rounds[0] + ", "
+        out.println("Rounds: [" + rounds[0] + ", "
                 + rounds[1] + ", "
                 + rounds[2] + "]");
-        System.out.println("Raw Points: " + m.getRawPoints());
-        System.out.println("Skill Points: " + m.getSkillPoints());
-        System.out.println("Bonus Points: " + m.getBonusPoints());
-        System.out.println("Match Points: " + m.getMatchPoints());
+        out.println("Raw Points: " + m.getRawPoints());
+        out.println("Skill Points: " + m.getSkillPoints());
+        out.println("Bonus Points: " + m.getBonusPoints());
+        out.println("Match Points: " + m.getMatchPoints());
     }
 
     /**
@@ -0,0 +1,66 @@
+package com.esports.logic;
+
+import com.esports.io.ReportWriter;
+
+/**
+ * Tabular result of a MatchQuery: column headers, optional row labels
+ * (readable group keys, e.g. game names) and numeric cells.
+ */
+public final class QueryResult {
+
+    private final String[] headers;
+    private final String[] labels;   // Null when rows are not groups
+    private final double[][] values; // [row][column]
+
+    QueryResult(String[] headers, String[] labels, double[][] values) {
+        this.headers = headers;
+        this.labels = labels;
+        this.values = values;
+    }
+
+    public int rowCount() {
+        return values.length;
+    }
+
+    public int columnCount() {
+        return headers.length;
+    }
+
+    public String getHeader(int column) {
+        return headers[column];
+    }
+
+    /** Readable group label for a row, or null for non-grouped results. */
+    public String getLabel(int row) {
+        return (labels == null) ? null : labels[row];
+    }
+
+    public double get(int row, int column) {
+        return values[row][column];
+    }
+
+    public long getLong(int row, int column) {
+        return (long) values[row][column];
+    }
+
+    /** Prints a header line and one line per row; whole numbers without decimals, others with 2. */
+    public void print(ReportWriter out) {
+        if (labels != null) out.print("GROUP\t");
+        for (int c = 0; c < headers.length; c++) {
+            if (c > 0) out.print('\t');
+            out.print(headers[c]);
+        }
+        out.println();
+        for (int r = 0; r < values.length; r++) {
+            if (labels != null) out.print(labels[r]).print('\t');
+            for (int c = 0; c < headers.length; c++) {
+                if (c > 0) out.print('\t');
+                double v = values[r][c];
+                if (v == Math.rint(v) && Math.abs(v) < 1e15) out.print((long) v);
+                else out.printFixed(v, 2);
+            }
+            out.println();
+        }
+        out.flush();
+    }
+}
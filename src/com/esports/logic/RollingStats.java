@@ -0,0 +1,195 @@
+package com.esports.logic;
+
+/**
+ * Rolling-window statistics over each gamer's last N match points, updated as matches are recorded.
+ * Per gamer (all in shared, preallocated primitive arrays of gamers × window):
+ * - ring buffer of the last N match points → rolling sum / average in O(1)
+ * - monotonic min and max deques (sequence numbers) → rolling min / max in amortized O(1)
+ * - index-weighted sum → trend (least-squares slope, points per match) in O(1)
+ * - signed streak: +k after k matches in a row at or above the gamer's rolling average
+ *   (as it was before each match), −k after k matches in a row below it
+ * Memory is fixed at construction (about 12 × gamers × window bytes plus a few arrays per gamer),
+ * and record() does not allocate.
+ * Register with MatchManagement.addRecordListener to follow a running season.
+ * Getters return 0 for unknown gamers or gamers without matches, like PointsBoard.
+ */
+public class RollingStats implements MatchRecordListener {
+
+    private final int gamers;
+    private final int window;
+
+    private final int[] values;        // [gamer * window + seq % window]
+    private final int[] minDeque;      // Sequence numbers, ring per gamer
+    private final int[] maxDeque;
+    private final int[] minHead;
+    private final int[] minSize;
+    private final int[] maxHead;
+    private final int[] maxSize;
+    private final int[] recorded;      // Matches recorded per gamer (next sequence number)
+    private final long[] sums;
+    private final long[] weightedSums; // Σ k·x_k, k = 0 (oldest) .. count-1 (newest)
+    private final int[] streaks;
+
+    public RollingStats(int gamers, int window) {
+        if (gamers < 0 || window < 1) {
+            throw new IllegalArgumentException("gamers must be >= 0 and window >= 1");
+        }
+        long cells = (long) gamers * window;
+        if (cells > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("gamers × window is too large: " + cells);
+        }
+        this.gamers = gamers;
+        this.window = window;
+        this.values = new int[(int) cells];
+        this.minDeque = new int[(int) cells];
+        this.maxDeque = new int[(int) cells];
+        this.minHead = new int[gamers];
+        this.minSize = new int[gamers];
+        this.maxHead = new int[gamers];
+        this.maxSize = new int[gamers];
+        this.recorded = new int[gamers];
+        this.sums = new long[gamers];
+        this.weightedSums = new long[gamers];
+        this.streaks = new int[gamers];
+    }
+
+    @Override
+    public void onMatchRecorded(int gamerIndex, int matchIndex, int matchId, long packedMatch, int matchPoints) {
+        record(gamerIndex, matchPoints);
+    }
+
+    /** Adds one match result for a gamer; the oldest one leaves the window when it is full. */
+    public void record(int gamerIndex, int matchPoints) {
+        if (gamerIndex < 0 || gamerIndex >= gamers) {
+            throw new IllegalArgumentException("Gamer index out of range: " + gamerIndex);
+        }
+        int base = gamerIndex * window;
+        int seq = recorded[gamerIndex];
+        int count = Math.min(seq, window);
+
+        // Streak against the form before this match
+        if (count > 0) {
+            boolean atOrAbove = (long) matchPoints * count >= sums[gamerIndex];
+            int s = streaks[gamerIndex];
+            streaks[gamerIndex] = atOrAbove ? (s > 0 ? s + 1 : 1) : (s < 0 ? s - 1 : -1);
+        }
+
+        // Ring buffer, sum and weighted sum
+        int slot = base + seq % window;
+        if (count == window) {
+            int evicted = values[slot];
+            // Drop k = 0 and shift every remaining index down by one, then append at k = window - 1.
+            weightedSums[gamerIndex] -= sums[gamerIndex] - evicted;
+            sums[gamerIndex] -= evicted;
+            weightedSums[gamerIndex] += (long) (window - 1) * matchPoints;
+        } else {
+            weightedSums[gamerIndex] += (long) count * matchPoints;
+        }
+        values[slot] = matchPoints;
+        sums[gamerIndex] += matchPoints;
+
+        // Monotonic deques: expire the evicted sequence number, then drop dominated entries.
+        int oldest = seq - window + 1; // Oldest sequence number still in the window
+        pushMin(gamerIndex, base, seq, oldest, matchPoints);
+        pushMax(gamerIndex, base, seq, oldest, matchPoints);
+
+        recorded[gamerIndex] = seq + 1;
+    }
+
+    private void pushMin(int g, int base, int seq, int oldest, int v) {
+        if (minSize[g] > 0 && minDeque[base + minHead[g]] < oldest) {
+            minHead[g] = (minHead[g] + 1) % window;
+            minSize[g]--;
+        }
+        while (minSize[g] > 0 && valueAt(base, minDeque[base + (minHead[g] + minSize[g] - 1) % window]) >= v) {
+            minSize[g]--;
+        }
+        minDeque[base + (minHead[g] + minSize[g]) % window] = seq;
+        minSize[g]++;
+    }
+
+    private void pushMax(int g, int base, int seq, int oldest, int v) {
+        if (maxSize[g] > 0 && maxDeque[base + maxHead[g]] < oldest) {
+            maxHead[g] = (maxHead[g] + 1) % window;
+            maxSize[g]--;
+        }
+        while (maxSize[g] > 0 && valueAt(base, maxDeque[base + (maxHead[g] + maxSize[g] - 1) % window]) <= v) {
+            maxSize[g]--;
+        }
+        maxDeque[base + (maxHead[g] + maxSize[g]) % window] = seq;
+        maxSize[g]++;
+    }
+
+    private int valueAt(int base, int seq) {
+        return values[base + seq % window];
+    }
+
+    private boolean hasData(int gamerIndex) {
+        return gamerIndex >= 0 && gamerIndex < gamers && recorded[gamerIndex] > 0;
+    }
+
+    // -------- Queries --------
+
+    public int getWindow() {
+        return window;
+    }
+
+    public int getNumberOfGamers() {
+        return gamers;
+    }
+
+    /** Matches recorded for the gamer so far (not limited to the window). */
+    public int getRecordedMatches(int gamerIndex) {
+        return (gamerIndex >= 0 && gamerIndex < gamers) ? recorded[gamerIndex] : 0;
+    }
+
+    /** Matches currently in the window (≤ window). */
+    public int getWindowCount(int gamerIndex) {
+        return Math.min(getRecordedMatches(gamerIndex), window);
+    }
+
+    public long getRollingSum(int gamerIndex) {
+        return hasData(gamerIndex) ? sums[gamerIndex] : 0;
+    }
+
+    /** Average over the matches in the window (divides by the real count, not by 15). */
+    public double getRollingAverage(int gamerIndex) {
+        return hasData(gamerIndex) ? sums[gamerIndex] / (double) getWindowCount(gamerIndex) : 0.0;
+    }
+
+    public int getRollingMin(int gamerIndex) {
+        if (!hasData(gamerIndex)) return 0;
+        int base = gamerIndex * window;
+        return valueAt(base, minDeque[base + minHead[gamerIndex]]);
+    }
+
+    public int getRollingMax(int gamerIndex) {
+        if (!hasData(gamerIndex)) return 0;
+        int base = gamerIndex * window;
+        return valueAt(base, maxDeque[base + maxHead[gamerIndex]]);
+    }
+
+    /** Match points of the most recent match. */
+    public int getLastMatchPoints(int gamerIndex) {
+        if (!hasData(gamerIndex)) return 0;
+        return valueAt(gamerIndex * window, recorded[gamerIndex] - 1);
+    }
+
+    /**
+     * Least-squares slope of match points over the window, in points per match
+     * (positive = improving form). 0 with fewer than 2 matches.
+     */
+    public double getTrend(int gamerIndex) {
+        int n = getWindowCount(gamerIndex);
+        if (n < 2) return 0.0;
+        double sumK = n * (n - 1) / 2.0;
+        double sumK2 = (n - 1) * (double) n * (2.0 * n - 1) / 6.0;
+        double numerator = n * (double) weightedSums[gamerIndex] - sumK * sums[gamerIndex];
+        return numerator / (n * sumK2 - sumK * sumK);
+    }
+
+    /** Signed streak (see class comment); 0 before the second match. */
+    public int getStreak(int gamerIndex) {
+        return hasData(gamerIndex) ? streaks[gamerIndex] : 0;
+    }
+}
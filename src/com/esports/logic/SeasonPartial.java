@@ -0,0 +1,315 @@
+package com.esports.logic;
+
+import com.esports.model.Game;
+import com.esports.model.Gamer;
+import com.esports.model.Match;
+import com.esports.model.Medal;
+import com.esports.model.PackedMatch;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Compact, mergeable summary of a (partial) season, e.g. one shard's gamers.
+ * Holds:
+ * - per-gamer season totals keyed by global gamer index (file order)
+ * - tournament total and medal counts
+ * - the highest-scoring, lowest-scoring and lowest-bonus matches (packed, see PackedMatch)
+ * - histograms of match points and gamer totals
+ * Merging two partials gives the same summary as building one over both gamer sets.
+ * Ties between extreme matches go to the lower (globalGamerIndex, matchIndex) position,
+ * which is the match Query would report when scanning the full grid.
+ */
+public class SeasonPartial {
+
+    public static final int MATCH_HISTOGRAM_BUCKET = 50;
+    public static final int TOTAL_HISTOGRAM_BUCKET = 250;
+    public static final int HISTOGRAM_BUCKETS = 64; // Last bucket collects everything above
+
+    private static final int MAGIC = 0x45535350; // "ESSP"
+    private static final int VERSION = 1;
+    private static final int MATCHES_PER_GAMER = 15;
+
+    private int[] gamerIndices = new int[0];   // Global gamer indices, ascending
+    private int[] gamerTotals = new int[0];    // Parallel to gamerIndices
+    private int gamerCount;                    // Used prefix of the two arrays above
+    private long tournamentTotal;
+    private final int[] medalCounts = new int[Medal.values().length];
+    private final long[] matchHistogram = new long[HISTOGRAM_BUCKETS];
+    private final long[] totalHistogram = new long[HISTOGRAM_BUCKETS];
+
+    private final MatchRef highest = new MatchRef();
+    private final MatchRef lowest = new MatchRef();
+    private final MatchRef lowestBonus = new MatchRef();
+
+    private int gameCount; // Size of the game table the packed matches refer to
+
+    /**
+     * Builds a partial from a simulated season.
+     * @param season             packed season (rows in the same order as localToGlobal)
+     * @param localToGlobal      global (file-order) gamer index for every season row
+     */
+    public static SeasonPartial fromSeason(PackedSeason season, int[] localToGlobal) {
+        if (season == null || localToGlobal == null || localToGlobal.length != season.getNumberOfGamers()) {
+            throw new IllegalArgumentException("season/localToGlobal invalid");
+        }
+        SeasonPartial p = new SeasonPartial();
+        p.gameCount = season.getGames().length;
+
+        int n = localToGlobal.length;
+        long[] keyed = new long[n];
+        for (int i = 0; i < n; i++) {
+            keyed[i] = ((long) localToGlobal[i] << 32) | i; // Sort rows by global index
+        }
+        Arrays.sort(keyed);
+        p.gamerIndices = new int[n];
+        p.gamerTotals = new int[n];
+        p.gamerCount = n;
+
+        for (int k = 0; k < n; k++) {
+            int i = (int) keyed[k];
+            int global = localToGlobal[i];
+            int total = 0;
+            for (int j = 0; j < season.getMatchCount(i); j++) {
+                if (season.isEmpty(i, j)) continue; // Never played: not a 0-point match
+                int points = season.getMatchPoints(i, j);
+                int bonus = season.getBonusPoints(i, j);
+                long order = (long) global * MATCHES_PER_GAMER + j;
+                long packed = season.getPacked(i, j);
+                int id = global * MATCHES_PER_GAMER + j + 1; // Id the single-process run would assign
+
+                p.highest.offerHigher(points, order, id, packed, points, bonus);
+                p.lowest.offerLower(points, order, id, packed, points, bonus);
+                p.lowestBonus.offerLower(bonus, order, id, packed, points, bonus);
+                p.matchHistogram[bucket(points, MATCH_HISTOGRAM_BUCKET)]++;
+                total += points;
+            }
+            p.gamerIndices[k] = global;
+            p.gamerTotals[k] = total;
+            p.tournamentTotal += total;
+            p.medalCounts[Medal.fromTotalPoints(total).ordinal()]++;
+            p.totalHistogram[bucket(total, TOTAL_HISTOGRAM_BUCKET)]++;
+        }
+        return p;
+    }
+
+    /** Folds other into this partial. Both must refer to the same game table. */
+    public void merge(SeasonPartial other) {
+        if (other == null) return;
+        if (gamerCount > 0 && other.gamerCount > 0 && gameCount != other.gameCount) {
+            throw new IllegalArgumentException("Partials were built with different game tables");
+        }
+        if (gamerCount == 0) gameCount = other.gameCount;
+
+        if (gamerCount == 0 || other.gamerCount == 0
+                || other.gamerIndices[0] > gamerIndices[gamerCount - 1]) {
+            // Fast path: other's gamers all come after ours (e.g. in-order batches) → append.
+            int needed = gamerCount + other.gamerCount;
+            if (needed > gamerIndices.length) {
+                int cap = Math.max(needed, gamerIndices.length * 2);
+                gamerIndices = Arrays.copyOf(gamerIndices, cap);
+                gamerTotals = Arrays.copyOf(gamerTotals, cap);
+            }
+            System.arraycopy(other.gamerIndices, 0, gamerIndices, gamerCount, other.gamerCount);
+            System.arraycopy(other.gamerTotals, 0, gamerTotals, gamerCount, other.gamerCount);
+            gamerCount = needed;
+        } else {
+            // Merge the two sorted (index, total) columns.
+            int[] idx = new int[gamerCount + other.gamerCount];
+            int[] tot = new int[idx.length];
+            int a = 0, b = 0, k = 0;
+            while (a < gamerCount || b < other.gamerCount) {
+                boolean takeA = b >= other.gamerCount
+                        || (a < gamerCount && gamerIndices[a] <= other.gamerIndices[b]);
+                if (takeA) {
+                    idx[k] = gamerIndices[a];
+                    tot[k++] = gamerTotals[a++];
+                } else {
+                    idx[k] = other.gamerIndices[b];
+                    tot[k++] = other.gamerTotals[b++];
+                }
+            }
+            gamerIndices = idx;
+            gamerTotals = tot;
+            gamerCount = idx.length;
+        }
+
+        tournamentTotal += other.tournamentTotal;
+        for (int i = 0; i < medalCounts.length; i++) medalCounts[i] += other.medalCounts[i];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            matchHistogram[i] += other.matchHistogram[i];
+            totalHistogram[i] += other.totalHistogram[i];
+        }
+        highest.mergeHigher(other.highest);
+        lowest.mergeLower(other.lowest);
+        lowestBonus.mergeLower(other.lowestBonus);
+    }
+
+    // -------- Rebuilding the classic structures for Query --------
+
+    /**
+     * Builds a PointsBoard over allGamers with the totals held in this partial.
+     * allGamers must be the full gamer list in file order.
+     */
+    public PointsBoard toPointsBoard(Gamer[] allGamers) {
+        PointsBoard board = new PointsBoard(allGamers);
+        for (int k = 0; k < gamerCount; k++) {
+            if (gamerIndices[k] < allGamers.length) {
+                board.applyDelta(gamerIndices[k], gamerTotals[k]);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Builds a sparse match grid ([rows][15], mostly null) holding only the
+     * three extreme matches at their original positions. Query skips nulls, so it
+     * reports exactly these matches.
+     */
+    public Match[][] toExtremeMatchGrid(int rows, Game[] games) {
+        if (games == null || games.length != gameCount) {
+            throw new IllegalArgumentException("Game table does not match the one used by the workers");
+        }
+        Match[][] grid = new Match[rows][];
+        for (MatchRef ref : new MatchRef[]{highest, lowest, lowestBonus}) {
+            if (!ref.present) continue;
+            int g = (int) (ref.order / MATCHES_PER_GAMER);
+            int j = (int) (ref.order % MATCHES_PER_GAMER);
+            if (g >= rows) continue;
+            if (grid[g] == null) grid[g] = new Match[MATCHES_PER_GAMER];
+            grid[g][j] = PackedMatch.toMatch(ref.packed, ref.id, games);
+        }
+        return grid;
+    }
+
+    // -------- Getters --------
+
+    public int getGamerCount() {
+        return gamerCount;
+    }
+
+    public long getTournamentTotal() {
+        return tournamentTotal;
+    }
+
+    public int getMedalCount(Medal medal) {
+        return medalCounts[medal.ordinal()];
+    }
+
+    public long[] getMatchPointsHistogram() {
+        return matchHistogram.clone();
+    }
+
+    public long[] getTotalPointsHistogram() {
+        return totalHistogram.clone();
+    }
+
+    // -------- Binary form (used between worker processes and the coordinator) --------
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(gameCount);
+        out.writeInt(gamerCount);
+        for (int k = 0; k < gamerCount; k++) {
+            out.writeInt(gamerIndices[k]);
+            out.writeInt(gamerTotals[k]);
+        }
+        out.writeLong(tournamentTotal);
+        for (int c : medalCounts) out.writeInt(c);
+        for (long h : matchHistogram) out.writeLong(h);
+        for (long h : totalHistogram) out.writeLong(h);
+        highest.writeTo(out);
+        lowest.writeTo(out);
+        lowestBonus.writeTo(out);
+    }
+
+    public static SeasonPartial readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a season partial (bad magic/version)");
+        }
+        SeasonPartial p = new SeasonPartial();
+        p.gameCount = in.readInt();
+        int n = in.readInt();
+        if (n < 0) throw new IOException("Corrupt season partial (negative gamer count)");
+        p.gamerIndices = new int[n];
+        p.gamerTotals = new int[n];
+        p.gamerCount = n;
+        for (int k = 0; k < n; k++) {
+            p.gamerIndices[k] = in.readInt();
+            p.gamerTotals[k] = in.readInt();
+        }
+        p.tournamentTotal = in.readLong();
+        for (int i = 0; i < p.medalCounts.length; i++) p.medalCounts[i] = in.readInt();
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) p.matchHistogram[i] = in.readLong();
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) p.totalHistogram[i] = in.readLong();
+        p.highest.readFrom(in);
+        p.lowest.readFrom(in);
+        p.lowestBonus.readFrom(in);
+        return p;
+    }
+
+    private static int bucket(int value, int width) {
+        if (value < 0) return 0;
+        return Math.min(value / width, HISTOGRAM_BUCKETS - 1);
+    }
+
+    /** One extreme match: comparison value + grid position + packed match. */
+    private static final class MatchRef {
+        boolean present;
+        int value;      // Value being minimized / maximized
+        long order;     // globalGamerIndex * 15 + matchIndex (tie-breaker)
+        int id;
+        long packed;
+        int matchPoints;
+        int bonusPoints;
+
+        void offerHigher(int v, long ord, int matchId, long p, int points, int bonus) {
+            if (!present || v > value || (v == value && ord < order)) set(v, ord, matchId, p, points, bonus);
+        }
+
+        void offerLower(int v, long ord, int matchId, long p, int points, int bonus) {
+            if (!present || v < value || (v == value && ord < order)) set(v, ord, matchId, p, points, bonus);
+        }
+
+        void mergeHigher(MatchRef o) {
+            if (o.present) offerHigher(o.value, o.order, o.id, o.packed, o.matchPoints, o.bonusPoints);
+        }
+
+        void mergeLower(MatchRef o) {
+            if (o.present) offerLower(o.value, o.order, o.id, o.packed, o.matchPoints, o.bonusPoints);
+        }
+
+        private void set(int v, long ord, int matchId, long p, int points, int bonus) {
+            present = true;
+            value = v;
+            order = ord;
+            id = matchId;
+            packed = p;
+            matchPoints = points;
+            bonusPoints = bonus;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeBoolean(present);
+            out.writeInt(value);
+            out.writeLong(order);
+            out.writeInt(id);
+            out.writeLong(packed);
+            out.writeInt(matchPoints);
+            out.writeInt(bonusPoints);
+        }
+
+        void readFrom(DataInputStream in) throws IOException {
+            present = in.readBoolean();
+            value = in.readInt();
+            order = in.readLong();
+            id = in.readInt();
+            packed = in.readLong();
+            matchPoints = in.readInt();
+            bonusPoints = in.readInt();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.esports.logic;
+
+import com.esports.io.FileIO;
+import com.esports.logic.PipelineMetrics.QueueId;
+import com.esports.logic.PipelineMetrics.Stage;
+import com.esports.model.Game;
+import com.esports.model.Gamer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Overlapping load → simulate → aggregate execution with bounded queues between stages.
+ * - LOAD: one thread streams gamers.csv in batches (FileIO.readGamersInBatches)
+ * - SIMULATE: worker threads simulate and score each batch with its own MatchManagement
+ *   and reduce it to a SeasonPartial (matches are not kept)
+ * - AGGREGATE: the calling thread merges partials in batch order into the season state
+ * Full queues block the producing stage (backpressure). The loader also takes one of
+ * (queueCapacity + workers) permits per batch, returned when the batch is merged, so the
+ * batches in flight (queues, simulators and the aggregator's reorder buffer together) never
+ * exceed that many, even when one slow batch holds up in-order merging. Results are deterministic for a given seed: every batch
+ * uses Random(seed + batchNumber) and match IDs are assigned from the gamer's file position.
+ */
+public class SeasonPipeline {
+
+    private static final int MATCHES_PER_GAMER = 15;
+
+    private final Game[] games;
+    private final int workers;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final long seed;
+
+    public SeasonPipeline(Game[] games, int workers, int batchSize, int queueCapacity, long seed) {
+        if (games == null || games.length < 3) {
+            throw new IllegalArgumentException("At least 3 games are required");
+        }
+        if (workers < 1 || batchSize < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("workers, batchSize and queueCapacity must be >= 1");
+        }
+        this.games = new Game[games.length];
+        for (int i = 0; i < games.length; i++) {
+            this.games[i] = new Game(games[i]);
+        }
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.seed = seed;
+    }
+
+    /** Runs all stages over a gamers.csv file and returns the aggregated season. */
+    public Result run(String gamersPath) throws InterruptedException {
+        PipelineMetrics metrics = new PipelineMetrics(queueCapacity);
+        BlockingQueue<Batch> loaded = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Batch> simulated = new ArrayBlockingQueue<>(queueCapacity);
+        Semaphore inFlight = new Semaphore(queueCapacity + workers);
+        long start = System.nanoTime();
+
+        Thread loader = new Thread(() -> runLoader(gamersPath, loaded, inFlight, metrics), "pipeline-load");
+        Thread[] sims = new Thread[workers];
+        Throwable[] failure = new Throwable[1];
+        for (int w = 0; w < workers; w++) {
+            sims[w] = new Thread(() -> runSimulator(loaded, simulated, metrics, failure), "pipeline-sim-" + w);
+        }
+        loader.start();
+        for (Thread t : sims) t.start();
+
+        // AGGREGATE stage (this thread): merge in batch order using a reorder buffer
+        // (bounded by the inFlight permits).
+        SeasonPartial season = new SeasonPartial();
+        List<Gamer[]> gamerBatches = new ArrayList<>();
+        Map<Integer, Batch> early = new HashMap<>();
+        int nextSeq = 0;
+        int finished = 0;
+        try {
+            while (finished < workers) {
+                long waitStart = System.nanoTime();
+                Batch b = simulated.take();
+                metrics.addBlocked(Stage.AGGREGATE, System.nanoTime() - waitStart);
+                if (b == Batch.END) {
+                    finished++;
+                    continue;
+                }
+                early.put(b.seq, b);
+                while (early.containsKey(nextSeq)) {
+                    Batch ready = early.remove(nextSeq++);
+                    long t0 = System.nanoTime();
+                    season.merge(ready.partial);
+                    gamerBatches.add(ready.gamers);
+                    inFlight.release();
+                    metrics.addBatch(Stage.AGGREGATE, ready.gamers.length, System.nanoTime() - t0);
+                }
+            }
+        } finally {
+            loader.interrupt();
+            for (Thread t : sims) t.interrupt();
+        }
+        loader.join();
+        for (Thread t : sims) t.join();
+        if (failure[0] != null) {
+            throw new IllegalStateException("Simulation stage failed: " + failure[0], failure[0]);
+        }
+
+        int total = 0;
+        for (Gamer[] g : gamerBatches) total += g.length;
+        Gamer[] allGamers = new Gamer[total];
+        int pos = 0;
+        for (Gamer[] g : gamerBatches) {
+            System.arraycopy(g, 0, allGamers, pos, g.length);
+            pos += g.length;
+        }
+        PointsBoard pointsBoard = season.toPointsBoard(allGamers);
+        metrics.setWallNanos(System.nanoTime() - start);
+        return new Result(allGamers, pointsBoard, season, metrics);
+    }
+
+    // ---------------- Stages ----------------
+
+    private void runLoader(String path, BlockingQueue<Batch> out, Semaphore inFlight, PipelineMetrics metrics) {
+        int[] seq = {0};
+        long[] offset = {0};
+        long[] last = {System.nanoTime()};
+        try {
+            FileIO.readGamersInBatches(path, batchSize, gamers -> {
+                long parsed = System.nanoTime();
+                metrics.addBatch(Stage.LOAD, gamers.length, parsed - last[0]);
+                acquire(inFlight, metrics);
+                put(out, new Batch(seq[0]++, (int) offset[0], gamers, null), metrics, Stage.LOAD,
+                        QueueId.LOAD_TO_SIMULATE);
+                offset[0] += gamers.length;
+                last[0] = System.nanoTime();
+            });
+        } catch (StopPipeline e) {
+            return; // Interrupted: aggregator is shutting down
+        } finally {
+            // One END marker per simulator so each of them stops.
+            for (int w = 0; w < workers; w++) {
+                try {
+                    out.put(Batch.END);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    private void runSimulator(BlockingQueue<Batch> in, BlockingQueue<Batch> out, PipelineMetrics metrics,
+                              Throwable[] failure) {
+        try {
+            while (true) {
+                long waitStart = System.nanoTime();
+                Batch b = in.take();
+                metrics.addBlocked(Stage.SIMULATE, System.nanoTime() - waitStart);
+                if (b == Batch.END) break;
+
+                long t0 = System.nanoTime();
+                SeasonPartial partial = null;
+                try {
+                    MatchManagement mm = new MatchManagement(b.gamers, games, new Random(seed + b.seq),
+                            b.offset * MATCHES_PER_GAMER + 1);
+                    mm.simulateTournament();
+                    int[] localToGlobal = new int[b.gamers.length];
+                    for (int i = 0; i < localToGlobal.length; i++) localToGlobal[i] = b.offset + i;
+                    partial = SeasonPartial.fromSeason(mm.getPackedSeason(), localToGlobal);
+                } catch (RuntimeException e) {
+                    synchronized (failure) {
+                        if (failure[0] == null) failure[0] = e;
+                    }
+                    partial = new SeasonPartial();
+                }
+                metrics.addBatch(Stage.SIMULATE, b.gamers.length, System.nanoTime() - t0);
+                put(out, new Batch(b.seq, b.offset, b.gamers, partial), metrics, Stage.SIMULATE,
+                        QueueId.SIMULATE_TO_AGGREGATE);
+            }
+            out.put(Batch.END);
+        } catch (InterruptedException | StopPipeline e) {
+            // Aggregator is shutting down.
+        }
+    }
+
+    /** Waits for an in-flight permit (time counts as LOAD blocked). */
+    private static void acquire(Semaphore inFlight, PipelineMetrics metrics) {
+        long waitStart = System.nanoTime();
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StopPipeline();
+        }
+        metrics.addBlocked(Stage.LOAD, System.nanoTime() - waitStart);
+    }
+
+    private static void put(BlockingQueue<Batch> q, Batch b, PipelineMetrics metrics, Stage stage, QueueId id) {
+        long waitStart = System.nanoTime();
+        try {
+            q.put(b);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StopPipeline();
+        }
+        metrics.addBlocked(stage, System.nanoTime() - waitStart);
+        metrics.sampleDepth(id, q.size());
+    }
+
+    // ---------------- Types ----------------
+
+    /** A batch of gamers (and, after SIMULATE, its partial). END marks the end of a stream. */
+    private static final class Batch {
+        static final Batch END = new Batch(-1, -1, new Gamer[0], null);
+
+        final int seq;
+        final int offset;       // File position of gamers[0]
+        final Gamer[] gamers;
+        final SeasonPartial partial;
+
+        Batch(int seq, int offset, Gamer[] gamers, SeasonPartial partial) {
+            this.seq = seq;
+            this.offset = offset;
+            this.gamers = gamers;
+            this.partial = partial;
+        }
+    }
+
+    /** Unwinds a stage when its thread is interrupted during a blocking put. */
+    private static final class StopPipeline extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        StopPipeline() {
+            super(null, null, false, false);
+        }
+    }
+
+    /** Aggregated season produced by run(). */
+    public static final class Result {
+        private final Gamer[] gamers;
+        private final PointsBoard pointsBoard;
+        private final SeasonPartial season;
+        private final PipelineMetrics metrics;
+
+        Result(Gamer[] gamers, PointsBoard pointsBoard, SeasonPartial season, PipelineMetrics metrics) {
+            this.gamers = gamers;
+            this.pointsBoard = pointsBoard;
+            this.season = season;
+            this.metrics = metrics;
+        }
+
+        public Gamer[] getGamers() {
+            return gamers.clone();
+        }
+
+        public PointsBoard getPointsBoard() {
+            return pointsBoard;
+        }
+
+        /** Query state: totals, medal counts, extreme matches, histograms. */
+        public SeasonPartial getSeason() {
+            return season;
+        }
+
+        public PipelineMetrics getMetrics() {
+            return metrics;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.esports.logic;
+
+import com.esports.model.Game;
+import com.esports.model.Gamer;
+import com.esports.model.Medal;
+
+/**
+ * Incremental rescoring after games.csv / gamers.csv corrections.
+ * Instead of re-simulating, the freshly loaded tables are diffed against the
+ * ones MatchManagement holds:
+ * - a changed BasePointPerRound rescores only matches containing that game
+ * - a changed ExperienceYears rescores only that gamer's matches
+ * Simulated rounds are kept, and PointsBoard totals/medals are adjusted by delta.
+ */
+public class SeasonReloader {
+
+    private final MatchManagement matchManagement;
+    private final PointsBoard pointsBoard;
+
+    private int lastRescoredMatches;
+    private int lastMedalChanges;
+
+    public SeasonReloader(MatchManagement matchManagement, PointsBoard pointsBoard) {
+        if (matchManagement == null || pointsBoard == null) {
+            throw new IllegalArgumentException("matchManagement/pointsBoard cannot be null");
+        }
+        this.matchManagement = matchManagement;
+        this.pointsBoard = pointsBoard;
+    }
+
+    /**
+     * Applies corrected games and updates PointsBoard.
+     * @return number of rescored matches
+     */
+    public int reloadGames(Game[] freshGames) {
+        int[] deltas = new int[matchManagement.getNumberOfGamers()];
+        int rescored = matchManagement.applyGameChanges(freshGames, deltas);
+        applyDeltas(deltas, rescored);
+        return rescored;
+    }
+
+    /**
+     * Applies corrected gamers and updates PointsBoard.
+     * @return number of rescored matches
+     */
+    public int reloadGamers(Gamer[] freshGamers) {
+        int[] deltas = new int[matchManagement.getNumberOfGamers()];
+        int rescored = matchManagement.applyGamerChanges(freshGamers, deltas);
+
+        Gamer[] current = matchManagement.getGamers();
+        for (int i = 0; i < current.length; i++) {
+            pointsBoard.updateGamer(i, current[i]);
+        }
+        applyDeltas(deltas, rescored);
+        return rescored;
+    }
+
+    /** Matches rescored by the last reload call. */
+    public int getLastRescoredMatches() {
+        return lastRescoredMatches;
+    }
+
+    /** Gamers whose medal changed in the last reload call. */
+    public int getLastMedalChanges() {
+        return lastMedalChanges;
+    }
+
+    private void applyDeltas(int[] deltas, int rescored) {
+        int medalChanges = 0;
+        for (int i = 0; i < deltas.length; i++) {
+            if (deltas[i] == 0) continue;
+            Medal before = pointsBoard.getMedal(i);
+            pointsBoard.applyDelta(i, deltas[i]);
+            if (pointsBoard.getMedal(i) != before) medalChanges++;
+        }
+        this.lastRescoredMatches = rescored;
+        this.lastMedalChanges = medalChanges;
+    }
+}
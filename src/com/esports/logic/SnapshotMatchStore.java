@@ -0,0 +1,253 @@
+package com.esports.logic;
+
+import com.esports.model.Game;
+import com.esports.model.Gamer;
+import com.esports.model.Match;
+import com.esports.model.PackedMatch;
+
+/**
+ * Match store with epoch-based snapshot isolation, so queries can run while a
+ * season is still being simulated or ingested.
+ * Layout: gamer rows are grouped into fixed-size segments; each segment holds
+ * packed matches, match IDs, match points and per-gamer totals in primitive arrays.
+ * Writes are copy-on-write per segment and per epoch:
+ * - publish() makes the current state visible as a new immutable Snapshot (epoch + 1)
+ *   by handing out the segment table; only a volatile write, nothing is copied
+ * - the first write to a segment after a publish copies that one segment;
+ *   later writes in the same epoch update the private copy in place
+ * Readers call snapshot() and never block; writers never wait for readers.
+ * A snapshot costs nothing to hold, and only the segments changed since it was published
+ * are duplicated while it is in use.
+ * Writers are serialized on this object (normally a single simulation thread).
+ * Register with MatchManagement.addRecordListener to mirror a running season.
+ */
+public class SnapshotMatchStore implements MatchRecordListener {
+
+    public static final int DEFAULT_SEGMENT_GAMERS = 256;
+    private static final int MATCHES_PER_GAMER = 15;
+
+    private final int gamers;
+    private final int segmentGamers;
+    private final Game[] games;
+    private final int publishEvery;
+
+    private Segment[] working;          // Writer's table; shared with the last snapshot until first write
+    private boolean tableShared;
+    private long writeEpoch;            // Epoch the working segments belong to
+    private long unpublished;           // Records since last publish
+    private volatile Snapshot current;
+
+    /**
+     * @param gamers       number of gamer rows
+     * @param games        game table the packed matches refer to (MatchManagement's table)
+     * @param publishEvery automatically publish after this many records (0 = only on publish())
+     */
+    public SnapshotMatchStore(int gamers, Game[] games, int publishEvery) {
+        this(gamers, games, publishEvery, DEFAULT_SEGMENT_GAMERS);
+    }
+
+    public SnapshotMatchStore(int gamers, Game[] games, int publishEvery, int segmentGamers) {
+        if (gamers < 0 || games == null || publishEvery < 0 || segmentGamers < 1) {
+            throw new IllegalArgumentException("Invalid snapshot store settings");
+        }
+        this.gamers = gamers;
+        this.segmentGamers = segmentGamers;
+        this.publishEvery = publishEvery;
+        this.games = new Game[games.length];
+        for (int i = 0; i < games.length; i++) {
+            this.games[i] = new Game(games[i]);
+        }
+        int segments = (gamers + segmentGamers - 1) / segmentGamers;
+        this.working = new Segment[segments];
+        for (int s = 0; s < segments; s++) {
+            int rows = Math.min(segmentGamers, gamers - s * segmentGamers);
+            working[s] = new Segment(rows, 0);
+        }
+        this.writeEpoch = 1;
+        this.current = new Snapshot(0, working.clone(), 0, this);
+        this.tableShared = true;
+    }
+
+    @Override
+    public void onMatchRecorded(int gamerIndex, int matchIndex, int matchId, long packedMatch, int matchPoints) {
+        record(gamerIndex, matchIndex, matchId, packedMatch, matchPoints);
+    }
+
+    /** Stores (or overwrites) one match; visible to readers after the next publish. */
+    public synchronized void record(int gamerIndex, int matchIndex, int matchId, long packedMatch,
+                                    int matchPoints) {
+        if (gamerIndex < 0 || gamerIndex >= gamers || matchIndex < 0 || matchIndex >= MATCHES_PER_GAMER) {
+            throw new IllegalArgumentException("Match position out of range: " + gamerIndex + "/" + matchIndex);
+        }
+        if (packedMatch == 0) {
+            throw new IllegalArgumentException("packedMatch cannot be 0 (reserved for empty slots)");
+        }
+        int s = gamerIndex / segmentGamers;
+        Segment seg = writable(s);
+        int row = gamerIndex - s * segmentGamers;
+        int cell = row * MATCHES_PER_GAMER + matchIndex;
+
+        if (seg.packed[cell] == 0) {
+            seg.recorded++;
+        } else {
+            seg.totals[row] -= seg.points[cell];
+        }
+        seg.packed[cell] = packedMatch;
+        seg.ids[cell] = matchId;
+        seg.points[cell] = matchPoints;
+        seg.totals[row] += matchPoints;
+
+        if (publishEvery > 0 && ++unpublished >= publishEvery) publish();
+    }
+
+    /** Makes everything recorded so far visible as a new snapshot and returns it. */
+    public synchronized Snapshot publish() {
+        long matches = 0;
+        for (Segment seg : working) matches += seg.recorded;
+        Snapshot snap = new Snapshot(writeEpoch, working, matches, this);
+        current = snap;          // Volatile write: segments below are now read-only
+        tableShared = true;
+        writeEpoch++;
+        unpublished = 0;
+        return snap;
+    }
+
+    /** Latest published snapshot (never blocks). */
+    public Snapshot snapshot() {
+        return current;
+    }
+
+    private Segment writable(int s) {
+        if (tableShared) {
+            working = working.clone();
+            tableShared = false;
+        }
+        Segment seg = working[s];
+        if (seg.epoch != writeEpoch) {
+            seg = seg.copy(writeEpoch);
+            working[s] = seg;
+        }
+        return seg;
+    }
+
+    /** One group of gamer rows. Immutable once its epoch has been published. */
+    private static final class Segment {
+        final long epoch;
+        final long[] packed;    // [row * 15 + match], 0 = empty
+        final int[] ids;
+        final int[] points;
+        final int[] totals;     // Per row
+        int recorded;
+
+        Segment(int rows, long epoch) {
+            this.epoch = epoch;
+            this.packed = new long[rows * MATCHES_PER_GAMER];
+            this.ids = new int[rows * MATCHES_PER_GAMER];
+            this.points = new int[rows * MATCHES_PER_GAMER];
+            this.totals = new int[rows];
+        }
+
+        private Segment(Segment o, long epoch) {
+            this.epoch = epoch;
+            this.packed = o.packed.clone();
+            this.ids = o.ids.clone();
+            this.points = o.points.clone();
+            this.totals = o.totals.clone();
+            this.recorded = o.recorded;
+        }
+
+        Segment copy(long newEpoch) {
+            return new Segment(this, newEpoch);
+        }
+    }
+
+    /**
+     * Immutable point-in-time view of the store. Getters return 0 / null for
+     * unknown positions and empty slots.
+     */
+    public static final class Snapshot {
+        private final long epoch;
+        private final Segment[] segments;
+        private final long matchCount;
+        private final SnapshotMatchStore store;
+
+        private Snapshot(long epoch, Segment[] segments, long matchCount, SnapshotMatchStore store) {
+            this.epoch = epoch;
+            this.segments = segments;
+            this.matchCount = matchCount;
+            this.store = store;
+        }
+
+        public long getEpoch() {
+            return epoch;
+        }
+
+        /** Number of recorded matches in this snapshot. */
+        public long getMatchCount() {
+            return matchCount;
+        }
+
+        public int getNumberOfGamers() {
+            return store.gamers;
+        }
+
+        public boolean isRecorded(int gamerIndex, int matchIndex) {
+            return getPacked(gamerIndex, matchIndex) != 0;
+        }
+
+        public long getPacked(int gamerIndex, int matchIndex) {
+            if (!valid(gamerIndex, matchIndex)) return 0;
+            Segment seg = segments[gamerIndex / store.segmentGamers];
+            return seg.packed[(gamerIndex % store.segmentGamers) * MATCHES_PER_GAMER + matchIndex];
+        }
+
+        public int getMatchPoints(int gamerIndex, int matchIndex) {
+            if (!valid(gamerIndex, matchIndex)) return 0;
+            Segment seg = segments[gamerIndex / store.segmentGamers];
+            return seg.points[(gamerIndex % store.segmentGamers) * MATCHES_PER_GAMER + matchIndex];
+        }
+
+        /** Sum of the gamer's recorded match points in this snapshot. */
+        public int getTotalPoints(int gamerIndex) {
+            if (gamerIndex < 0 || gamerIndex >= store.gamers) return 0;
+            return segments[gamerIndex / store.segmentGamers].totals[gamerIndex % store.segmentGamers];
+        }
+
+        /** Expands one recorded match into a scored Match, or null for an empty slot. */
+        public Match getMatch(int gamerIndex, int matchIndex) {
+            long packed = getPacked(gamerIndex, matchIndex);
+            if (packed == 0) return null;
+            Segment seg = segments[gamerIndex / store.segmentGamers];
+            int id = seg.ids[(gamerIndex % store.segmentGamers) * MATCHES_PER_GAMER + matchIndex];
+            return PackedMatch.toMatch(packed, id, store.games);
+        }
+
+        /**
+         * Materializes the match grid of this snapshot for Query ([gamer][15],
+         * null for matches not recorded yet; Query skips them).
+         */
+        public Match[][] toMatchGrid() {
+            Match[][] grid = new Match[store.gamers][MATCHES_PER_GAMER];
+            for (int i = 0; i < store.gamers; i++) {
+                for (int j = 0; j < MATCHES_PER_GAMER; j++) {
+                    grid[i][j] = getMatch(i, j);
+                }
+            }
+            return grid;
+        }
+
+        /** PointsBoard over allGamers with this snapshot's totals (gamers in store row order). */
+        public PointsBoard toPointsBoard(Gamer[] allGamers) {
+            PointsBoard board = new PointsBoard(allGamers);
+            int n = Math.min(store.gamers, (allGamers == null) ? 0 : allGamers.length);
+            for (int i = 0; i < n; i++) {
+                board.applyDelta(i, getTotalPoints(i));
+            }
+            return board;
+        }
+
+        private boolean valid(int gamerIndex, int matchIndex) {
+            return gamerIndex >= 0 && gamerIndex < store.gamers && matchIndex >= 0 && matchIndex < MATCHES_PER_GAMER;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.esports.logic;
+
+import com.esports.io.ReportWriter;
+import com.esports.model.Game;
+import com.esports.model.Gamer;
+import com.esports.model.Medal;
+import com.esports.model.PackedMatch;
+import com.esports.model.ScoringRules;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.IntFunction;
+
+/**
+ * Rescores an already simulated season under K alternative rule sets in one scan.
+ * Each variant = base points per game + ScoringRules (experience cap/step, bonus tiers,
+ * medal thresholds). The played games and rounds stay fixed; only scoring changes.
+ * Every packed match is read and decoded once, then scored for all K variants,
+ * so the season is streamed from memory once instead of K times.
+ * Experience is re-capped per variant from the gamers' uncapped ExperienceYears.
+ * Empty slots (packed value 0, e.g. a null match in the grid) are skipped.
+ */
+public class WhatIfEngine {
+
+    /** One rule set to evaluate. Immutable. */
+    public static final class Variant {
+        private final String name;
+        private final int[] basePoints;   // By game index of the season's game table
+        private final ScoringRules rules;
+
+        private Variant(String name, int[] basePoints, ScoringRules rules) {
+            this.name = name;
+            this.basePoints = basePoints;
+            this.rules = rules;
+        }
+
+        /** Variant with the games' current base points and the given rules. */
+        public static Variant of(String name, Game[] games, ScoringRules rules) {
+            if (name == null || games == null || rules == null) {
+                throw new IllegalArgumentException("name/games/rules cannot be null");
+            }
+            return new Variant(name, PackedMatch.basePointTable(games), rules);
+        }
+
+        /** Same as fromProperties(name, p, games, base) on top of the active rules. */
+        public static Variant fromProperties(String name, Properties p, Game[] games) {
+            return fromProperties(name, p, games, ScoringRules.active());
+        }
+
+        /**
+         * Reads a variant from properties: ScoringRules keys (see ScoringRules) plus
+         * optional base-point overrides "basePoints.&lt;game name&gt;=points".
+         * Keys the file leaves out keep the values of base (games keep their base points).
+         */
+        public static Variant fromProperties(String name, Properties p, Game[] games, ScoringRules base) {
+            Variant v = of(name, games, ScoringRules.fromProperties(p, base));
+            for (String key : p.stringPropertyNames()) {
+                if (!key.startsWith("basePoints.")) continue;
+                String gameName = key.substring("basePoints.".length()).trim();
+                String value = p.getProperty(key).trim();
+                try {
+                    v = v.withBasePoints(games, gameName, Integer.parseInt(value));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(key + " is not an integer: '" + value + "'");
+                }
+            }
+            return v;
+        }
+
+        /** Variant from a properties file on top of the active rules, named after the file. */
+        public static Variant load(Path path, Game[] games) throws IOException {
+            return load(path, games, ScoringRules.active());
+        }
+
+        /** Variant from a properties file on top of base, named after the file. */
+        public static Variant load(Path path, Game[] games, ScoringRules base) throws IOException {
+            Properties p = new Properties();
+            try (InputStream in = Files.newInputStream(path)) {
+                p.load(in);
+            }
+            String file = path.getFileName().toString();
+            int dot = file.lastIndexOf('.');
+            return fromProperties(dot > 0 ? file.substring(0, dot) : file, p, games, base);
+        }
+
+        /** Copy with one game's base points replaced (game looked up by name). */
+        public Variant withBasePoints(Game[] games, String gameName, int points) {
+            if (points < 0) {
+                throw new IllegalArgumentException("Base points cannot be negative: " + gameName);
+            }
+            for (int i = 0; i < games.length; i++) {
+                if (games[i].getName().equalsIgnoreCase(gameName)) {
+                    int[] copy = basePoints.clone();
+                    copy[i] = points;
+                    return new Variant(name, copy, rules);
+                }
+            }
+            throw new IllegalArgumentException("Unknown game: " + gameName);
+        }
+
+        public Variant withRules(ScoringRules newRules) {
+            if (newRules == null) {
+                throw new IllegalArgumentException("rules cannot be null");
+            }
+            return new Variant(name, basePoints, newRules);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public ScoringRules getRules() {
+            return rules;
+        }
+
+        public int getBasePoints(int gameIndex) {
+            return basePoints[gameIndex];
+        }
+    }
+
+    private final PackedSeason season;
+    private final Gamer[] gamers;
+
+    /** @param gamers gamer list in season row order (for experience and reporting) */
+    public WhatIfEngine(PackedSeason season, Gamer[] gamers) {
+        if (season == null || gamers == null || gamers.length != season.getNumberOfGamers()) {
+            throw new IllegalArgumentException("season/gamers invalid or of different sizes");
+        }
+        this.season = season;
+        this.gamers = new Gamer[gamers.length];
+        for (int i = 0; i < gamers.length; i++) {
+            this.gamers[i] = new Gamer(gamers[i]);
+        }
+    }
+
+    /** Scores all variants in a single pass over the season. */
+    public Result run(List<Variant> variants) {
+        if (variants == null || variants.isEmpty()) {
+            throw new IllegalArgumentException("At least one variant is required");
+        }
+        int k = variants.size();
+        int gameCount = season.getGames().length;
+        int[][] basePoints = new int[k][];
+        ScoringRules[] rules = new ScoringRules[k];
+        for (int v = 0; v < k; v++) {
+            Variant variant = variants.get(v);
+            if (variant.basePoints.length != gameCount) {
+                throw new IllegalArgumentException("Variant " + variant.name + " was built for another game table");
+            }
+            basePoints[v] = variant.basePoints;
+            rules[v] = variant.rules;
+        }
+
+        int n = gamers.length;
+        int[][] totals = new int[k][n];
+        long matches = 0;
+        int[] cappedExp = new int[k];
+        int[] running = new int[k];
+        for (int i = 0; i < n; i++) {
+            int experience = gamers[i].getExperienceYears();
+            for (int v = 0; v < k; v++) {
+                cappedExp[v] = rules[v].capExperience(experience);
+                running[v] = 0;
+            }
+            int count = season.getMatchCount(i);
+            for (int j = 0; j < count; j++) {
+                if (season.isEmpty(i, j)) continue;
+                long packed = season.getPacked(i, j);
+                matches++;
+                int g0 = PackedMatch.gameIndex(packed, 0);
+                int g1 = PackedMatch.gameIndex(packed, 1);
+                int g2 = PackedMatch.gameIndex(packed, 2);
+                int r0 = PackedMatch.rounds(packed, 0);
+                int r1 = PackedMatch.rounds(packed, 1);
+                int r2 = PackedMatch.rounds(packed, 2);
+                for (int v = 0; v < k; v++) {
+                    int[] bp = basePoints[v];
+                    int raw = r0 * bp[g0] + r1 * bp[g1] + r2 * bp[g2];
+                    running[v] += rules[v].skillPoints(raw, cappedExp[v]) + rules[v].bonusPoints(raw);
+                }
+            }
+            for (int v = 0; v < k; v++) totals[v][i] = running[v];
+        }
+        return new Result(new ArrayList<>(variants), gamers, totals, matches);
+    }
+
+    /** Per-variant totals, medals and summary statistics. */
+    public static final class Result {
+        private final List<Variant> variants;
+        private final Gamer[] gamers;
+        private final int[][] totals;       // [variant][gamer]
+        private final Medal[][] medals;     // [variant][gamer], by the variant's thresholds
+        private final long matches;
+
+        private Result(List<Variant> variants, Gamer[] gamers, int[][] totals, long matches) {
+            this.variants = variants;
+            this.gamers = gamers;
+            this.totals = totals;
+            this.matches = matches;
+            this.medals = new Medal[totals.length][];
+            for (int v = 0; v < totals.length; v++) {
+                ScoringRules rules = variants.get(v).rules;
+                medals[v] = new Medal[gamers.length];
+                for (int i = 0; i < gamers.length; i++) {
+                    medals[v][i] = rules.medalFor(totals[v][i]);
+                }
+            }
+        }
+
+        public int getVariantCount() {
+            return variants.size();
+        }
+
+        public Variant getVariant(int v) {
+            return variants.get(v);
+        }
+
+        public int getTotalPoints(int v, int gamerIndex) {
+            return totals[v][gamerIndex];
+        }
+
+        public int[] getAllTotalPoints(int v) {
+            return totals[v].clone();
+        }
+
+        public Medal getMedal(int v, int gamerIndex) {
+            return medals[v][gamerIndex];
+        }
+
+        public long getTournamentTotal(int v) {
+            long sum = 0;
+            for (int t : totals[v]) sum += t;
+            return sum;
+        }
+
+        public int getMedalCount(int v, Medal medal) {
+            int count = 0;
+            for (Medal m : medals[v]) if (m == medal) count++;
+            return count;
+        }
+
+        /** Gamers whose medal under variant v differs from variant 0. */
+        public int getMedalChanges(int v) {
+            int changes = 0;
+            for (int i = 0; i < gamers.length; i++) {
+                if (medals[v][i] != medals[0][i]) changes++;
+            }
+            return changes;
+        }
+
+        /** Index of the highest-scoring gamer (first on ties, like PointsBoard), or -1. */
+        public int getTopGamerIndex(int v) {
+            if (gamers.length == 0) return -1;
+            int best = 0;
+            for (int i = 1; i < gamers.length; i++) {
+                if (totals[v][i] > totals[v][best]) best = i;
+            }
+            return best;
+        }
+
+        /**
+         * PointsBoard with variant v's totals. Its medals follow the active rules,
+         * so use getMedal() when the variant changes medal thresholds.
+         */
+        public PointsBoard toPointsBoard(int v) {
+            PointsBoard board = new PointsBoard(gamers);
+            for (int i = 0; i < gamers.length; i++) board.applyDelta(i, totals[v][i]);
+            return board;
+        }
+
+        /** Side-by-side summary table, one column per variant. */
+        public void print(ReportWriter out) {
+            int k = variants.size();
+            int width = 14;
+            for (Variant v : variants) width = Math.max(width, v.name.length() + 2);
+            String cell = "%" + width + "s";
+
+            out.println("What-If Rescoring (" + gamers.length + " gamers, " + matches + " matches, "
+                    + k + " variants, one pass)");
+            row(out, "", cell, v -> variants.get(v).name);
+            row(out, "Tournament total", cell, v -> Long.toString(getTournamentTotal(v)));
+            row(out, "Avg per gamer", cell, v -> gamers.length == 0 ? "0.00"
+                    : String.format("%.2f", getTournamentTotal(v) / (double) gamers.length));
+            row(out, "Top gamer", cell, v -> {
+                int top = getTopGamerIndex(v);
+                return top < 0 ? "-" : gamers[top].getNickname() + " " + totals[v][top];
+            });
+            for (Medal medal : new Medal[]{Medal.GOLD, Medal.SILVER, Medal.BRONZE, Medal.NONE}) {
+                row(out, medal.name(), cell, v -> Integer.toString(getMedalCount(v, medal)));
+            }
+            row(out, "Medal changes", cell, v -> v == 0 ? "-" : Integer.toString(getMedalChanges(v)));
+            out.flush();
+        }
+
+        private void row(ReportWriter out, String label, String cell, IntFunction<String> value) {
+            out.printf("%-18s", label);
+            for (int v = 0; v < variants.size(); v++) out.printf(cell, value.apply(v));
+            out.println();
+        }
+    }
+}
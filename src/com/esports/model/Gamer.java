@@ -63,10 +63,10 @@ public class Gamer {
     }
 
     /**
-     * For scoring:
+     * For scoring: experience capped by the active ScoringRules (default 10).
      */
     public int getCappedExperienceForScoring() {
-        return Math.min(experienceYears, 10);
+        return ScoringRules.active().capExperience(experienceYears);
     }
 
     // Setters (validated)
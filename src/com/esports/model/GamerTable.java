@@ -0,0 +1,280 @@
+package com.esports.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Columnar, memory-compact storage for many gamers.
+ * Columns:
+ * - id, experienceYears → int[]
+ * - nickname, phone     → UTF-8 bytes in one shared byte[] per column + int[] offsets
+ * - real name           → split at the first space into first / last name,
+ *                         each dictionary-encoded (see StringDictionary), so common
+ *                         names are stored once
+ * Gamer objects are only materialized on demand (toGamer) for display.
+ * Notes:
+ * Built with GamerTable.Builder, immutable afterwards.
+ * Values are stored exactly as Gamer would store them (trimmed, validated).
+ * Standalone structure: the season code (MatchManagement, PointsBoard, Query) still
+ * works on Gamer[].
+ */
+public final class GamerTable {
+
+    private static final int NO_LAST_NAME = -1;
+    private static final int MAX_ARRAY = Integer.MAX_VALUE - 8;
+
+    private final int size;
+    private final int[] ids;
+    private final int[] experienceYears;
+    private final byte[] nicknameBytes;
+    private final int[] nicknameOffsets;   // size + 1 entries
+    private final byte[] phoneBytes;
+    private final int[] phoneOffsets;      // size + 1 entries
+    private final int[] firstNameCodes;
+    private final int[] lastNameCodes;     // NO_LAST_NAME for single-word names
+    private final StringDictionary firstNames;
+    private final StringDictionary lastNames;
+
+    private GamerTable(Builder b) {
+        this.size = b.size;
+        this.ids = trim(b.ids, size);
+        this.experienceYears = trim(b.experienceYears, size);
+        this.nicknameBytes = trim(b.nicknameBytes, b.nicknameByteCount);
+        this.nicknameOffsets = trim(b.nicknameOffsets, size + 1);
+        this.phoneBytes = trim(b.phoneBytes, b.phoneByteCount);
+        this.phoneOffsets = trim(b.phoneOffsets, size + 1);
+        this.firstNameCodes = trim(b.firstNameCodes, size);
+        this.lastNameCodes = trim(b.lastNameCodes, size);
+        this.firstNames = b.firstNames;
+        this.lastNames = b.lastNames;
+        this.firstNames.freeze();
+        this.lastNames.freeze();
+    }
+
+    /** Builds a table from already loaded gamers (same order). */
+    public static GamerTable fromGamers(Gamer[] gamers) {
+        if (gamers == null) {
+            throw new IllegalArgumentException("gamers cannot be null");
+        }
+        Builder b = new Builder(gamers.length);
+        for (Gamer g : gamers) {
+            b.add(g);
+        }
+        return b.build();
+    }
+
+    // -------- Column access --------
+
+    public int size() {
+        return size;
+    }
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public int getExperienceYears(int index) {
+        return experienceYears[index];
+    }
+
+    /** Same rule as Gamer.getCappedExperienceForScoring(). */
+    public int getCappedExperienceForScoring(int index) {
+        return ScoringRules.active().capExperience(experienceYears[index]);
+    }
+
+    public String getNickname(int index) {
+        return decode(nicknameBytes, nicknameOffsets, index);
+    }
+
+    public String getRealName(int index) {
+        String first = firstNames.decode(firstNameCodes[index]);
+        int last = lastNameCodes[index];
+        return (last == NO_LAST_NAME) ? first : first + " " + lastNames.decode(last);
+    }
+
+    public String getPhoneNumber(int index) {
+        return decode(phoneBytes, phoneOffsets, index);
+    }
+
+    /** Materializes a Gamer for one row. */
+    public Gamer toGamer(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Gamer index out of range: " + index);
+        }
+        return new Gamer(ids[index], getNickname(index), getRealName(index),
+                getPhoneNumber(index), experienceYears[index]);
+    }
+
+    /** Number of distinct first / last names (dictionary sizes). */
+    public int getDistinctFirstNames() {
+        return firstNames.size();
+    }
+
+    public int getDistinctLastNames() {
+        return lastNames.size();
+    }
+
+    /** Approximate heap bytes used by all columns (array payloads only). */
+    public long estimatedSizeBytes() {
+        return 4L * (ids.length + experienceYears.length + nicknameOffsets.length + phoneOffsets.length
+                + firstNameCodes.length + lastNameCodes.length)
+                + nicknameBytes.length + phoneBytes.length
+                + firstNames.estimatedSizeBytes() + lastNames.estimatedSizeBytes();
+    }
+
+    // -------- Helpers --------
+
+    private static String decode(byte[] heap, int[] offsets, int index) {
+        int start = offsets[index];
+        return new String(heap, start, offsets[index + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    private static int[] trim(int[] a, int length) {
+        if (a.length == length) return a;
+        int[] t = new int[length];
+        System.arraycopy(a, 0, t, 0, length);
+        return t;
+    }
+
+    private static byte[] trim(byte[] a, int length) {
+        if (a.length == length) return a;
+        byte[] t = new byte[length];
+        System.arraycopy(a, 0, t, 0, length);
+        return t;
+    }
+
+    /**
+     * Appends rows column by column; build() trims the columns and freezes the dictionaries.
+     */
+    public static final class Builder {
+
+        private int size;
+        private int[] ids;
+        private int[] experienceYears;
+        private byte[] nicknameBytes;
+        private int nicknameByteCount;
+        private int[] nicknameOffsets;
+        private byte[] phoneBytes;
+        private int phoneByteCount;
+        private int[] phoneOffsets;
+        private int[] firstNameCodes;
+        private int[] lastNameCodes;
+        private final StringDictionary firstNames = new StringDictionary();
+        private final StringDictionary lastNames = new StringDictionary();
+        private boolean built;
+
+        public Builder() {
+            this(16);
+        }
+
+        /** Presizes for expectedRows (clamped to what arrays can hold; byte columns to 2 GB). */
+        public Builder(int expectedRows) {
+            int cap = Math.min(Math.max(expectedRows, 1), MAX_ARRAY - 1); // Offsets need cap + 1
+            this.ids = new int[cap];
+            this.experienceYears = new int[cap];
+            this.firstNameCodes = new int[cap];
+            this.lastNameCodes = new int[cap];
+            this.nicknameOffsets = new int[cap + 1];
+            this.phoneOffsets = new int[cap + 1];
+            this.nicknameBytes = new byte[(int) Math.min(MAX_ARRAY, cap * 8L)];
+            this.phoneBytes = new byte[(int) Math.min(MAX_ARRAY, cap * 12L)];
+        }
+
+        public Builder add(Gamer g) {
+            if (g == null) {
+                throw new IllegalArgumentException("Gamer cannot be null");
+            }
+            return add(g.getId(), g.getNickname(), g.getRealName(), g.getPhoneNumber(), g.getExperienceYears());
+        }
+
+        /**
+         * Adds one row. Validation and normalization are the same as the Gamer constructor
+         * (trimmed non-empty nickname/name, phone may be blank, experience clamped to >= 0).
+         */
+        public Builder add(int id, String nickname, String realName, String phoneNumber, int experience) {
+            if (built) {
+                throw new IllegalStateException("Builder already built");
+            }
+            if (id < 0) {
+                throw new IllegalArgumentException("Gamer id must be >= 0");
+            }
+            String nick = requireText(nickname, "Nickname");
+            String name = requireText(realName, "Real name");
+            String phone = (phoneNumber == null) ? "" : phoneNumber.trim();
+
+            ensureRows(size + 1);
+            ids[size] = id;
+            experienceYears[size] = Math.max(experience, 0);
+
+            byte[] nb = nick.getBytes(StandardCharsets.UTF_8);
+            if (nicknameByteCount + nb.length > nicknameBytes.length) {
+                nicknameBytes = StringDictionary.grow(nicknameBytes, nicknameByteCount + nb.length);
+            }
+            System.arraycopy(nb, 0, nicknameBytes, nicknameByteCount, nb.length);
+            nicknameByteCount += nb.length;
+            nicknameOffsets[size + 1] = nicknameByteCount;
+
+            byte[] pb = phone.getBytes(StandardCharsets.UTF_8);
+            if (phoneByteCount + pb.length > phoneBytes.length) {
+                phoneBytes = StringDictionary.grow(phoneBytes, phoneByteCount + pb.length);
+            }
+            System.arraycopy(pb, 0, phoneBytes, phoneByteCount, pb.length);
+            phoneByteCount += pb.length;
+            phoneOffsets[size + 1] = phoneByteCount;
+
+            int space = name.indexOf(' ');
+            if (space < 0) {
+                firstNameCodes[size] = firstNames.encode(name);
+                lastNameCodes[size] = NO_LAST_NAME;
+            } else {
+                firstNameCodes[size] = firstNames.encode(name.substring(0, space));
+                lastNameCodes[size] = lastNames.encode(name.substring(space + 1));
+            }
+
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public GamerTable build() {
+            if (built) {
+                throw new IllegalStateException("Builder already built");
+            }
+            built = true;
+            return new GamerTable(this);
+        }
+
+        private void ensureRows(int rows) {
+            if (rows <= ids.length) return;
+            if (rows > MAX_ARRAY - 1) {
+                throw new IllegalStateException("Too many gamer rows for one table");
+            }
+            int cap = (int) Math.min(MAX_ARRAY - 1, Math.max(ids.length * 2L, rows));
+            ids = copyOf(ids, cap);
+            experienceYears = copyOf(experienceYears, cap);
+            firstNameCodes = copyOf(firstNameCodes, cap);
+            lastNameCodes = copyOf(lastNameCodes, cap);
+            nicknameOffsets = copyOf(nicknameOffsets, cap + 1);
+            phoneOffsets = copyOf(phoneOffsets, cap + 1);
+        }
+
+        private static int[] copyOf(int[] a, int length) {
+            int[] c = new int[length];
+            System.arraycopy(a, 0, c, 0, Math.min(a.length, length));
+            return c;
+        }
+
+        private static String requireText(String s, String field) {
+            if (s == null) {
+                throw new IllegalArgumentException(field + " cannot be null");
+            }
+            String t = s.trim();
+            if (t.isEmpty()) {
+                throw new IllegalArgumentException(field + " cannot be empty");
+            }
+            return t;
+        }
+    }
+}
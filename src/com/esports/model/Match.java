@@ -71,25 +71,33 @@ public class Match {
         for (int i = 0; i < GAME_COUNT; i++) {
             raw += rounds[i] * games[i].getBasePointPerRound();
         }
+
+        computePoints(raw, gamer.getCappedExperienceForScoring()); // 0..10
+    }
+
+    /**
+     * Fills the calculated fields from an already known raw score.
+     * Shared with PackedMatch so both representations score identically.
+     */
+    void computePoints(int raw, int cappedExp) {
         this.rawPoints = raw;
 
-        // 2) Skill Points = floor(raw * (1 + min(exp,10) * 0.02))
-        int cappedExp = gamer.getCappedExperienceForScoring(); // 0..10
-        double multiplier = 1.0 + cappedExp * 0.02;
-        this.skillPoints = (int) Math.floor(raw * multiplier);
+        // 2) Skill Points = floor(raw * (1 + min(exp,cap) * step)), defaults cap 10 / step 0.02
+        this.skillPoints = computeSkill(raw, cappedExp);
 
-        // 3) Bonus Points by raw score table
+        // 3) Bonus Points by raw score table (ScoringRules)
         this.bonusPoints = computeBonus(raw);
 
         // 4) Match Points = skillPoints + bonusPoints
         this.matchPoints = this.skillPoints + this.bonusPoints;
     }
 
-    private int computeBonus(int raw) {
-        if (raw >= 600) return 100;
-        if (raw >= 400) return 50;
-        if (raw >= 200) return 25;
-        return 10;
+    static int computeSkill(int raw, int cappedExp) {
+        return ScoringRules.active().skillPoints(raw, cappedExp);
+    }
+
+    static int computeBonus(int raw) {
+        return ScoringRules.active().bonusPoints(raw);
     }
 
     // -------- Getters --------
@@ -111,6 +119,20 @@ public class Match {
         return copy;
     }
 
+    /**
+     * Returns the id of the game in the given slot (0..2) without copying the games array.
+     */
+    public int getGameId(int slot) {
+        return games[slot].getId();
+    }
+
+    /**
+     * Returns the rounds played in the given slot (0..2) without copying the rounds array.
+     */
+    public int getRounds(int slot) {
+        return rounds[slot];
+    }
+
     /**
      * Returns a defensive copy of the rounds array.
      */
@@ -8,6 +8,7 @@ package com.esports.model;
  *  - BRONZE
  *  - NONE
  * Each medal type corresponds to a specific total point range.
+ * Default ranges (configurable through ScoringRules):
  *   GOLD   → 4400 and above
  *   SILVER → 3800–4399
  *   BRONZE → 3500–3799
@@ -18,10 +19,7 @@ public enum Medal {
     GOLD, SILVER, BRONZE, NONE;
 
     public static Medal fromTotalPoints(int totalPoints) {
-        if (totalPoints >= 4400) return GOLD;
-        if (totalPoints >= 3800) return SILVER;
-        if (totalPoints >= 3500)  return BRONZE;
-        return NONE;
+        return ScoringRules.active().medalFor(totalPoints);
     }
 
     public String displayName() {
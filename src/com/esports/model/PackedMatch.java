@@ -0,0 +1,166 @@
+package com.esports.model;
+
+/**
+ * Compact encoding of a Match in a single long.
+ * A match is fully determined by its three game indices, three round counts
+ * and the gamer's capped experience; raw/skill/bonus/match points are derived.
+ * Bit layout (low to high):
+ *   bits  0..15  game index for slot 0
+ *   bits 16..31  game index for slot 1
+ *   bits 32..47  game index for slot 2
+ *   bits 48..51  rounds for slot 0 (1..10)
+ *   bits 52..55  rounds for slot 1 (1..10)
+ *   bits 56..59  rounds for slot 2 (1..10)
+ *   bits 60..63  capped experience (0..10 by default, at most ScoringRules.MAX_EXPERIENCE_CAP)
+ * Game indices refer to a Game[] table supplied when decoding (not Game ids).
+ */
+public final class PackedMatch {
+
+    public static final int MAX_GAME_INDEX = 0xFFFF;
+
+    private static final int GAME_COUNT = 3;
+    private static final int GAME_BITS = 16;
+    private static final int ROUNDS_SHIFT = 48;
+    private static final int ROUNDS_BITS = 4;
+    private static final int EXP_SHIFT = 60;
+    private static final long GAME_MASK = 0xFFFFL;
+    private static final long NIBBLE_MASK = 0xFL;
+
+    private PackedMatch() {
+    }
+
+    /**
+     * Packs one match. Validates the same invariants as Match.setGamesAndRounds:
+     * rounds in [1..10] and three distinct games.
+     */
+    public static long encode(int[] gameIndices, int[] rounds, int cappedExp) {
+        if (gameIndices == null || rounds == null) {
+            throw new IllegalArgumentException("gameIndices/rounds cannot be null");
+        }
+        if (gameIndices.length != GAME_COUNT || rounds.length != GAME_COUNT) {
+            throw new IllegalArgumentException("A match must have exactly 3 games and 3 round values.");
+        }
+        return encode(gameIndices[0], gameIndices[1], gameIndices[2], rounds[0], rounds[1], rounds[2], cappedExp);
+    }
+
+    /** Same as encode(int[], int[], int), from primitives (allocation-free). */
+    public static long encode(int g0, int g1, int g2, int r0, int r1, int r2, int cappedExp) {
+        if (cappedExp < 0 || cappedExp > ScoringRules.MAX_EXPERIENCE_CAP) {
+            throw new IllegalArgumentException("Capped experience must be in [0.."
+                    + ScoringRules.MAX_EXPERIENCE_CAP + "], got " + cappedExp);
+        }
+        if (g0 == g1 || g0 == g2 || g1 == g2) {
+            throw new IllegalArgumentException("Match must contain three different games.");
+        }
+        return slot(g0, r0, 0) | slot(g1, r1, 1) | slot(g2, r2, 2) | ((long) cappedExp) << EXP_SHIFT;
+    }
+
+    private static long slot(int g, int r, int i) {
+        if (g < 0 || g > MAX_GAME_INDEX) {
+            throw new IllegalArgumentException("Game index out of range: " + g + " at index " + i);
+        }
+        if (r < 1 || r > 10) {
+            throw new IllegalArgumentException("Round count must be in [1..10], got " + r + " at index " + i);
+        }
+        return ((long) g) << (i * GAME_BITS) | ((long) r) << (ROUNDS_SHIFT + i * ROUNDS_BITS);
+    }
+
+    // -------- Decoding --------
+
+    public static int gameIndex(long packed, int slot) {
+        return (int) ((packed >>> (slot * GAME_BITS)) & GAME_MASK);
+    }
+
+    public static int rounds(long packed, int slot) {
+        return (int) ((packed >>> (ROUNDS_SHIFT + slot * ROUNDS_BITS)) & NIBBLE_MASK);
+    }
+
+    public static int cappedExperience(long packed) {
+        return (int) ((packed >>> EXP_SHIFT) & NIBBLE_MASK);
+    }
+
+    // -------- Derived scores (same rules as Match.computePointsFor) --------
+
+    public static int rawPoints(long packed, Game[] games) {
+        int raw = 0;
+        for (int i = 0; i < GAME_COUNT; i++) {
+            raw += rounds(packed, i) * games[gameIndex(packed, i)].getBasePointPerRound();
+        }
+        return raw;
+    }
+
+    /**
+     * Same as rawPoints(long, Game[]) but reads base points from a plain int table
+     * indexed by game index, so hot loops avoid touching Game objects.
+     */
+    public static int rawPoints(long packed, int[] basePoints) {
+        return rounds(packed, 0) * basePoints[gameIndex(packed, 0)]
+                + rounds(packed, 1) * basePoints[gameIndex(packed, 1)]
+                + rounds(packed, 2) * basePoints[gameIndex(packed, 2)];
+    }
+
+    public static int skillPoints(long packed, int[] basePoints) {
+        return Match.computeSkill(rawPoints(packed, basePoints), cappedExperience(packed));
+    }
+
+    public static int bonusPoints(long packed, int[] basePoints) {
+        return Match.computeBonus(rawPoints(packed, basePoints));
+    }
+
+    public static int matchPoints(long packed, int[] basePoints) {
+        int raw = rawPoints(packed, basePoints);
+        return Match.computeSkill(raw, cappedExperience(packed)) + Match.computeBonus(raw);
+    }
+
+    /** rounds × basePointPerRound of one slot. */
+    public static int contribution(long packed, int slot, int[] basePoints) {
+        return rounds(packed, slot) * basePoints[gameIndex(packed, slot)];
+    }
+
+    /**
+     * Slot (0..2) of the most contributing game; ties go to the first slot,
+     * as in Query #2.
+     */
+    public static int topContributorSlot(long packed, int[] basePoints) {
+        int best = 0;
+        int bestContribution = contribution(packed, 0, basePoints);
+        for (int slot = 1; slot < GAME_COUNT; slot++) {
+            int c = contribution(packed, slot, basePoints);
+            if (c > bestContribution) {
+                bestContribution = c;
+                best = slot;
+            }
+        }
+        return best;
+    }
+
+    /** Builds the base point lookup table used by the int[] overloads. */
+    public static int[] basePointTable(Game[] games) {
+        if (games == null) {
+            throw new IllegalArgumentException("games cannot be null");
+        }
+        int[] table = new int[games.length];
+        for (int i = 0; i < games.length; i++) {
+            table[i] = games[i].getBasePointPerRound();
+        }
+        return table;
+    }
+
+    /**
+     * Expands a packed match back into a fully scored Match (for display / Query).
+     */
+    public static Match toMatch(long packed, int id, Game[] games) {
+        if (games == null) {
+            throw new IllegalArgumentException("games cannot be null");
+        }
+        Game[] selected = new Game[GAME_COUNT];
+        int[] selectedRounds = new int[GAME_COUNT];
+        for (int i = 0; i < GAME_COUNT; i++) {
+            selected[i] = games[gameIndex(packed, i)];
+            selectedRounds[i] = rounds(packed, i);
+        }
+        Match match = new Match(id, selected, selectedRounds);
+        match.computePoints(rawPoints(packed, games), cappedExperience(packed));
+        return match;
+    }
+}
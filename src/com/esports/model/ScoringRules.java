@@ -0,0 +1,264 @@
+package com.esports.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Scoring rules of a league, compiled into lookup tables when created.
+ * Rules (defaults = the assignment's constants):
+ * - experience cap (10) and skill step per capped year (0.02):
+ *   skill = floor(raw * (1 + cappedExp * step)), multiplier precomputed per cappedExp
+ * - bonus tiers by raw score (600 → 100, 400 → 50, 200 → 25, else 10):
+ *   dense table indexed by raw score, clamped to its last entry
+ * - medal thresholds by season total (GOLD 4400, SILVER 3800, BRONZE 3500):
+ *   dense table indexed by total, clamped the same way
+ * Tables larger than DENSE_LIMIT entries fall back to a branch-free threshold count.
+ * Config file (java.util.Properties, missing keys keep their defaults):
+ *   experience.cap=10
+ *   experience.stepPerYear=0.02
+ *   bonus.tiers=600:100,400:50,200:25
+ *   bonus.default=10
+ *   medal.gold=4400
+ *   medal.silver=3800
+ *   medal.bronze=3500
+ * Match, PackedMatch, Gamer and Medal score with the active rules (setActive / active).
+ */
+public final class ScoringRules {
+
+    /** Highest experience cap that fits in a packed match (4 bits). */
+    public static final int MAX_EXPERIENCE_CAP = 15;
+    private static final int DENSE_LIMIT = 1 << 16;
+    private static final Medal[] MEDALS = Medal.values();
+
+    public static final ScoringRules DEFAULT = new ScoringRules(10, 0.02,
+            new int[]{200, 400, 600}, new int[]{25, 50, 100}, 10, 4400, 3800, 3500);
+
+    private static volatile ScoringRules active = DEFAULT;
+
+    private final int experienceCap;
+    private final double stepPerYear;
+    private final double[] skillMultiplier;   // By capped experience
+    private final StepTable bonus;            // Raw score → bonus
+    private final StepTable medal;            // Total → Medal ordinal
+    private final int[] bonusThresholds;      // Ascending, for describe()
+    private final int[] bonusValues;
+    private final int defaultBonus;
+    private final int gold;
+    private final int silver;
+    private final int bronze;
+
+    /**
+     * @param bonusThresholds ascending raw-score thresholds
+     * @param bonusValues     bonus for raw >= bonusThresholds[i] (same length)
+     */
+    public ScoringRules(int experienceCap, double stepPerYear, int[] bonusThresholds, int[] bonusValues,
+                        int defaultBonus, int gold, int silver, int bronze) {
+        if (experienceCap < 0 || experienceCap > MAX_EXPERIENCE_CAP) {
+            throw new IllegalArgumentException("experience.cap must be in [0.." + MAX_EXPERIENCE_CAP + "]");
+        }
+        if (!(stepPerYear >= 0) || Double.isInfinite(stepPerYear)) {
+            throw new IllegalArgumentException("experience.stepPerYear must be a finite value >= 0");
+        }
+        if (bonusThresholds == null || bonusValues == null || bonusThresholds.length != bonusValues.length) {
+            throw new IllegalArgumentException("bonus tiers must have one value per threshold");
+        }
+        for (int i = 0; i < bonusThresholds.length; i++) {
+            if (bonusThresholds[i] < 0 || (i > 0 && bonusThresholds[i] <= bonusThresholds[i - 1])) {
+                throw new IllegalArgumentException("bonus thresholds must be >= 0 and strictly increasing");
+            }
+        }
+        if (bronze < 0 || silver < bronze || gold < silver) {
+            throw new IllegalArgumentException("medal thresholds must satisfy 0 <= bronze <= silver <= gold");
+        }
+        this.experienceCap = experienceCap;
+        this.stepPerYear = stepPerYear;
+        this.bonusThresholds = bonusThresholds.clone();
+        this.bonusValues = bonusValues.clone();
+        this.defaultBonus = defaultBonus;
+        this.gold = gold;
+        this.silver = silver;
+        this.bronze = bronze;
+
+        this.skillMultiplier = new double[MAX_EXPERIENCE_CAP + 1];
+        for (int e = 0; e <= MAX_EXPERIENCE_CAP; e++) {
+            // Same expression as the original formula, so results are bit-identical.
+            skillMultiplier[e] = 1.0 + Math.min(e, experienceCap) * stepPerYear;
+        }
+        this.bonus = new StepTable(this.bonusThresholds, this.bonusValues, defaultBonus);
+        this.medal = new StepTable(new int[]{bronze, silver, gold},
+                new int[]{Medal.BRONZE.ordinal(), Medal.SILVER.ordinal(), Medal.GOLD.ordinal()},
+                Medal.NONE.ordinal());
+    }
+
+    // -------- Active rules --------
+
+    public static ScoringRules active() {
+        return active;
+    }
+
+    /**
+     * Switches the rules used by Match/PackedMatch/Gamer/Medal. Set it before
+     * simulating; already computed points are not rescored.
+     */
+    public static void setActive(ScoringRules rules) {
+        if (rules == null) {
+            throw new IllegalArgumentException("rules cannot be null");
+        }
+        active = rules;
+    }
+
+    // -------- Loading --------
+
+    public static ScoringRules load(Path path) throws IOException {
+        Properties p = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            p.load(in);
+        }
+        return fromProperties(p);
+    }
+
+    /** Builds rules from properties (see class comment); missing keys keep the defaults. */
+    public static ScoringRules fromProperties(Properties p) {
+        return fromProperties(p, DEFAULT);
+    }
+
+    /** Same as fromProperties(p), but missing keys keep the values of base (e.g. the active rules). */
+    public static ScoringRules fromProperties(Properties p, ScoringRules base) {
+        if (p == null || base == null) {
+            throw new IllegalArgumentException("properties/base rules cannot be null");
+        }
+        ScoringRules d = base;
+        int cap = intProperty(p, "experience.cap", d.experienceCap);
+        double step;
+        try {
+            step = Double.parseDouble(p.getProperty("experience.stepPerYear", Double.toString(d.stepPerYear)).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("experience.stepPerYear is not a number");
+        }
+        int[] thresholds = d.bonusThresholds;
+        int[] values = d.bonusValues;
+        String tiers = p.getProperty("bonus.tiers");
+        if (tiers != null && !tiers.trim().isEmpty()) {
+            String[] parts = tiers.split(",");
+            long[] keyed = new long[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                String[] tv = parts[i].split(":");
+                if (tv.length != 2) {
+                    throw new IllegalArgumentException("bonus.tiers entry must be threshold:bonus, got '" + parts[i] + "'");
+                }
+                int t = parseInt(tv[0], "bonus.tiers");
+                int v = parseInt(tv[1], "bonus.tiers");
+                keyed[i] = ((long) t << 32) | (v & 0xFFFFFFFFL);
+            }
+            Arrays.sort(keyed); // Any order in the file; ascending by threshold here
+            thresholds = new int[keyed.length];
+            values = new int[keyed.length];
+            for (int i = 0; i < keyed.length; i++) {
+                thresholds[i] = (int) (keyed[i] >> 32);
+                values[i] = (int) keyed[i];
+            }
+        }
+        return new ScoringRules(cap, step, thresholds, values,
+                intProperty(p, "bonus.default", d.defaultBonus),
+                intProperty(p, "medal.gold", d.gold),
+                intProperty(p, "medal.silver", d.silver),
+                intProperty(p, "medal.bronze", d.bronze));
+    }
+
+    private static int intProperty(Properties p, String key, int fallback) {
+        String v = p.getProperty(key);
+        return (v == null || v.trim().isEmpty()) ? fallback : parseInt(v, key);
+    }
+
+    private static int parseInt(String s, String key) {
+        try {
+            return Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " is not an integer: '" + s.trim() + "'");
+        }
+    }
+
+    // -------- Scoring --------
+
+    public int capExperience(int experienceYears) {
+        return Math.min(Math.max(experienceYears, 0), experienceCap);
+    }
+
+    /** floor(raw * (1 + cappedExp * step)); cappedExp must be in [0..MAX_EXPERIENCE_CAP]. */
+    public int skillPoints(int raw, int cappedExp) {
+        return (int) Math.floor(raw * skillMultiplier[cappedExp]);
+    }
+
+    public int bonusPoints(int raw) {
+        return bonus.lookup(raw);
+    }
+
+    public Medal medalFor(int totalPoints) {
+        return MEDALS[medal.lookup(totalPoints)];
+    }
+
+    public int getExperienceCap() {
+        return experienceCap;
+    }
+
+    public double getStepPerYear() {
+        return stepPerYear;
+    }
+
+    /** Short one-line description, e.g. for startup logs. */
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("cap=").append(experienceCap).append(", step=").append(stepPerYear).append(", bonus=");
+        for (int i = bonusThresholds.length - 1; i >= 0; i--) {
+            sb.append(bonusThresholds[i]).append(':').append(bonusValues[i]).append(',');
+        }
+        sb.append("else ").append(defaultBonus);
+        sb.append(", medals=").append(gold).append('/').append(silver).append('/').append(bronze);
+        return sb.toString();
+    }
+
+    /**
+     * Step function value(x) = values[i] for the largest i with thresholds[i] <= x, else below.
+     * Dense table over [0..last threshold] when small enough; otherwise a branch-free count
+     * of passed thresholds indexes a value table.
+     */
+    private static final class StepTable {
+        private final int[] dense;        // Null when not dense
+        private final int[] thresholds;
+        private final int[] byCount;      // byCount[k] = value after passing k thresholds
+
+        StepTable(int[] thresholds, int[] values, int below) {
+            this.thresholds = thresholds.clone();
+            this.byCount = new int[thresholds.length + 1];
+            byCount[0] = below;
+            System.arraycopy(values, 0, byCount, 1, values.length);
+
+            int top = (thresholds.length == 0) ? 0 : thresholds[thresholds.length - 1];
+            if (top < DENSE_LIMIT) {
+                dense = new int[top + 1];
+                for (int x = 0; x <= top; x++) dense[x] = count(x);
+            } else {
+                dense = null;
+            }
+        }
+
+        int lookup(int x) {
+            if (dense != null && x >= 0) {
+                return dense[Math.min(x, dense.length - 1)]; // Above the last threshold → last step
+            }
+            return count(x);
+        }
+
+        private int count(int x) {
+            int passed = 0;
+            for (int t : thresholds) {
+                passed += (int) (((long) t - x - 1) >>> 63); // 1 when t <= x
+            }
+            return byCount[passed];
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.esports.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for repeated text values (e.g. first / last names).
+ * Each distinct value is stored once as UTF-8 bytes in a shared byte[],
+ * and callers keep only its int code.
+ * Notes:
+ * The lookup map is only needed while adding values; call freeze() when done
+ * building so only the byte heap and offsets stay on the heap.
+ */
+public final class StringDictionary {
+
+    private byte[] bytes = new byte[1024];
+    private int[] offsets = new int[65];   // offsets[code]..offsets[code + 1]
+    private int size;
+    private int byteCount;
+    private Map<String, Integer> codes = new HashMap<>();
+
+    /** Returns the code for value, adding it if it is not in the dictionary yet. */
+    public int encode(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Dictionary value cannot be null");
+        }
+        if (codes == null) {
+            throw new IllegalStateException("Dictionary is frozen");
+        }
+        Integer existing = codes.get(value);
+        if (existing != null) return existing;
+
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        if (byteCount + utf8.length > bytes.length) {
+            bytes = grow(bytes, byteCount + utf8.length);
+        }
+        System.arraycopy(utf8, 0, bytes, byteCount, utf8.length);
+        byteCount += utf8.length;
+
+        if (size + 2 > offsets.length) {
+            int[] grown = new int[offsets.length * 2];
+            System.arraycopy(offsets, 0, grown, 0, size + 1);
+            offsets = grown;
+        }
+        int code = size++;
+        offsets[size] = byteCount;
+        codes.put(value, code);
+        return code;
+    }
+
+    public String decode(int code) {
+        if (code < 0 || code >= size) {
+            throw new IllegalArgumentException("Unknown dictionary code: " + code);
+        }
+        return new String(bytes, offsets[code], offsets[code + 1] - offsets[code], StandardCharsets.UTF_8);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Drops the build-time lookup map and trims the arrays to their used length. */
+    public void freeze() {
+        if (codes == null) return;
+        codes = null;
+        byte[] trimmedBytes = new byte[byteCount];
+        System.arraycopy(bytes, 0, trimmedBytes, 0, byteCount);
+        bytes = trimmedBytes;
+        int[] trimmedOffsets = new int[size + 1];
+        System.arraycopy(offsets, 0, trimmedOffsets, 0, size + 1);
+        offsets = trimmedOffsets;
+    }
+
+    /** Approximate heap bytes used by the payload arrays. */
+    public long estimatedSizeBytes() {
+        return bytes.length + 4L * offsets.length;
+    }
+
+    static byte[] grow(byte[] array, int minLength) {
+        long newLength = Math.max((long) array.length * 2, minLength);
+        if (newLength > Integer.MAX_VALUE - 8) {
+            if (minLength > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Byte column exceeds 2 GB");
+            }
+            newLength = Integer.MAX_VALUE - 8;
+        }
+        byte[] grown = new byte[(int) newLength];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+}